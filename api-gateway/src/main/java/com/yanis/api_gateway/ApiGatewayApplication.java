@@ -4,6 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
+import com.yanis.api_gateway.diagnostics.LeakCountingDetectorFactory;
+
 /**
  * API Gateway Application.
  *
@@ -17,6 +19,8 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 public class ApiGatewayApplication {
 
 	public static void main(String[] args) {
+		// Before any Netty buffer class is loaded, so leaks are counted
+		LeakCountingDetectorFactory.install();
 		SpringApplication.run(ApiGatewayApplication.class, args);
 	}
 
@@ -0,0 +1,69 @@
+package com.yanis.api_gateway.compression;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Response compression settings of one route.
+ *
+ * <p>
+ * Bound from {@code gateway.compression.defaults} and
+ * {@code gateway.compression.routes.<route-id>}; a {@code null} field falls
+ * back to the defaults.
+ * </p>
+ *
+ * @param enabled         Whether responses of the route are compressed.
+ * @param minResponseSize Responses smaller than this are sent as is.
+ * @param gzipLevel       Deflate level, {@code 1} (fastest) to {@code 9}.
+ * @param brotliQuality   Brotli quality, {@code 0} (fastest) to {@code 11}.
+ * @param mimeTypes       Compressible content types, wildcards allowed
+ *                        ({@code text/*}, {@code application/*+json}).
+ */
+public record CompressionProperties(
+        Boolean enabled,
+        DataSize minResponseSize,
+        Integer gzipLevel,
+        Integer brotliQuality,
+        List<String> mimeTypes) {
+
+    /**
+     * Built-in defaults, used for fields missing from
+     * {@code gateway.compression.defaults}.
+     */
+    public static final CompressionProperties BUILT_IN = new CompressionProperties(true, DataSize.ofKilobytes(1),
+            5, 4, List.of("application/json", "application/*+json", "application/xml", "application/javascript",
+                    "text/*"));
+
+    /**
+     * Returns these settings with missing fields taken from {@code fallback}.
+     *
+     * @param fallback Settings to inherit from.
+     * @return Fully populated settings.
+     */
+    public CompressionProperties withDefaults(CompressionProperties fallback) {
+        return new CompressionProperties(
+                enabled != null ? enabled : fallback.enabled,
+                minResponseSize != null ? minResponseSize : fallback.minResponseSize,
+                gzipLevel != null ? gzipLevel : fallback.gzipLevel,
+                brotliQuality != null ? brotliQuality : fallback.brotliQuality,
+                mimeTypes != null ? mimeTypes : fallback.mimeTypes);
+    }
+
+    /**
+     * Resolves the settings of a route.
+     *
+     * @param routeId  Route id, case-insensitive.
+     * @param defaults Configured defaults.
+     * @param routes   Per-route settings keyed by lower-case route id.
+     * @return Fully populated settings.
+     */
+    public static CompressionProperties resolve(String routeId, CompressionProperties defaults,
+            Map<String, CompressionProperties> routes) {
+        CompressionProperties base = defaults.withDefaults(BUILT_IN);
+        CompressionProperties specific = routeId != null ? routes.get(routeId.toLowerCase(Locale.ROOT)) : null;
+        return specific != null ? specific.withDefaults(base) : base;
+    }
+}
@@ -0,0 +1,144 @@
+package com.yanis.api_gateway.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+/**
+ * Incremental gzip or brotli encoder of one response body.
+ *
+ * <p>
+ * Each {@link #write(byte[])} is followed by a sync flush, so the bytes
+ * returned by {@link #flush()} can be sent immediately and decoded by the
+ * client without waiting for the end of the body. Not thread-safe: a response
+ * body is written by one signal at a time.
+ * </p>
+ */
+public final class StreamingCompressor implements AutoCloseable {
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private static final boolean BROTLI_AVAILABLE = loadBrotli();
+
+    private final String encoding;
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(8192);
+    private final OutputStream stream;
+    private boolean closed;
+
+    private StreamingCompressor(String encoding, CompressionProperties settings) throws IOException {
+        this.encoding = encoding;
+        if (BROTLI.equals(encoding)) {
+            this.stream = new BrotliOutputStream(sink, new Encoder.Parameters().setQuality(settings.brotliQuality()));
+        } else {
+            int level = settings.gzipLevel();
+            this.stream = new GZIPOutputStream(sink, 8192, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates an encoder.
+     *
+     * @param encoding {@value #GZIP} or {@value #BROTLI}.
+     * @param settings Settings of the route, for the level.
+     * @return The encoder.
+     */
+    public static StreamingCompressor create(String encoding, CompressionProperties settings) {
+        try {
+            return new StreamingCompressor(encoding, settings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether the native brotli encoder could be loaded on this platform;
+     * otherwise only gzip is negotiated.
+     */
+    public static boolean brotliAvailable() {
+        return BROTLI_AVAILABLE;
+    }
+
+    public String encoding() {
+        return encoding;
+    }
+
+    /**
+     * Compresses a chunk of the body.
+     *
+     * @param chunk Uncompressed bytes.
+     */
+    public void write(byte[] chunk) {
+        try {
+            stream.write(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sync-flushes the encoder.
+     *
+     * @return Compressed bytes produced since the last call, possibly empty.
+     */
+    public byte[] flush() {
+        try {
+            stream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return drain();
+    }
+
+    /**
+     * Ends the compressed stream.
+     *
+     * @return The remaining compressed bytes, including the trailer.
+     */
+    public byte[] finish() {
+        close();
+        return drain();
+    }
+
+    /**
+     * Releases the encoder (native memory for brotli) without completing the
+     * stream. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            stream.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] drain() {
+        byte[] bytes = sink.toByteArray();
+        sink.reset();
+        return bytes;
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
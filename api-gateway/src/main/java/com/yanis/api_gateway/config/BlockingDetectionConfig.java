@@ -0,0 +1,52 @@
+package com.yanis.api_gateway.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.yanis.api_gateway.diagnostics.BlockingCallDetector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Opt-in detection of blocking calls on event-loop threads.
+ *
+ * <p>
+ * Enabled with {@code gateway.blocking-detection.enabled=true} (the
+ * {@code canary} profile, or a test property). The detector is installed
+ * while the context starts, before the Netty server accepts connections.
+ * Known call sites can be allowed with
+ * {@code gateway.blocking-detection.allowed} entries of the form
+ * {@code fully.qualified.Class#method}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.blocking-detection.enabled", havingValue = "true")
+public class BlockingDetectionConfig {
+
+    /**
+     * Installs the blocking call detector.
+     *
+     * @param meterRegistry  Registry for {@code gateway.blocking.calls}.
+     * @param environment    Environment holding the allow-list.
+     * @param failOnBlocking Whether detected calls throw instead of being only
+     *                       reported.
+     * @return The installed detector.
+     */
+    @Bean
+    public BlockingCallDetector blockingCallDetector(MeterRegistry meterRegistry, Environment environment,
+            @Value("${gateway.blocking-detection.fail-on-blocking:false}") boolean failOnBlocking) {
+        List<String> allowed = Binder.get(environment)
+                .bind("gateway.blocking-detection.allowed", Bindable.listOf(String.class))
+                .orElse(List.of());
+        BlockingCallDetector detector = new BlockingCallDetector(meterRegistry, failOnBlocking, allowed);
+        detector.install();
+        return detector;
+    }
+}
@@ -0,0 +1,62 @@
+package com.yanis.api_gateway.config;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.yanis.api_gateway.compression.CompressionProperties;
+import com.yanis.api_gateway.compression.StreamingCompressor;
+import com.yanis.api_gateway.filter.ResponseCompressionFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Response compression.
+ *
+ * <p>
+ * Level, threshold and content types are declared under
+ * {@code gateway.compression.defaults} and overridden per route under
+ * {@code gateway.compression.routes.<route-id>} (lower case); a route is
+ * excluded with {@code enabled: false}. Brotli is offered only when its
+ * native encoder loads on this platform.
+ * </p>
+ */
+@Configuration
+public class CompressionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressionConfig.class);
+
+    /**
+     * Provides the compression filter.
+     *
+     * @param environment   Environment holding {@code gateway.compression}.
+     * @param meterRegistry Registry for the compression metrics.
+     * @return The filter.
+     */
+    @Bean
+    public ResponseCompressionFilter responseCompressionFilter(Environment environment,
+            MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        CompressionProperties defaults = binder
+                .bind("gateway.compression.defaults", CompressionProperties.class)
+                .orElse(new CompressionProperties(null, null, null, null, null));
+        Map<String, CompressionProperties> routes = binder
+                .bind("gateway.compression.routes", Bindable.mapOf(String.class, CompressionProperties.class))
+                .orElse(Map.of())
+                .entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+        boolean brotli = StreamingCompressor.brotliAvailable();
+        if (!brotli) {
+            logger.warn("Brotli encoder unavailable on this platform, compressing responses with gzip only");
+        }
+        return new ResponseCompressionFilter(defaults, routes, brotli, meterRegistry);
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.yanis.api_gateway.filter.AuthenticationFilter;
+import com.yanis.api_gateway.filter.IdempotencyFilter;
 import com.yanis.api_gateway.filter.LoggingFilter;
 import com.yanis.api_gateway.filter.RateLimitFilter;
 
@@ -15,7 +17,7 @@ import com.yanis.api_gateway.filter.RateLimitFilter;
  * Configures:
  * <ul>
  * <li>Routes to backend microservices</li>
- * <li>Custom filters (Authentication, Logging, RateLimit)</li>
+ * <li>Custom filters (Authentication, Logging, RateLimit, Idempotency)</li>
  * <li>Circuit breaker and retry logic</li>
  * </ul>
  */
@@ -25,10 +27,15 @@ public class GatewayConfig {
 
         private final LoggingFilter loggingFilter;
         private final RateLimitFilter rateLimitFilter;
+        private final AuthenticationFilter authenticationFilter;
+        private final IdempotencyFilter idempotencyFilter;
 
-        public GatewayConfig(LoggingFilter loggingFilter, RateLimitFilter rateLimitFilter) {
+        public GatewayConfig(LoggingFilter loggingFilter, RateLimitFilter rateLimitFilter,
+                        AuthenticationFilter authenticationFilter, IdempotencyFilter idempotencyFilter) {
                 this.loggingFilter = loggingFilter;
                 this.rateLimitFilter = rateLimitFilter;
+                this.authenticationFilter = authenticationFilter;
+                this.idempotencyFilter = idempotencyFilter;
         }
 
         /**
@@ -39,6 +46,8 @@ public class GatewayConfig {
          * <ol>
          * <li>LoggingFilter - Request/response logging</li>
          * <li>RateLimitFilter - Rate limiting per user</li>
+         * <li>IdempotencyFilter - At most one execution per Idempotency-Key,
+         * wrapping the circuit breaker and retries; not on the token endpoints</li>
          * </ol>
          *
          * @param builder RouteLocatorBuilder for building routes.
@@ -47,6 +56,17 @@ public class GatewayConfig {
         @Bean
         public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
                 return builder.routes()
+                                // Auth Service admin routes (bulk import): authenticated, and no
+                                // retry or time limiter since uploads are long and not idempotent
+                                .route("auth-service-admin", r -> r
+                                                .path("/api/admin/users/**")
+                                                .filters(f -> f
+                                                                .stripPrefix(1)
+                                                                .filter(loggingFilter.apply(new LoggingFilter.Config()))
+                                                                .filter(authenticationFilter
+                                                                                .apply(new AuthenticationFilter.Config())))
+                                                .uri("lb://AUTH-SERVICE"))
+
                                 // Auth Service Route
                                 .route("auth-service", r -> r
                                                 .path("/api/auth/**")
@@ -55,6 +75,9 @@ public class GatewayConfig {
                                                                 .filter(loggingFilter.apply(new LoggingFilter.Config()))
                                                                 .filter(rateLimitFilter
                                                                                 .apply(new RateLimitFilter.Config()))
+                                                                // No idempotency filter: login and refresh
+                                                                // responses carry tokens and must never be
+                                                                // stored and replayed
                                                                 .circuitBreaker(config -> config
                                                                                 .setName("authServiceCircuitBreaker")
                                                                                 .setFallbackUri("forward:/fallback/auth"))
@@ -72,7 +95,9 @@ public class GatewayConfig {
                                 // .stripPrefix(1)
                                 // .filter(loggingFilter.apply(new LoggingFilter.Config()))
                                 // .filter(rateLimitFilter.apply(new RateLimitFilter.Config()))
-                                // .filter(authenticationFilter.apply(new AuthenticationFilter.Config())))
+                                // .filter(authenticationFilter.apply(new AuthenticationFilter.Config()))
+                                // // Money-moving POSTs (e.g. /transfer) must carry an Idempotency-Key
+                                // .filter(idempotencyFilter.apply(new IdempotencyFilter.Config().setRequired(true))))
                                 // .uri("lb://ACCOUNT-SERVICE"))
 
                                 .build();
@@ -0,0 +1,76 @@
+package com.yanis.api_gateway.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import com.yanis.api_gateway.diagnostics.HeavyHitterEndpoint;
+import com.yanis.api_gateway.filter.HeavyHitterFilter;
+import com.yanis.api_gateway.traffic.HeavyHitterTracker;
+
+/**
+ * Heavy-hitter detection over the gateway traffic
+ * ({@code gateway.heavy-hitters.enabled}, on by default).
+ *
+ * <p>
+ * Every request is counted per user, client address, route and user agent
+ * in count-min sketches and space-saving top-K lists, shared between nodes
+ * through Redis and exposed on {@code /actuator/heavyhitters}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.heavy-hitters.enabled", havingValue = "true", matchIfMissing = true)
+public class HeavyHitterConfig {
+
+    /**
+     * Provides the tracker.
+     *
+     * @param width         Count-min counters per row.
+     * @param depth         Count-min rows.
+     * @param capacity      Keys monitored by each top-K.
+     * @param window        Counting window.
+     * @param syncInterval  Publication interval to the other nodes.
+     * @param redisTemplate Reactive template storing the node sketches.
+     * @return The tracker.
+     */
+    @Bean
+    public HeavyHitterTracker heavyHitterTracker(
+            @Value("${gateway.heavy-hitters.width:2048}") int width,
+            @Value("${gateway.heavy-hitters.depth:4}") int depth,
+            @Value("${gateway.heavy-hitters.capacity:100}") int capacity,
+            @Value("${gateway.heavy-hitters.window:1m}") Duration window,
+            @Value("${gateway.heavy-hitters.sync-interval:10s}") Duration syncInterval,
+            ReactiveRedisTemplate<String, byte[]> redisTemplate) {
+        return new HeavyHitterTracker(width, depth, capacity, window, syncInterval, redisTemplate,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Counts every routed request.
+     *
+     * @param tracker Heavy-hitter tracker.
+     * @return The filter.
+     */
+    @Bean
+    public HeavyHitterFilter heavyHitterFilter(HeavyHitterTracker tracker) {
+        return new HeavyHitterFilter(tracker);
+    }
+
+    /**
+     * Exposes {@code /actuator/heavyhitters}.
+     *
+     * @param tracker Heavy-hitter tracker.
+     * @param limit   Keys reported per dimension by default.
+     * @return The endpoint.
+     */
+    @Bean
+    public HeavyHitterEndpoint heavyHitterEndpoint(HeavyHitterTracker tracker,
+            @Value("${gateway.heavy-hitters.report-limit:20}") int limit) {
+        return new HeavyHitterEndpoint(tracker, limit);
+    }
+}
@@ -0,0 +1,71 @@
+package com.yanis.api_gateway.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.api_gateway.filter.IpAccessFilter;
+import com.yanis.api_gateway.security.IpAccessList;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Client address deny/allow lists ({@code gateway.ip-access.enabled}, on by
+ * default).
+ *
+ * <p>
+ * Static ranges are declared in {@code gateway.ip-access.deny} and
+ * {@code allow} (config-repo {@code api-gateway.yml}); ranges shared at
+ * runtime by all nodes are added to the Redis sets named by
+ * {@code gateway.ip-access.redis.deny-key} and {@code allow-key}, e.g.
+ * {@code SADD ip_access:deny 198.51.100.0/24}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.ip-access.enabled", havingValue = "true", matchIfMissing = true)
+public class IpAccessConfig {
+
+    /**
+     * Provides the lists.
+     *
+     * @param environment     Environment holding {@code gateway.ip-access}.
+     * @param redisEnabled    Whether to read the shared Redis sets.
+     * @param denyKey         Redis set of denied ranges.
+     * @param allowKey        Redis set of allowed ranges.
+     * @param refreshInterval Polling interval of the Redis sets.
+     * @param redisTemplate   Reactive string template.
+     * @param meterRegistry   Registry for the list metrics.
+     * @return The lists.
+     */
+    @Bean
+    public IpAccessList ipAccessList(Environment environment,
+            @Value("${gateway.ip-access.redis.enabled:true}") boolean redisEnabled,
+            @Value("${gateway.ip-access.redis.deny-key:ip_access:deny}") String denyKey,
+            @Value("${gateway.ip-access.redis.allow-key:ip_access:allow}") String allowKey,
+            @Value("${gateway.ip-access.redis.refresh-interval:5s}") Duration refreshInterval,
+            ObjectProvider<ReactiveStringRedisTemplate> redisTemplate, MeterRegistry meterRegistry) {
+        return new IpAccessList(environment, redisEnabled ? redisTemplate.getIfAvailable() : null, denyKey,
+                allowKey, refreshInterval, meterRegistry);
+    }
+
+    /**
+     * Rejects denied clients ahead of every other filter.
+     *
+     * @param accessList    Deny/allow lists.
+     * @param objectMapper  Mapper for the 403 problem detail.
+     * @param meterRegistry Registry for the rejection counter.
+     * @return The filter.
+     */
+    @Bean
+    public IpAccessFilter ipAccessFilter(IpAccessList accessList, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new IpAccessFilter(accessList, objectMapper, meterRegistry);
+    }
+}
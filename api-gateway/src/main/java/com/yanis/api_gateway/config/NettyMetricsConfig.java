@@ -0,0 +1,62 @@
+package com.yanis.api_gateway.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.yanis.api_gateway.diagnostics.NettyEndpoint;
+import com.yanis.api_gateway.diagnostics.NettyMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Netty allocator, event loop and connection pool instrumentation.
+ *
+ * <p>
+ * The gateway's server and its upstream client share the Reactor Netty
+ * {@link HttpResources} event loops and the default pooled allocator, so one
+ * {@link NettyMetrics} covers both. Pool metrics per upstream address are
+ * enabled with {@code spring.cloud.gateway.httpclient.pool.metrics} and
+ * grouped per service by the {@code netty} actuator endpoint.
+ * </p>
+ */
+@Configuration
+public class NettyMetricsConfig {
+
+    /**
+     * Registers allocator and event loop metrics.
+     *
+     * @param probeInterval Interval between event loop latency probes.
+     * @return The metrics binder.
+     */
+    @Bean
+    public NettyMetrics nettyMetrics(@Value("${gateway.netty.probe-interval:1s}") Duration probeInterval) {
+        PooledByteBufAllocator allocator = ByteBufAllocator.DEFAULT instanceof PooledByteBufAllocator pooled
+                ? pooled
+                : PooledByteBufAllocator.DEFAULT;
+        return new NettyMetrics(allocator, HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE),
+                probeInterval);
+    }
+
+    /**
+     * Exposes {@code /actuator/netty}.
+     *
+     * @param nettyMetrics    Allocator and event loop metrics.
+     * @param meterRegistry   Registry holding the Reactor Netty pool meters.
+     * @param discoveryClient Discovery client used to map addresses to services.
+     * @return The endpoint.
+     */
+    @Bean
+    public NettyEndpoint nettyEndpoint(NettyMetrics nettyMetrics, MeterRegistry meterRegistry,
+            ObjectProvider<DiscoveryClient> discoveryClient) {
+        return new NettyEndpoint(nettyMetrics, meterRegistry, discoveryClient.getIfAvailable());
+    }
+}
@@ -2,9 +2,13 @@ package com.yanis.api_gateway.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -15,6 +19,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * <ul>
  * <li>Rate limiting (sliding window counters)</li>
  * <li>Token blacklist (revoked JWT tokens)</li>
+ * <li>Idempotency keys and stored responses</li>
  * <li>Session management (if needed)</li>
  * </ul>
  */
@@ -47,4 +52,26 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Configures the reactive template of the idempotency store.
+     *
+     * <p>
+     * Keys are strings, values raw bytes (binary records, see
+     * {@code IdempotencyRecord}).
+     * </p>
+     *
+     * @param connectionFactory Reactive Redis connection factory.
+     * @return Configured ReactiveRedisTemplate.
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> idempotencyRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                .key(StringRedisSerializer.UTF_8)
+                .hashKey(StringRedisSerializer.UTF_8)
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
 }
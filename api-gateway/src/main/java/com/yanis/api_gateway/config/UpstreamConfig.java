@@ -0,0 +1,160 @@
+package com.yanis.api_gateway.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.yanis.api_gateway.filter.PerServiceRoutingFilter;
+import com.yanis.api_gateway.filter.QuarantineOnRefusedFilter;
+import com.yanis.api_gateway.upstream.InstanceQuarantine;
+import com.yanis.api_gateway.upstream.RegistrySnapshotStore;
+import com.yanis.api_gateway.upstream.UpstreamClientRegistry;
+import com.yanis.api_gateway.upstream.UpstreamConnectionPrewarmer;
+import com.yanis.api_gateway.upstream.UpstreamPoolProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Per-service upstream connection pools.
+ *
+ * <p>
+ * Pool limits, eviction, h2c and pre-warming are declared per {@code lb://}
+ * service under {@code gateway.upstream.services.<service-id>} (lower case),
+ * on top of {@code gateway.upstream.defaults}. All routes to a service share
+ * its pool.
+ * </p>
+ *
+ * <p>
+ * Instances refusing connections (typically shutting down but not yet out of
+ * the registry) are quarantined for {@code gateway.upstream.quarantine-duration}
+ * and skipped by the load balancer of every service. While the registry has
+ * no instance of a service, the load balancer uses the last-known registry
+ * persisted in {@code gateway.discovery.snapshot.path}.
+ * </p>
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = UpstreamLoadBalancerConfiguration.class)
+public class UpstreamConfig {
+
+    /**
+     * Provides the per-service clients.
+     *
+     * @param environment          Environment holding {@code gateway.upstream}.
+     * @param httpClientProperties Gateway HTTP client settings.
+     * @param customizers          HTTP client customizers.
+     * @return The client registry.
+     */
+    @Bean
+    public UpstreamClientRegistry upstreamClientRegistry(Environment environment,
+            HttpClientProperties httpClientProperties, ObjectProvider<HttpClientCustomizer> customizers) {
+        Binder binder = Binder.get(environment);
+        UpstreamPoolProperties defaults = binder
+                .bind("gateway.upstream.defaults", UpstreamPoolProperties.class)
+                .orElse(new UpstreamPoolProperties(null, null, null, null, null, null, null, null, null, null));
+        Map<String, UpstreamPoolProperties> services = binder
+                .bind("gateway.upstream.services", Bindable.mapOf(String.class, UpstreamPoolProperties.class))
+                .orElse(Map.of())
+                .entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+        return new UpstreamClientRegistry(defaults, services, httpClientProperties,
+                customizers.orderedStream().toList());
+    }
+
+    /**
+     * Routes {@code lb://} requests through the pool of their service.
+     *
+     * @param httpClient           Default gateway client, for other routes.
+     * @param headersFilters       Gateway header filters.
+     * @param httpClientProperties Gateway HTTP client settings.
+     * @param clientRegistry       Per-service clients.
+     * @return The routing filter.
+     */
+    @Bean
+    public PerServiceRoutingFilter perServiceRoutingFilter(HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters, HttpClientProperties httpClientProperties,
+            UpstreamClientRegistry clientRegistry) {
+        return new PerServiceRoutingFilter(httpClient, headersFilters, httpClientProperties, clientRegistry);
+    }
+
+    /**
+     * Pre-warms pools to instances as they register.
+     *
+     * @param routeLocator    Routes, to find the {@code lb://} services.
+     * @param discoveryClient Registry of service instances.
+     * @param snapshotStore   Last-known registry, before the first fetch.
+     * @param clientRegistry  Per-service clients.
+     * @return The pre-warmer.
+     */
+    @Bean
+    public UpstreamConnectionPrewarmer upstreamConnectionPrewarmer(RouteLocator routeLocator,
+            DiscoveryClient discoveryClient, RegistrySnapshotStore snapshotStore,
+            UpstreamClientRegistry clientRegistry) {
+        return new UpstreamConnectionPrewarmer(routeLocator, discoveryClient, snapshotStore, clientRegistry);
+    }
+
+    /**
+     * Loads and maintains the persisted registry snapshot.
+     *
+     * @param path            Snapshot file.
+     * @param rewriteInterval Maximum file age while the registry is unchanged.
+     * @param maxAge          Age after which the snapshot is no longer served.
+     * @param staleAfter      Time without a successful fetch before falling
+     *                        back to the snapshot.
+     * @param discoveryClient Registry of service instances.
+     * @param meterRegistry   Registry for the snapshot metrics.
+     * @return The snapshot store.
+     */
+    @Bean
+    public RegistrySnapshotStore registrySnapshotStore(
+            @Value("${gateway.discovery.snapshot.path:data/registry.snapshot}") Path path,
+            @Value("${gateway.discovery.snapshot.rewrite-interval:1m}") Duration rewriteInterval,
+            @Value("${gateway.discovery.snapshot.max-age:1h}") Duration maxAge,
+            @Value("${gateway.discovery.snapshot.stale-after:30s}") Duration staleAfter,
+            DiscoveryClient discoveryClient, MeterRegistry meterRegistry) {
+        return new RegistrySnapshotStore(path, rewriteInterval, maxAge, staleAfter, discoveryClient,
+                Clock.systemUTC(), meterRegistry);
+    }
+
+    /**
+     * Tracks instances that refused connections.
+     *
+     * @param duration      How long an instance is skipped after a refusal.
+     * @param meterRegistry Registry for the quarantine metrics.
+     * @return The quarantine.
+     */
+    @Bean
+    public InstanceQuarantine instanceQuarantine(
+            @Value("${gateway.upstream.quarantine-duration:30s}") Duration duration, MeterRegistry meterRegistry) {
+        return new InstanceQuarantine(duration, Clock.systemUTC(), meterRegistry);
+    }
+
+    /**
+     * Quarantines instances refusing connections and retries on another one.
+     *
+     * @param quarantine Quarantined instances.
+     * @return The filter.
+     */
+    @Bean
+    public QuarantineOnRefusedFilter quarantineOnRefusedFilter(InstanceQuarantine quarantine) {
+        return new QuarantineOnRefusedFilter(quarantine);
+    }
+}
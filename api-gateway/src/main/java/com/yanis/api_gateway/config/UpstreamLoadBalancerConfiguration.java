@@ -0,0 +1,45 @@
+package com.yanis.api_gateway.config;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import com.yanis.api_gateway.upstream.InstanceQuarantine;
+import com.yanis.api_gateway.upstream.QuarantineServiceInstanceListSupplier;
+import com.yanis.api_gateway.upstream.RegistrySnapshotStore;
+import com.yanis.api_gateway.upstream.SnapshotFallbackServiceInstanceListSupplier;
+
+/**
+ * Load balancer client configuration falling back to the registry snapshot
+ * and skipping quarantined instances.
+ *
+ * <p>
+ * Registered for every service through {@code @LoadBalancerClients} on
+ * {@link UpstreamConfig}, in the per-service load balancer contexts.
+ * Deliberately not a {@code @Configuration}: component scanning must not
+ * pick it up in the main context.
+ * </p>
+ */
+public class UpstreamLoadBalancerConfiguration {
+
+    /**
+     * Discovery-backed instance list, completed by the registry snapshot
+     * when discovery has none, cached, then filtered by the quarantine after
+     * the cache.
+     *
+     * @param context       Load balancer context of the service.
+     * @param snapshotStore Registry snapshot (main context).
+     * @param quarantine    Quarantined instances (main context).
+     * @return The instance list supplier.
+     */
+    @Bean
+    public ServiceInstanceListSupplier upstreamServiceInstanceListSupplier(ConfigurableApplicationContext context,
+            RegistrySnapshotStore snapshotStore, InstanceQuarantine quarantine) {
+        ServiceInstanceListSupplier cached = ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .with((ctx, delegate) -> new SnapshotFallbackServiceInstanceListSupplier(delegate, snapshotStore))
+                .withCaching()
+                .build(context);
+        return new QuarantineServiceInstanceListSupplier(cached, quarantine);
+    }
+}
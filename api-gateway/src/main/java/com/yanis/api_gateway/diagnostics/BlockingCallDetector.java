@@ -0,0 +1,174 @@
+package com.yanis.api_gateway.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Detects blocking calls made on Netty event-loop and Reactor non-blocking
+ * threads, using BlockHound.
+ *
+ * <p>
+ * A blocking call on an event loop stalls every connection served by that
+ * loop, capping the gateway at {@code eventLoopThreads / callLatency}
+ * requests per second. Each detected call is:
+ * </p>
+ * <ul>
+ * <li>counted in {@code gateway.blocking.calls{filter, operation}}, where
+ * {@code filter} is the first gateway class on the stack (e.g.
+ * {@code RateLimitFilter});</li>
+ * <li>logged once per call site with its full stack, then only counted;</li>
+ * <li>rethrown as a {@link BlockingOperationError} when {@code failOnBlocking}
+ * is set (tests), or let through (canary).</li>
+ * </ul>
+ *
+ * <p>
+ * BlockHound instruments the JVM once and cannot be uninstalled, so only the
+ * first detector installed in a JVM is active. It requires
+ * {@code -XX:+AllowRedefinitionToAddDeleteMethods} on JDK 13+.
+ * </p>
+ */
+public class BlockingCallDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockingCallDetector.class);
+
+    private static final String GATEWAY_PACKAGE = "com.yanis.api_gateway.";
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnBlocking;
+    private final List<String> allowedCallSites;
+    private final Map<String, AtomicLong> callSites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a detector.
+     *
+     * @param meterRegistry    Registry for the blocking call counter.
+     * @param failOnBlocking   Whether to rethrow detected calls.
+     * @param allowedCallSites Call sites allowed to block, as
+     *                         {@code fully.qualified.Class#method}.
+     */
+    public BlockingCallDetector(MeterRegistry meterRegistry, boolean failOnBlocking, List<String> allowedCallSites) {
+        this.meterRegistry = meterRegistry;
+        this.failOnBlocking = failOnBlocking;
+        this.allowedCallSites = List.copyOf(allowedCallSites);
+    }
+
+    /**
+     * Installs BlockHound with this detector as callback.
+     *
+     * @return true if installed, false if BlockHound was already installed in
+     *         this JVM or could not instrument it (startup continues).
+     * @throws IllegalArgumentException if an allow-list entry is malformed.
+     */
+    public boolean install() {
+        BlockHound.Builder builder = BlockHound.builder();
+        // Integrations (Reactor schedulers, ...) are only auto-loaded by BlockHound.install()
+        List<BlockHoundIntegration> integrations = new ArrayList<>();
+        ServiceLoader.load(BlockHoundIntegration.class).forEach(integrations::add);
+        integrations.stream().sorted().forEach(builder::with);
+        builder.nonBlockingThreadPredicate(current -> current.or(
+                thread -> thread.getName().startsWith("reactor-http-")))
+                .allowBlockingCallsInside(BlockingCallDetector.class.getName(), "report")
+                .blockingMethodCallback(this::onBlockingCall);
+        for (String callSite : allowedCallSites) {
+            int separator = callSite.indexOf('#');
+            if (separator <= 0 || separator == callSite.length() - 1) {
+                throw new IllegalArgumentException(
+                        "Blocking allow-list entry must be 'fully.qualified.Class#method': " + callSite);
+            }
+            builder.allowBlockingCallsInside(callSite.substring(0, separator), callSite.substring(separator + 1));
+        }
+
+        if (!INSTALLED.compareAndSet(false, true)) {
+            logger.warn("BlockHound already installed in this JVM, keeping the first detector");
+            return false;
+        }
+        try {
+            builder.install();
+        } catch (RuntimeException e) {
+            // Typically the JVM lacks -XX:+AllowRedefinitionToAddDeleteMethods
+            INSTALLED.set(false);
+            logger.error("Blocking call detection could not be installed, continuing without it "
+                    + "(run with -XX:+AllowRedefinitionToAddDeleteMethods, e.g. ./mvnw -Pcanary spring-boot:run)", e);
+            return false;
+        }
+        logger.info("Blocking call detection enabled (fail={}, allowed call sites={})", failOnBlocking,
+                allowedCallSites);
+        return true;
+    }
+
+    /**
+     * Returns the number of detected calls per call site
+     * ({@code filter|operation|frame}).
+     */
+    public Map<String, Long> callSites() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        callSites.forEach((site, count) -> snapshot.put(site, count.get()));
+        return snapshot;
+    }
+
+    private void onBlockingCall(BlockingMethod method) {
+        BlockingOperationError error = new BlockingOperationError(method);
+        report(method, error);
+        if (failOnBlocking) {
+            throw error;
+        }
+    }
+
+    /**
+     * Counts and logs a blocking call. Allowed to block itself (logging writes
+     * to appenders), see {@link #install()}.
+     */
+    void report(BlockingMethod method, BlockingOperationError error) {
+        StackTraceElement frame = attribute(error.getStackTrace());
+        String filter = frame != null ? simpleName(frame.getClassName()) : "unknown";
+        String operation = method.getClassName() + "." + method.getName();
+
+        Counter.builder("gateway.blocking.calls")
+                .description("Blocking calls detected on non-blocking threads")
+                .tag("filter", filter)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+
+        String site = filter + "|" + operation + "|" + (frame != null ? frame : "?");
+        AtomicLong count = callSites.computeIfAbsent(site, key -> new AtomicLong());
+        if (count.getAndIncrement() == 0) {
+            logger.warn("Blocking call {} in {} on thread {}", operation, filter, Thread.currentThread().getName(),
+                    error);
+        }
+    }
+
+    static StackTraceElement attribute(StackTraceElement[] stack) {
+        String self = BlockingCallDetector.class.getName();
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith(GATEWAY_PACKAGE) && !className.equals(self)
+                    && !className.startsWith(self + "$")) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+}
@@ -0,0 +1,64 @@
+package com.yanis.api_gateway.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import com.yanis.api_gateway.traffic.HeavyHitterTracker;
+import com.yanis.api_gateway.traffic.HeavyHitterTracker.Dimension;
+import com.yanis.api_gateway.traffic.HeavyHitterTracker.Report;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Actuator endpoint exposing the heavy hitters of the gateway traffic
+ * ({@code /actuator/heavyhitters}), merged across gateway nodes.
+ *
+ * <p>
+ * {@code /actuator/heavyhitters} reports every dimension,
+ * {@code /actuator/heavyhitters/{dimension}} one of {@code user}, {@code ip},
+ * {@code route} or {@code user-agent}. Parameters: {@code limit} (keys per
+ * dimension) and {@code window=previous} for the last complete window
+ * instead of the current one.
+ * </p>
+ */
+@Endpoint(id = "heavyhitters")
+public class HeavyHitterEndpoint {
+
+    private final HeavyHitterTracker tracker;
+    private final int defaultLimit;
+
+    public HeavyHitterEndpoint(HeavyHitterTracker tracker, int defaultLimit) {
+        this.tracker = tracker;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public Mono<Map<String, Report>> heavyHitters(@Nullable Integer limit, @Nullable String window) {
+        return Flux.fromArray(Dimension.values())
+                .concatMap(dimension -> tracker.report(dimension, isPrevious(window), limit(limit)))
+                .collectMap(Report::dimension, report -> report, LinkedHashMap::new);
+    }
+
+    @ReadOperation
+    public Mono<Report> dimension(@Selector String dimension, @Nullable Integer limit, @Nullable String window) {
+        Dimension selected = Dimension.fromId(dimension);
+        if (selected == null) {
+            return Mono.empty();
+        }
+        return tracker.report(selected, isPrevious(window), limit(limit));
+    }
+
+    private int limit(Integer limit) {
+        return limit != null && limit > 0 ? limit : defaultLimit;
+    }
+
+    private static boolean isPrevious(String window) {
+        return "previous".equalsIgnoreCase(window);
+    }
+}
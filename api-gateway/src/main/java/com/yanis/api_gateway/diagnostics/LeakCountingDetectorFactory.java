@@ -0,0 +1,95 @@
+package com.yanis.api_gateway.diagnostics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+
+/**
+ * Netty {@link ResourceLeakDetectorFactory} that counts reported leaks.
+ *
+ * <p>
+ * Netty only logs leaked buffers ({@code LEAK: ByteBuf.release() was not
+ * called...}). This factory keeps Netty's detection and logging, and also
+ * counts each report in {@code gateway.netty.leaks{resource, traced}} once a
+ * registry is bound. Leak detectors are created when Netty classes are first
+ * loaded, so {@link #install()} must run at the very start of {@code main}.
+ * </p>
+ */
+public final class LeakCountingDetectorFactory extends ResourceLeakDetectorFactory {
+
+    private static final Map<String, AtomicLong> LEAKS = new ConcurrentHashMap<>();
+
+    private static volatile MeterRegistry meterRegistry;
+
+    private LeakCountingDetectorFactory() {
+    }
+
+    /**
+     * Replaces Netty's default leak detector factory.
+     */
+    public static void install() {
+        ResourceLeakDetectorFactory.setResourceLeakDetectorFactory(new LeakCountingDetectorFactory());
+    }
+
+    /**
+     * Binds the registry leaks are counted in from now on.
+     *
+     * @param registry Meter registry.
+     */
+    static void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+    }
+
+    /**
+     * Returns the number of leaks reported since startup, per resource type.
+     */
+    public static Map<String, Long> leaks() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        LEAKS.forEach((resource, count) -> snapshot.put(resource, count.get()));
+        return snapshot;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public <T> ResourceLeakDetector<T> newResourceLeakDetector(Class<T> resource, int samplingInterval,
+            long maxActive) {
+        return new CountingDetector<>(resource, samplingInterval);
+    }
+
+    private static void record(String resourceType, boolean traced) {
+        LEAKS.computeIfAbsent(resourceType, key -> new AtomicLong()).incrementAndGet();
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            Counter.builder("gateway.netty.leaks")
+                    .description("Leaked Netty resources reported by the leak detector")
+                    .tag("resource", resourceType)
+                    .tag("traced", String.valueOf(traced))
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    private static final class CountingDetector<T> extends ResourceLeakDetector<T> {
+
+        CountingDetector(Class<T> resource, int samplingInterval) {
+            super(resource, samplingInterval);
+        }
+
+        @Override
+        protected void reportTracedLeak(String resourceType, String records) {
+            record(resourceType, true);
+            super.reportTracedLeak(resourceType, records);
+        }
+
+        @Override
+        protected void reportUntracedLeak(String resourceType) {
+            record(resourceType, false);
+            super.reportUntracedLeak(resourceType);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.yanis.api_gateway.diagnostics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Actuator endpoint exposing the gateway's Netty internals
+ * ({@code /actuator/netty}).
+ *
+ * <p>
+ * Returns the allocator and event loop snapshot of {@link NettyMetrics},
+ * leak counts, and the upstream connection pools grouped by {@code lb://}
+ * service. Addresses are mapped back to service ids through the discovery
+ * client; addresses no longer registered fall back to the pool name, which
+ * is the service id for per-service pools, or {@code unknown}.
+ * </p>
+ */
+@Endpoint(id = "netty")
+public class NettyEndpoint {
+
+    private static final String POOL_PREFIX = "reactor.netty.connection.provider.";
+    private static final String REMOTE_ADDRESS = "remote.address";
+
+    private final NettyMetrics nettyMetrics;
+    private final MeterRegistry meterRegistry;
+    private final DiscoveryClient discoveryClient;
+
+    public NettyEndpoint(NettyMetrics nettyMetrics, MeterRegistry meterRegistry, DiscoveryClient discoveryClient) {
+        this.nettyMetrics = nettyMetrics;
+        this.meterRegistry = meterRegistry;
+        this.discoveryClient = discoveryClient;
+    }
+
+    @ReadOperation
+    public Map<String, Object> netty() {
+        Map<String, Object> result = new LinkedHashMap<>(nettyMetrics.snapshot());
+        result.put("connectionPools", connectionPools());
+        return result;
+    }
+
+    /**
+     * Returns pool state per service, then per remote address.
+     */
+    Map<String, Map<String, Map<String, Object>>> connectionPools() {
+        Map<String, String> services = serviceByAddress();
+        Map<String, Map<String, Map<String, Object>>> pools = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            String address = meter.getId().getTag(REMOTE_ADDRESS);
+            if (!name.startsWith(POOL_PREFIX) || address == null) {
+                continue;
+            }
+            Map<String, Object> pool = pools
+                    .computeIfAbsent(services.getOrDefault(address, poolName(meter)), key -> new TreeMap<>())
+                    .computeIfAbsent(address, key -> new LinkedHashMap<>());
+            String metric = name.substring(POOL_PREFIX.length());
+            if (meter instanceof Gauge gauge) {
+                pool.put(metric, gauge.value());
+            } else if (meter instanceof Timer timer) {
+                pool.put(metric + ".count", timer.count());
+                pool.put(metric + ".meanMs", timer.mean(TimeUnit.MILLISECONDS));
+                pool.put(metric + ".maxMs", timer.max(TimeUnit.MILLISECONDS));
+            }
+        }
+        return pools;
+    }
+
+    private static String poolName(Meter meter) {
+        String name = meter.getId().getTag("name");
+        return name == null || "proxy".equals(name) ? "unknown" : name;
+    }
+
+    private Map<String, String> serviceByAddress() {
+        Map<String, String> services = new HashMap<>();
+        if (discoveryClient == null) {
+            return services;
+        }
+        for (String serviceId : discoveryClient.getServices()) {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                services.put(instance.getHost() + ":" + instance.getPort(), serviceId.toLowerCase());
+            }
+        }
+        return services;
+    }
+}
@@ -0,0 +1,210 @@
+package com.yanis.api_gateway.diagnostics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+/**
+ * Metrics for the Netty internals Reactor Netty does not break down.
+ *
+ * <ul>
+ * <li>{@code gateway.netty.allocator.used{type}}: pooled direct and heap
+ * memory;</li>
+ * <li>{@code gateway.netty.allocator.arena.active.bytes} and
+ * {@code .arena.active.allocations} {@code {type, arena}}: per-arena usage,
+ * to spot arena contention and fragmentation;</li>
+ * <li>{@code gateway.netty.eventloop.pending.tasks{loop}}: task queue depth
+ * of each event loop;</li>
+ * <li>{@code gateway.netty.eventloop.task.latency{loop}}: delay between
+ * submitting a probe task to a loop and the loop running it, i.e. how long
+ * any task currently waits behind I/O and other tasks.</li>
+ * </ul>
+ *
+ * <p>
+ * Upstream connection pool metrics come from Reactor Netty
+ * ({@code reactor.netty.connection.provider.*}), enabled with
+ * {@code spring.cloud.gateway.httpclient.pool.metrics}; leaked buffers are
+ * counted by {@link LeakCountingDetectorFactory}.
+ * </p>
+ */
+public class NettyMetrics implements MeterBinder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(NettyMetrics.class);
+
+    private final PooledByteBufAllocator allocator;
+    private final EventExecutorGroup eventLoops;
+    private final Duration probeInterval;
+    private final List<Timer> latencyTimers = new ArrayList<>();
+    private ScheduledExecutorService prober;
+
+    /**
+     * Creates the metrics.
+     *
+     * @param allocator     Pooled allocator used by Reactor Netty.
+     * @param eventLoops    Event loop group serving the gateway.
+     * @param probeInterval Interval between task latency probes.
+     */
+    public NettyMetrics(PooledByteBufAllocator allocator, EventExecutorGroup eventLoops, Duration probeInterval) {
+        this.allocator = allocator;
+        this.eventLoops = eventLoops;
+        this.probeInterval = probeInterval;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        LeakCountingDetectorFactory.bindTo(registry);
+
+        PooledByteBufAllocatorMetric metric = allocator.metric();
+        Gauge.builder("gateway.netty.allocator.used", metric, PooledByteBufAllocatorMetric::usedDirectMemory)
+                .description("Memory used by the pooled Netty allocator")
+                .tag("type", "direct")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("gateway.netty.allocator.used", metric, PooledByteBufAllocatorMetric::usedHeapMemory)
+                .description("Memory used by the pooled Netty allocator")
+                .tag("type", "heap")
+                .baseUnit("bytes")
+                .register(registry);
+        bindArenas(registry, "direct", metric.directArenas());
+        bindArenas(registry, "heap", metric.heapArenas());
+
+        int index = 0;
+        for (EventExecutor loop : eventLoops) {
+            Tags tags = Tags.of("loop", String.valueOf(index++));
+            if (loop instanceof SingleThreadEventExecutor executor) {
+                Gauge.builder("gateway.netty.eventloop.pending.tasks", executor,
+                        SingleThreadEventExecutor::pendingTasks)
+                        .description("Tasks waiting in the event loop queue")
+                        .tags(tags)
+                        .register(registry);
+            }
+            latencyTimers.add(Timer.builder("gateway.netty.eventloop.task.latency")
+                    .description("Delay before an event loop runs a newly submitted task")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+        }
+
+        if (prober == null && !latencyTimers.isEmpty()) {
+            prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "netty-latency-probe");
+                thread.setDaemon(true);
+                return thread;
+            });
+            prober.scheduleAtFixedRate(this::probe, probeInterval.toMillis(), probeInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Submits one probe task to every event loop; each records its own
+     * queueing delay.
+     */
+    void probe() {
+        int index = 0;
+        for (EventExecutor loop : eventLoops) {
+            Timer timer = latencyTimers.get(index++);
+            long submitted = System.nanoTime();
+            try {
+                loop.execute(() -> timer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS));
+            } catch (RejectedExecutionException e) {
+                logger.debug("Event loop {} is shutting down, skipping latency probe", index - 1);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the allocator and event loop state.
+     */
+    public Map<String, Object> snapshot() {
+        PooledByteBufAllocatorMetric metric = allocator.metric();
+        Map<String, Object> memory = new LinkedHashMap<>();
+        memory.put("usedDirectBytes", metric.usedDirectMemory());
+        memory.put("usedHeapBytes", metric.usedHeapMemory());
+        memory.put("directArenas", arenas(metric.directArenas()));
+        memory.put("heapArenas", arenas(metric.heapArenas()));
+        memory.put("threadLocalCaches", metric.numThreadLocalCaches());
+        memory.put("chunkSize", metric.chunkSize());
+
+        List<Map<String, Object>> loops = new ArrayList<>();
+        int index = 0;
+        for (EventExecutor loop : eventLoops) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("loop", index);
+            if (loop instanceof SingleThreadEventExecutor executor) {
+                state.put("pendingTasks", executor.pendingTasks());
+            }
+            if (index < latencyTimers.size()) {
+                Timer timer = latencyTimers.get(index);
+                state.put("taskLatencyMeanMs", timer.mean(TimeUnit.MILLISECONDS));
+                state.put("taskLatencyMaxMs", timer.max(TimeUnit.MILLISECONDS));
+            }
+            loops.add(state);
+            index++;
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("allocator", memory);
+        snapshot.put("eventLoops", loops);
+        snapshot.put("leaks", LeakCountingDetectorFactory.leaks());
+        return snapshot;
+    }
+
+    private static void bindArenas(MeterRegistry registry, String type, List<PoolArenaMetric> arenas) {
+        for (int i = 0; i < arenas.size(); i++) {
+            PoolArenaMetric arena = arenas.get(i);
+            Tags tags = Tags.of("type", type, "arena", String.valueOf(i));
+            Gauge.builder("gateway.netty.allocator.arena.active.bytes", arena, PoolArenaMetric::numActiveBytes)
+                    .description("Bytes currently allocated from the arena")
+                    .tags(tags)
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("gateway.netty.allocator.arena.active.allocations", arena,
+                    PoolArenaMetric::numActiveAllocations)
+                    .description("Buffers currently allocated from the arena")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    private static List<Map<String, Object>> arenas(List<PoolArenaMetric> arenas) {
+        List<Map<String, Object>> result = new ArrayList<>(arenas.size());
+        for (PoolArenaMetric arena : arenas) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("activeBytes", arena.numActiveBytes());
+            state.put("activeAllocations", arena.numActiveAllocations());
+            state.put("threadCaches", arena.numThreadCaches());
+            result.add(state);
+        }
+        return result;
+    }
+}
@@ -2,10 +2,10 @@ package com.yanis.api_gateway.filter;
 
 import java.net.URI;
 import java.time.Instant;
-import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -20,6 +20,8 @@ import org.springframework.web.server.ServerWebExchange;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yanis.api_gateway.security.JwtTokenProvider;
+import com.yanis.api_gateway.security.TokenIdentity;
+import com.yanis.platform_security.identity.IdentityCodec;
 
 import reactor.core.publisher.Mono;
 
@@ -30,18 +32,39 @@ import reactor.core.publisher.Mono;
  * Validates JWT tokens from Authorization header and injects user context
  * into request headers for downstream services.
  * </p>
+ *
+ * <p>
+ * The context travels in the signed {@code X-Identity} header (see
+ * {@link IdentityCodec}), which downstream services verify with one HMAC
+ * instead of re-verifying the JWT. The plain {@code X-User-*} headers are
+ * still emitted while {@code security.identity.legacy-headers} is enabled.
+ * Client-supplied copies of all these headers are removed beforehand by
+ * {@link IdentityHeaderStripFilter}.
+ * </p>
  */
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationFilter.class);
 
+    /**
+     * Exchange attribute holding the {@link TokenIdentity} of an authenticated
+     * request, for filters running around this one.
+     */
+    public static final String IDENTITY_ATTR = AuthenticationFilter.class.getName() + ".identity";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final IdentityCodec identityCodec;
     private final ObjectMapper objectMapper;
 
-    public AuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+    @Value("${security.identity.legacy-headers:true}")
+    private boolean legacyHeaders = true;
+
+    public AuthenticationFilter(JwtTokenProvider jwtTokenProvider, IdentityCodec identityCodec,
+            ObjectMapper objectMapper) {
         super(Config.class);
         this.jwtTokenProvider = jwtTokenProvider;
+        this.identityCodec = identityCodec;
         this.objectMapper = objectMapper;
     }
 
@@ -65,19 +88,28 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
             String token = authHeader.substring(7);
 
-            // Validate token
-            if (!jwtTokenProvider.validateToken(token)) {
+            // Validate token and extract user information in a single parse
+            TokenIdentity identity = jwtTokenProvider.parseIdentity(token);
+            if (identity == null) {
                 return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
             }
 
-            // Extract user information
-            String email = jwtTokenProvider.extractEmail(token);
-            List<String> roles = jwtTokenProvider.extractRoles(token);
+            exchange.getAttributes().put(IDENTITY_ATTR, identity);
 
             // Inject user context into request headers
+            String identityHeader = identityCodec.encode(
+                    identity.userId() != null ? identity.userId() : 0L, identity.email(), identity.roleBits());
             ServerHttpRequest mutatedRequest = request.mutate()
-                    .header("X-User-Email", email)
-                    .header("X-User-Roles", String.join(",", roles))
+                    .headers(headers -> {
+                        headers.set(IdentityCodec.HEADER, identityHeader);
+                        if (legacyHeaders) {
+                            headers.set("X-User-Email", identity.email());
+                            headers.set("X-User-Roles", identity.rolesHeader());
+                            if (identity.userId() != null) {
+                                headers.set("X-User-Id", identity.userId().toString());
+                            }
+                        }
+                    })
                     .build();
 
             return chain.filter(exchange.mutate().request(mutatedRequest).build());
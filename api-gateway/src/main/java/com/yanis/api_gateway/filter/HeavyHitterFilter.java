@@ -0,0 +1,70 @@
+package com.yanis.api_gateway.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.api_gateway.security.TokenIdentity;
+import com.yanis.api_gateway.traffic.HeavyHitterTracker;
+import com.yanis.api_gateway.traffic.HeavyHitterTracker.Dimension;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts every routed request in the {@link HeavyHitterTracker}, per user,
+ * client address, route and user agent.
+ *
+ * <p>
+ * Runs first and records once the exchange completes, so requests rejected
+ * by the authentication or rate limiting filters are counted too; the user
+ * is then known from {@link AuthenticationFilter#IDENTITY_ATTR}, anonymous
+ * requests being counted by address only.
+ * </p>
+ */
+public class HeavyHitterFilter implements GlobalFilter, Ordered {
+
+    private static final int MAX_USER_AGENT_LENGTH = 128;
+
+    private final HeavyHitterTracker tracker;
+
+    public HeavyHitterFilter(HeavyHitterTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange).doFinally(signal -> record(exchange));
+    }
+
+    private void record(ServerWebExchange exchange) {
+        TokenIdentity identity = exchange.getAttribute(AuthenticationFilter.IDENTITY_ATTR);
+        if (identity != null && identity.email() != null) {
+            tracker.record(Dimension.USER, identity.email());
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        tracker.record(Dimension.IP, remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "unknown");
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        tracker.record(Dimension.ROUTE, route != null ? route.getId() : "none");
+        String userAgent = exchange.getRequest().getHeaders().getFirst(HttpHeaders.USER_AGENT);
+        if (userAgent == null || userAgent.isBlank()) {
+            userAgent = "none";
+        } else if (userAgent.length() > MAX_USER_AGENT_LENGTH) {
+            userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+        }
+        tracker.record(Dimension.USER_AGENT, userAgent);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,467 @@
+package com.yanis.api_gateway.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.api_gateway.idempotency.IdempotencyRecord;
+import com.yanis.api_gateway.security.TokenIdentity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes requests carrying an {@value #HEADER} header at most once per
+ * key.
+ *
+ * <p>
+ * The key, scoped by route and by the caller's verified identity (the
+ * {@link TokenIdentity} left by {@link AuthenticationFilter}, so the filter
+ * goes after it; never a request header), is reserved atomically in Redis
+ * ({@code SET NX}) with a pending record that expires after
+ * {@code gateway.idempotency.lock-ttl}. Then:
+ * </p>
+ * <ul>
+ * <li>the request that reserved the key runs; a 2xx or 4xx response is
+ * stored for {@code gateway.idempotency.retention}, a 5xx, an error or a
+ * response over {@code max-body-size} releases the key so the client can
+ * retry. So does a response marked {@code Cache-Control: no-store} or
+ * setting a cookie: credentials are never written to the store;</li>
+ * <li>a duplicate arriving meanwhile polls the key until the first
+ * execution completes, then replays its response, or gets {@code 409} after
+ * {@code wait-timeout};</li>
+ * <li>a later duplicate replays the stored status, headers and body, with
+ * {@code Idempotency-Replayed: true};</li>
+ * <li>a key reused with another method, path or body gets {@code 422}.</li>
+ * </ul>
+ *
+ * <p>
+ * Place it before retry and circuit breaker filters, so their attempts run
+ * inside a single execution. Outcomes are counted in
+ * {@code gateway.idempotency.requests{route,outcome}}. If Redis is
+ * unavailable the request is rejected with {@code 503}, unless the route
+ * sets {@code failOpen}.
+ * </p>
+ */
+@Component
+public class IdempotencyFilter extends AbstractGatewayFilterFactory<IdempotencyFilter.Config> {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotency-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> REPLAYED_HEADERS = Set.of(HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.LOCATION, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL);
+
+    private static final RedisScript<Long> COMPLETE = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then"
+                    + " return redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) and 1 else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * Stands for a failed lookup, compared by identity.
+     */
+    private static final IdempotencyRecord STORE_UNAVAILABLE = IdempotencyRecord.completed(new byte[0], 503,
+            new HttpHeaders(), new byte[0]);
+
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gateway.idempotency.retention:24h}")
+    private Duration retention;
+
+    @Value("${gateway.idempotency.lock-ttl:60s}")
+    private Duration lockTtl;
+
+    @Value("${gateway.idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    @Value("${gateway.idempotency.poll-interval:50ms}")
+    private Duration pollInterval;
+
+    @Value("${gateway.idempotency.max-body-size:262144}")
+    private int maxBodySize;
+
+    public IdempotencyFilter(ReactiveRedisTemplate<String, byte[]> idempotencyRedisTemplate,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.redisTemplate = idempotencyRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            HttpMethod method = exchange.getRequest().getMethod();
+            if (!config.getMethods().contains(method.name())) {
+                return chain.filter(exchange);
+            }
+            String key = exchange.getRequest().getHeaders().getFirst(HEADER);
+            if (key == null || key.isBlank()) {
+                return config.isRequired()
+                        ? onError(exchange, HEADER + " header is required", HttpStatus.BAD_REQUEST)
+                        : chain.filter(exchange);
+            }
+            if (key.length() > MAX_KEY_LENGTH) {
+                return onError(exchange, HEADER + " must be at most " + MAX_KEY_LENGTH + " characters",
+                        HttpStatus.BAD_REQUEST);
+            }
+            return ServerWebExchangeUtils.cacheRequestBody(exchange, request -> {
+                ServerWebExchange cached = exchange.mutate().request(request).build();
+                Execution execution = new Execution(cached, chain, config, routeId(cached),
+                        redisKey(cached, key), fingerprint(cached), System.nanoTime() + waitTimeout.toNanos());
+                return reserve(execution);
+            });
+        };
+    }
+
+    private Mono<Void> reserve(Execution execution) {
+        IdempotencyRecord pending = IdempotencyRecord.pending(execution.fingerprint());
+        byte[] pendingBytes = pending.encode();
+        return redisTemplate.opsForValue().setIfAbsent(execution.redisKey(), pendingBytes, lockTtl)
+                .onErrorResume(error -> {
+                    logger.warn("Idempotency store unavailable: {}", error.toString());
+                    return Mono.empty();
+                })
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(reserved -> {
+                    if (reserved.isEmpty()) {
+                        return unavailable(execution);
+                    }
+                    return reserved.get() ? execute(execution, pendingBytes) : existing(execution, false);
+                });
+    }
+
+    private Mono<Void> existing(Execution execution, boolean waited) {
+        return redisTemplate.opsForValue().get(execution.redisKey())
+                .map(IdempotencyRecord::decode)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(error -> {
+                    logger.warn("Idempotency store unavailable: {}", error.toString());
+                    return Mono.just(Optional.of(STORE_UNAVAILABLE));
+                })
+                .flatMap(found -> {
+                    if (found.isEmpty()) {
+                        // Released by a failed first execution: take it over.
+                        return reserve(execution);
+                    }
+                    IdempotencyRecord record = found.get();
+                    if (record == STORE_UNAVAILABLE) {
+                        return unavailable(execution);
+                    }
+                    if (!Arrays.equals(record.fingerprint(), execution.fingerprint())) {
+                        count(execution, "mismatch");
+                        return onError(execution.exchange(), HEADER + " was already used for another request",
+                                HttpStatus.UNPROCESSABLE_ENTITY);
+                    }
+                    if (!record.isPending()) {
+                        count(execution, waited ? "waited" : "replayed");
+                        return replay(execution.exchange(), record);
+                    }
+                    if (System.nanoTime() > execution.deadline()) {
+                        count(execution, "in_progress");
+                        return onError(execution.exchange(), "A request with this " + HEADER
+                                + " is still in progress", HttpStatus.CONFLICT);
+                    }
+                    return Mono.delay(pollInterval).then(Mono.defer(() -> existing(execution, true)));
+                });
+    }
+
+    private Mono<Void> execute(Execution execution, byte[] pendingBytes) {
+        count(execution, "executed");
+        ServerWebExchange exchange = execution.exchange();
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), maxBodySize);
+        return execution.chain().filter(exchange.mutate().response(response).build())
+                .then(Mono.defer(() -> complete(execution, pendingBytes, response)))
+                .onErrorResume(error -> release(execution, pendingBytes).then(Mono.error(error)))
+                .doOnCancel(() -> release(execution, pendingBytes).subscribe());
+    }
+
+    private Mono<Void> complete(Execution execution, byte[] pendingBytes, CapturingResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        if (status == null || status.is5xxServerError() || response.overflowed()
+                || !storable(response.getHeaders())) {
+            return release(execution, pendingBytes);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (REPLAYED_HEADERS.stream().anyMatch(name::equalsIgnoreCase)) {
+                headers.addAll(name, values);
+            }
+        });
+        byte[] record = IdempotencyRecord.completed(execution.fingerprint(), status.value(), headers,
+                response.body()).encode();
+        return redisTemplate.execute(COMPLETE, List.of(execution.redisKey()),
+                List.of(pendingBytes, record, String.valueOf(retention.toMillis()).getBytes(StandardCharsets.UTF_8)))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Cannot store idempotent response {}: {}", execution.redisKey(), error.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private static boolean storable(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+                .noneMatch(value -> value.toLowerCase(Locale.ROOT).contains("no-store"));
+    }
+
+    private Mono<Void> release(Execution execution, byte[] pendingBytes) {
+        return redisTemplate.execute(RELEASE, List.of(execution.redisKey()), List.of(pendingBytes))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Cannot release idempotency key {}: {}", execution.redisKey(), error.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> unavailable(Execution execution) {
+        if (execution.config().isFailOpen()) {
+            count(execution, "unprotected");
+            return execution.chain().filter(execution.exchange());
+        }
+        count(execution, "unavailable");
+        return onError(execution.exchange(), "Idempotency store unavailable, retry later",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, IdempotencyRecord record) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(record.status()));
+        response.getHeaders().putAll(record.headers());
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        if (record.body().length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(record.body())));
+    }
+
+    private void count(Execution execution, String outcome) {
+        Counter.builder("gateway.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("route", execution.routeId())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    private static String redisKey(ServerWebExchange exchange, String key) {
+        MessageDigest digest = sha256();
+        digest.update(caller(exchange).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        return "idempotency:" + routeId(exchange) + ":" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Caller scope of the key: the user id of the verified token, its email
+     * for tokens without one, or a shared anonymous scope on routes without
+     * authentication.
+     */
+    private static String caller(ServerWebExchange exchange) {
+        TokenIdentity identity = exchange.getAttribute(AuthenticationFilter.IDENTITY_ATTR);
+        if (identity == null) {
+            return "anonymous";
+        }
+        return identity.userId() != null ? "uid:" + identity.userId() : "email:" + identity.email();
+    }
+
+    private static byte[] fingerprint(ServerWebExchange exchange) {
+        MessageDigest digest = sha256();
+        digest.update(exchange.getRequest().getMethod().name().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(exchange.getRequest().getURI().getRawPath().getBytes(StandardCharsets.UTF_8));
+        String query = exchange.getRequest().getURI().getRawQuery();
+        if (query != null) {
+            digest.update((byte) '?');
+            digest.update(query.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) '\n');
+        DataBuffer body = exchange.getAttribute(CACHED_REQUEST_BODY_ATTR);
+        if (body != null) {
+            ByteBuffer bytes = ByteBuffer.allocate(body.readableByteCount());
+            body.toByteBuffer(body.readPosition(), bytes, 0, bytes.capacity());
+            digest.update(bytes);
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, message);
+        problemDetail.setTitle(status.getReasonPhrase());
+        problemDetail.setInstance(URI.create(exchange.getRequest().getPath().toString()));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(problemDetail);
+        } catch (JsonProcessingException e) {
+            logger.error("Error writing JSON response", e);
+            bytes = "{\"title\":\"Internal Server Error\",\"status\":500}".getBytes();
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(bytes);
+        return exchange.getResponse().writeWith(Mono.just(buffer));
+    }
+
+    private record Execution(ServerWebExchange exchange, GatewayFilterChain chain, Config config, String routeId,
+            String redisKey, byte[] fingerprint, long deadline) {
+    }
+
+    /**
+     * Response copying the body it writes, up to a maximum size.
+     */
+    static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final int maxBodySize;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private boolean overflowed;
+
+        CapturingResponse(ServerHttpResponse delegate, int maxBodySize) {
+            super(delegate);
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::capture));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(part -> Flux.from(part).doOnNext(this::capture)));
+        }
+
+        private synchronized void capture(DataBuffer buffer) {
+            int length = buffer.readableByteCount();
+            if (overflowed || body.size() + length > maxBodySize) {
+                overflowed = true;
+                return;
+            }
+            byte[] bytes = new byte[length];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+            body.writeBytes(bytes);
+        }
+
+        synchronized boolean overflowed() {
+            return overflowed;
+        }
+
+        synchronized byte[] body() {
+            return body.toByteArray();
+        }
+    }
+
+    /**
+     * Per-route settings.
+     */
+    public static class Config {
+
+        private Set<String> methods = Set.of(HttpMethod.POST.name(), HttpMethod.PATCH.name());
+        private boolean required;
+        private boolean failOpen;
+
+        public Set<String> getMethods() {
+            return methods;
+        }
+
+        public Config setMethods(Set<String> methods) {
+            this.methods = methods;
+            return this;
+        }
+
+        public boolean isRequired() {
+            return required;
+        }
+
+        /**
+         * Rejects requests without the header with {@code 400}.
+         */
+        public Config setRequired(boolean required) {
+            this.required = required;
+            return this;
+        }
+
+        public boolean isFailOpen() {
+            return failOpen;
+        }
+
+        /**
+         * Runs requests unprotected instead of rejecting them when Redis is
+         * unavailable.
+         */
+        public Config setFailOpen(boolean failOpen) {
+            this.failOpen = failOpen;
+            return this;
+        }
+    }
+}
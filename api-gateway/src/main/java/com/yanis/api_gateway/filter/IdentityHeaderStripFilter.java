@@ -0,0 +1,48 @@
+package com.yanis.api_gateway.filter;
+
+import java.util.List;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.platform_security.identity.IdentityCodec;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Removes client-supplied identity headers from every routed request.
+ *
+ * <p>
+ * Downstream services trust {@code X-Identity} (and the legacy
+ * {@code X-User-*} headers), so only {@link AuthenticationFilter} may set
+ * them. Runs first on every route, before any route filter.
+ * </p>
+ */
+@Component
+public class IdentityHeaderStripFilter implements GlobalFilter, Ordered {
+
+    static final List<String> IDENTITY_HEADERS = List.of(
+            IdentityCodec.HEADER, "X-User-Email", "X-User-Roles", "X-User-Id");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (IDENTITY_HEADERS.stream().noneMatch(headers::containsKey)) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(mutable -> IDENTITY_HEADERS.forEach(mutable::remove))
+                .build();
+        return chain.filter(exchange.mutate().request(stripped).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
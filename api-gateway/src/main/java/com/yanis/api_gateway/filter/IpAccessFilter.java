@@ -0,0 +1,77 @@
+package com.yanis.api_gateway.filter;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.api_gateway.security.IpAccessList;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rejects requests from denied client addresses before any other work.
+ *
+ * <p>
+ * A {@link WebFilter} of highest precedence: it runs ahead of Spring
+ * Security, route matching and every gateway filter, so a denied client
+ * costs one trie lookup, no Redis round trip (rate limiting, token
+ * blacklist) and no downstream call. The 403 body is serialized once.
+ * Rejections are counted in {@code gateway.ip-access.denied}.
+ * </p>
+ *
+ * @see IpAccessList
+ */
+public class IpAccessFilter implements WebFilter, Ordered {
+
+    private final IpAccessList accessList;
+    private final Counter denied;
+    private final byte[] body;
+
+    public IpAccessFilter(IpAccessList accessList, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.accessList = accessList;
+        this.denied = Counter.builder("gateway.ip-access.denied")
+                .description("Requests rejected by the client address deny list")
+                .register(meterRegistry);
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN,
+                "Access denied for this client address");
+        problemDetail.setTitle(HttpStatus.FORBIDDEN.getReasonPhrase());
+        byte[] serialized;
+        try {
+            serialized = objectMapper.writeValueAsBytes(problemDetail);
+        } catch (JsonProcessingException e) {
+            serialized = "{\"title\":\"Forbidden\",\"status\":403}".getBytes(StandardCharsets.UTF_8);
+        }
+        this.body = serialized;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null
+                || !accessList.isDenied(remoteAddress.getAddress())) {
+            return chain.filter(exchange);
+        }
+        denied.increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
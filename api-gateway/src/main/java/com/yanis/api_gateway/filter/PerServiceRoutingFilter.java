@@ -0,0 +1,62 @@
+package com.yanis.api_gateway.filter;
+
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.CONNECT_TIMEOUT_ATTR;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.api_gateway.upstream.UpstreamClientRegistry;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Netty routing filter sending each {@code lb://} route through the client of
+ * its target service ({@link UpstreamClientRegistry}).
+ *
+ * <p>
+ * Replaces the default {@link NettyRoutingFilter}, which is disabled with
+ * {@code spring.cloud.gateway.global-filter.netty-routing.enabled=false}.
+ * It also runs just before it, so that even if the default filter is left
+ * enabled it finds the exchange already routed. Other routes and the
+ * {@code connect-timeout} route metadata behave as in the default filter.
+ * </p>
+ */
+public class PerServiceRoutingFilter extends NettyRoutingFilter {
+
+    private final UpstreamClientRegistry clientRegistry;
+
+    public PerServiceRoutingFilter(HttpClient httpClient, ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            HttpClientProperties properties, UpstreamClientRegistry clientRegistry) {
+        super(httpClient, headersFilters, properties);
+        this.clientRegistry = clientRegistry;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        String serviceId = UpstreamClientRegistry.serviceIdOf(route);
+        if (serviceId == null) {
+            return super.getHttpClient(route, exchange);
+        }
+        HttpClient client = clientRegistry.clientFor(serviceId);
+        Object connectTimeout = route.getMetadata().get(CONNECT_TIMEOUT_ATTR);
+        if (connectTimeout != null) {
+            client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                    connectTimeout instanceof Number number ? number.intValue()
+                            : Integer.parseInt(connectTimeout.toString()));
+        }
+        return client;
+    }
+}
@@ -0,0 +1,93 @@
+package com.yanis.api_gateway.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+import java.net.ConnectException;
+import java.net.URI;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.api_gateway.upstream.InstanceQuarantine;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Quarantines {@code lb://} instances that refuse connections and retries
+ * the request once on another instance.
+ *
+ * <p>
+ * Runs just before {@link ReactiveLoadBalancerClientFilter}, so a retry goes
+ * through instance selection again, which now skips the quarantined
+ * instance. A refused connection means nothing was sent upstream, so the
+ * retry is safe for any method; other errors are propagated unchanged.
+ * </p>
+ *
+ * @see InstanceQuarantine
+ */
+public class QuarantineOnRefusedFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuarantineOnRefusedFilter.class);
+
+    private static final int MAX_RETRIES = 1;
+
+    private final InstanceQuarantine quarantine;
+
+    public QuarantineOnRefusedFilter(InstanceQuarantine quarantine) {
+        this.quarantine = quarantine;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || !"lb".equals(url.getScheme())) {
+            return chain.filter(exchange);
+        }
+        return attempt(exchange, chain, url, MAX_RETRIES);
+    }
+
+    private Mono<Void> attempt(ServerWebExchange exchange, GatewayFilterChain chain, URI url, int retriesLeft) {
+        return chain.filter(exchange).onErrorResume(error -> {
+            if (!isConnectionRefused(error)) {
+                return Mono.error(error);
+            }
+            Response<ServiceInstance> selected = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            if (selected == null || !selected.hasServer()) {
+                return Mono.error(error);
+            }
+            quarantine.quarantine(selected.getServer());
+            if (retriesLeft == 0 || exchange.getResponse().isCommitted()) {
+                return Mono.error(error);
+            }
+            logger.debug("Connection refused by {}:{}, retrying {}", selected.getServer().getHost(),
+                    selected.getServer().getPort(), url);
+            ServerWebExchangeUtils.reset(exchange);
+            exchange.getAttributes().remove(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, url);
+            return attempt(exchange, chain, url, retriesLeft - 1);
+        });
+    }
+
+    static boolean isConnectionRefused(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,358 @@
+package com.yanis.api_gateway.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.MimeType;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.api_gateway.compression.CompressionProperties;
+import com.yanis.api_gateway.compression.StreamingCompressor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compresses downstream responses with brotli or gzip, as negotiated from
+ * {@code Accept-Encoding}.
+ *
+ * <p>
+ * The body is compressed chunk by chunk as it arrives from the service, each
+ * chunk being sync-flushed, so large JSON responses are neither buffered nor
+ * delayed. When the length is unknown (chunked responses), chunks are held
+ * only until {@code min-response-size} bytes have arrived: a smaller body is
+ * sent as is.
+ * </p>
+ *
+ * <p>
+ * Responses already encoded, partial, marked {@code no-transform} or of a
+ * content type not listed in {@code mime-types} are left untouched, as are
+ * streamed responses ({@code writeAndFlushWith}, e.g. server-sent events).
+ * Settings are resolved per route ({@code gateway.compression.routes.<route-id>}).
+ * </p>
+ *
+ * <p>
+ * Metrics, tagged by route and encoding: {@code gateway.compression.ratio}
+ * (uncompressed / compressed size), {@code gateway.compression.cpu} (CPU
+ * time spent compressing each response), {@code gateway.compression.bytes}
+ * (by {@code direction} in/out) and {@code gateway.compression.skipped} (by
+ * {@code reason}).
+ * </p>
+ *
+ * @see StreamingCompressor
+ */
+public class ResponseCompressionFilter implements GlobalFilter, Ordered {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean THREAD_CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+
+    private final CompressionProperties defaults;
+    private final Map<String, CompressionProperties> routes;
+    private final boolean brotliAvailable;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompressionProperties> resolved = new ConcurrentHashMap<>();
+
+    public ResponseCompressionFilter(CompressionProperties defaults, Map<String, CompressionProperties> routes,
+            boolean brotliAvailable, MeterRegistry meterRegistry) {
+        this.defaults = defaults;
+        this.routes = routes;
+        this.brotliAvailable = brotliAvailable;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (HttpMethod.HEAD.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        CompressionProperties settings = resolved.computeIfAbsent(routeId,
+                id -> CompressionProperties.resolve(id, defaults, routes));
+        if (!settings.enabled()) {
+            return chain.filter(exchange);
+        }
+        String encoding = negotiate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING),
+                brotliAvailable);
+        if (encoding == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate()
+                .response(new CompressingResponse(exchange.getResponse(), routeId, encoding, settings))
+                .build());
+    }
+
+    /**
+     * Chooses the response encoding from an {@code Accept-Encoding} header.
+     *
+     * <p>
+     * Brotli is preferred over gzip at equal quality values; {@code *}
+     * applies to the encodings not listed.
+     * </p>
+     *
+     * @param acceptEncoding  Header value, may be {@code null}.
+     * @param brotliAvailable Whether brotli may be chosen.
+     * @return {@code br}, {@code gzip}, or {@code null} to send the body as is.
+     */
+    static String negotiate(String acceptEncoding, boolean brotliAvailable) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double brotli = -1;
+        double gzip = -1;
+        double any = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case StreamingCompressor.BROTLI -> brotli = quality;
+                case StreamingCompressor.GZIP, "x-gzip" -> gzip = Math.max(gzip, quality);
+                case "*" -> any = quality;
+                default -> {
+                }
+            }
+        }
+        brotli = brotli < 0 ? any : brotli;
+        gzip = gzip < 0 ? any : gzip;
+        if (brotliAvailable && brotli > 0 && brotli >= gzip) {
+            return StreamingCompressor.BROTLI;
+        }
+        return gzip > 0 ? StreamingCompressor.GZIP : null;
+    }
+
+    private static long cpuTime() {
+        return THREAD_CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Runs before {@link NettyWriteResponseFilter} writes the response, like
+     * the gateway's own body-modifying filters.
+     */
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private final class CompressingResponse extends ServerHttpResponseDecorator {
+
+        private final String routeId;
+        private final String encoding;
+        private final CompressionProperties settings;
+
+        CompressingResponse(ServerHttpResponse delegate, String routeId, String encoding,
+                CompressionProperties settings) {
+            super(delegate);
+            this.routeId = routeId;
+            this.encoding = encoding;
+            this.settings = settings;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            String skipped = skipReason();
+            if (skipped != null) {
+                skip(skipped);
+                return super.writeWith(body);
+            }
+            getHeaders().addIfAbsent(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            long length = getHeaders().getContentLength();
+            long minSize = settings.minResponseSize().toBytes();
+            if (length >= 0 && length < minSize) {
+                skip("size");
+                return super.writeWith(body);
+            }
+            return super.writeWith(Flux.defer(() -> {
+                Compression compression = new Compression(minSize);
+                if (length >= 0) {
+                    compression.start();
+                }
+                return Flux.<DataBuffer>from(body)
+                        .concatMapIterable(compression::accept)
+                        .concatWith(Flux.defer(() -> Flux.fromIterable(compression.complete())))
+                        .doFinally(signal -> compression.close());
+            }));
+        }
+
+        private String skipReason() {
+            HttpHeaders headers = getHeaders();
+            HttpStatusCode status = getStatusCode();
+            if (status != null && (status.is1xxInformational() || status.value() == 204 || status.value() == 304)) {
+                return "status";
+            }
+            if (headers.containsKey(HttpHeaders.CONTENT_ENCODING) || headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+                return "encoded";
+            }
+            String cacheControl = headers.getCacheControl();
+            if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-transform")) {
+                return "no-transform";
+            }
+            MediaType contentType = contentType(headers);
+            if (contentType == null || settings.mimeTypes().stream()
+                    .noneMatch(type -> MimeType.valueOf(type).includes(contentType))) {
+                return "content-type";
+            }
+            return null;
+        }
+
+        private static MediaType contentType(HttpHeaders headers) {
+            try {
+                return headers.getContentType();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private void skip(String reason) {
+            Counter.builder("gateway.compression.skipped")
+                    .tag("route", routeId)
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        /**
+         * Compression state of one body subscription.
+         */
+        private final class Compression {
+
+            private final long minSize;
+            private final List<DataBuffer> pending = new ArrayList<>();
+            private long pendingBytes;
+            private StreamingCompressor compressor;
+            private long bytesIn;
+            private long bytesOut;
+            private long cpuNanos;
+
+            Compression(long minSize) {
+                this.minSize = minSize;
+            }
+
+            /**
+             * Switches the response to the compressed encoding; headers are
+             * still writable since nothing has been emitted yet.
+             */
+            void start() {
+                HttpHeaders headers = getHeaders();
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+                compressor = StreamingCompressor.create(encoding, settings);
+            }
+
+            List<DataBuffer> accept(DataBuffer buffer) {
+                if (compressor != null) {
+                    return compress(List.of(buffer));
+                }
+                pending.add(buffer);
+                pendingBytes += buffer.readableByteCount();
+                if (pendingBytes < minSize) {
+                    return List.of();
+                }
+                start();
+                List<DataBuffer> held = new ArrayList<>(pending);
+                pending.clear();
+                return compress(held);
+            }
+
+            List<DataBuffer> complete() {
+                if (compressor == null) {
+                    // Body ended below min-response-size: sent uncompressed
+                    skip("size");
+                    List<DataBuffer> held = new ArrayList<>(pending);
+                    pending.clear();
+                    return held;
+                }
+                long startCpu = cpuTime();
+                byte[] trailer = compressor.finish();
+                cpuNanos += cpuTime() - startCpu;
+                bytesOut += trailer.length;
+                record();
+                return List.of(bufferFactory().wrap(trailer));
+            }
+
+            private List<DataBuffer> compress(List<DataBuffer> buffers) {
+                long startCpu = cpuTime();
+                for (DataBuffer buffer : buffers) {
+                    byte[] chunk = new byte[buffer.readableByteCount()];
+                    buffer.read(chunk);
+                    DataBufferUtils.release(buffer);
+                    bytesIn += chunk.length;
+                    compressor.write(chunk);
+                }
+                byte[] compressed = compressor.flush();
+                cpuNanos += cpuTime() - startCpu;
+                bytesOut += compressed.length;
+                return compressed.length == 0 ? List.of() : List.of(bufferFactory().wrap(compressed));
+            }
+
+            private void record() {
+                DistributionSummary.builder("gateway.compression.ratio")
+                        .tag("route", routeId)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry)
+                        .record(bytesOut == 0 ? 1 : (double) bytesIn / bytesOut);
+                Timer.builder("gateway.compression.cpu")
+                        .tag("route", routeId)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry)
+                        .record(Duration.ofNanos(cpuNanos));
+                Counter.builder("gateway.compression.bytes")
+                        .tag("route", routeId)
+                        .tag("encoding", encoding)
+                        .tag("direction", "in")
+                        .register(meterRegistry)
+                        .increment(bytesIn);
+                Counter.builder("gateway.compression.bytes")
+                        .tag("route", routeId)
+                        .tag("encoding", encoding)
+                        .tag("direction", "out")
+                        .register(meterRegistry)
+                        .increment(bytesOut);
+            }
+
+            void close() {
+                pending.forEach(DataBufferUtils::release);
+                pending.clear();
+                if (compressor != null) {
+                    compressor.close();
+                }
+            }
+        }
+    }
+}
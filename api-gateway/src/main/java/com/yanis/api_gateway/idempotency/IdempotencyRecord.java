@@ -0,0 +1,172 @@
+package com.yanis.api_gateway.idempotency;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * State of an idempotency key, as stored in Redis.
+ *
+ * <p>
+ * A key is first reserved with a <em>pending</em> record, holding a random
+ * token that identifies the execution owning it, then replaced by the
+ * <em>completed</em> record of the response. Both carry the fingerprint of
+ * the request (method, path and body), so that a key reused for another
+ * request is detected.
+ * </p>
+ *
+ * <p>
+ * Binary layout ({@link DataOutputStream} primitives):
+ * </p>
+ *
+ * <pre>
+ * version(1) | fingerprint(32) | status(2)
+ *   pending (status 0):  token(16)
+ *   completed:           headers(2) | per header: name | value
+ *                        | gzip(1) | bodyLength(4) | body
+ * </pre>
+ *
+ * <p>
+ * Bodies of at least {@value #COMPRESSION_THRESHOLD} bytes are stored
+ * gzip-compressed when that makes them smaller.
+ * </p>
+ *
+ * @param fingerprint SHA-256 of the request.
+ * @param token       Owner token of a pending record, empty once completed.
+ * @param status      HTTP status, {@code 0} while pending.
+ * @param headers     Replayed response headers.
+ * @param body        Response body, uncompressed.
+ */
+public record IdempotencyRecord(byte[] fingerprint, byte[] token, int status, HttpHeaders headers, byte[] body) {
+
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    private static final byte VERSION = 1;
+    private static final int FINGERPRINT_LENGTH = 32;
+    private static final int TOKEN_LENGTH = 16;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Creates a pending record with a fresh owner token.
+     *
+     * @param fingerprint SHA-256 of the request.
+     * @return The record.
+     */
+    public static IdempotencyRecord pending(byte[] fingerprint) {
+        byte[] token = new byte[TOKEN_LENGTH];
+        RANDOM.nextBytes(token);
+        return new IdempotencyRecord(fingerprint, token, 0, new HttpHeaders(), new byte[0]);
+    }
+
+    /**
+     * Creates the record of a completed execution.
+     *
+     * @param fingerprint SHA-256 of the request.
+     * @param status      HTTP status of the response.
+     * @param headers     Response headers to replay.
+     * @param body        Response body.
+     * @return The record.
+     */
+    public static IdempotencyRecord completed(byte[] fingerprint, int status, HttpHeaders headers, byte[] body) {
+        return new IdempotencyRecord(fingerprint, new byte[0], status, headers, body);
+    }
+
+    public boolean isPending() {
+        return status == 0;
+    }
+
+    /**
+     * Encodes the record.
+     *
+     * @return The binary form.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + body.length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.write(fingerprint);
+            out.writeShort(status);
+            if (isPending()) {
+                out.write(token);
+                return bytes.toByteArray();
+            }
+            int count = headers.values().stream().mapToInt(List::size).sum();
+            out.writeShort(count);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                for (String value : header.getValue()) {
+                    out.writeUTF(header.getKey());
+                    out.writeUTF(value);
+                }
+            }
+            byte[] compressed = body.length >= COMPRESSION_THRESHOLD ? gzip(body) : null;
+            boolean useCompressed = compressed != null && compressed.length < body.length;
+            out.writeBoolean(useCompressed);
+            byte[] stored = useCompressed ? compressed : body;
+            out.writeInt(stored.length);
+            out.write(stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a record produced by {@link #encode()}.
+     *
+     * @param data Binary form.
+     * @return The record.
+     * @throws UncheckedIOException if the data is truncated or of an
+     *                              unsupported version.
+     */
+    public static IdempotencyRecord decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported idempotency record version " + version);
+            }
+            byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+            in.readFully(fingerprint);
+            int status = in.readUnsignedShort();
+            if (status == 0) {
+                byte[] token = new byte[TOKEN_LENGTH];
+                in.readFully(token);
+                return new IdempotencyRecord(fingerprint, token, 0, new HttpHeaders(), new byte[0]);
+            }
+            HttpHeaders headers = new HttpHeaders();
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                headers.add(in.readUTF(), in.readUTF());
+            }
+            boolean compressed = in.readBoolean();
+            byte[] stored = new byte[in.readInt()];
+            in.readFully(stored);
+            return completed(fingerprint, status, headers, compressed ? gunzip(stored) : stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.yanis.api_gateway.security;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.regex.Pattern;
+
+/**
+ * Compressed binary radix (PATRICIA) trie of IPv4 and IPv6 CIDR ranges,
+ * answering which rule applies to an address.
+ *
+ * <p>
+ * Addresses are 128-bit keys, IPv4 being stored as IPv4-mapped IPv6
+ * ({@code ::ffff:a.b.c.d}), so both families share one trie. Chains of
+ * single-child nodes are collapsed, so a lookup visits at most one node per
+ * distinct prefix length on the path and allocates nothing. The most
+ * specific matching range wins (an allowed {@code /24} inside a denied
+ * {@code /8}); on identical ranges, allow wins.
+ * </p>
+ *
+ * <p>
+ * A trie is built once then only read: updates build a new trie that
+ * replaces the old one atomically (see {@link IpAccessList}).
+ * </p>
+ */
+public final class CidrTrie {
+
+    /**
+     * Rule of a range.
+     */
+    public enum Action {
+        ALLOW, DENY
+    }
+
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+    private static final long IPV4_MAPPED = 0x0000_ffff_0000_0000L;
+
+    private final Node root = new Node(0, 0, 0, null);
+    private int size;
+
+    /**
+     * Adds a range.
+     *
+     * @param cidr   Address or range, e.g. {@code 203.0.113.0/24} or
+     *               {@code 2001:db8::/32}.
+     * @param action Rule of the range.
+     * @throws IllegalArgumentException if the range is malformed.
+     */
+    public void add(String cidr, Action action) {
+        Range range = Range.parse(cidr);
+        Node existing = insert(range.hi(), range.lo(), range.length());
+        if (existing.action == null) {
+            size++;
+        }
+        if (existing.action != Action.ALLOW) {
+            existing.action = action;
+        }
+    }
+
+    /**
+     * Returns the rule of the most specific range containing an address.
+     *
+     * @param address Client address.
+     * @return The rule, or {@code null} if no range contains it.
+     */
+    public Action lookup(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        long hi;
+        long lo;
+        if (bytes.length == 4) {
+            hi = 0;
+            lo = IPV4_MAPPED | toLong(bytes, 0, 4);
+        } else {
+            hi = toLong(bytes, 0, 8);
+            lo = toLong(bytes, 8, 8);
+        }
+        return lookup(hi, lo);
+    }
+
+    /**
+     * Returns the number of distinct ranges.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Action lookup(long hi, long lo) {
+        Action best = null;
+        Node node = root;
+        while (node != null && node.matches(hi, lo)) {
+            if (node.action != null) {
+                best = node.action;
+            }
+            if (node.length == 128) {
+                break;
+            }
+            node = bit(hi, lo, node.length) == 0 ? node.zero : node.one;
+        }
+        return best;
+    }
+
+    /**
+     * Returns the node of a prefix, creating it (and splitting a compressed
+     * edge) if needed.
+     */
+    private Node insert(long hi, long lo, int length) {
+        Node node = root;
+        while (true) {
+            if (node.length == length) {
+                return node;
+            }
+            int bit = bit(hi, lo, node.length);
+            Node child = node.child(bit);
+            if (child == null) {
+                Node leaf = new Node(hi, lo, length, null);
+                node.setChild(bit, leaf);
+                return leaf;
+            }
+            int common = Math.min(Math.min(commonPrefix(hi, lo, child.hi, child.lo), length), child.length);
+            if (common == child.length) {
+                node = child;
+                continue;
+            }
+            Node split = new Node(hi, lo, common, null);
+            node.setChild(bit, split);
+            split.setChild(bit(child.hi, child.lo, common), child);
+            if (common == length) {
+                return split;
+            }
+            Node leaf = new Node(hi, lo, length, null);
+            split.setChild(bit(hi, lo, common), leaf);
+            return leaf;
+        }
+    }
+
+    private static int bit(long hi, long lo, int index) {
+        return index < 64 ? (int) (hi >>> (63 - index)) & 1 : (int) (lo >>> (127 - index)) & 1;
+    }
+
+    private static int commonPrefix(long hi1, long lo1, long hi2, long lo2) {
+        long hiDiff = hi1 ^ hi2;
+        if (hiDiff != 0) {
+            return Long.numberOfLeadingZeros(hiDiff);
+        }
+        long loDiff = lo1 ^ lo2;
+        return loDiff != 0 ? 64 + Long.numberOfLeadingZeros(loDiff) : 128;
+    }
+
+    private static long hiMask(int length) {
+        return length == 0 ? 0 : length >= 64 ? -1L : -1L << (64 - length);
+    }
+
+    private static long loMask(int length) {
+        return length <= 64 ? 0 : length == 128 ? -1L : -1L << (128 - length);
+    }
+
+    private static long toLong(byte[] bytes, int offset, int count) {
+        long value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            value = value << 8 | (bytes[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static final class Node {
+
+        final long hi;
+        final long lo;
+        final int length;
+        final long hiMask;
+        final long loMask;
+        Action action;
+        Node zero;
+        Node one;
+
+        Node(long hi, long lo, int length, Action action) {
+            this.hiMask = hiMask(length);
+            this.loMask = loMask(length);
+            this.hi = hi & hiMask;
+            this.lo = lo & loMask;
+            this.length = length;
+            this.action = action;
+        }
+
+        boolean matches(long otherHi, long otherLo) {
+            return (otherHi & hiMask) == hi && (otherLo & loMask) == lo;
+        }
+
+        Node child(int bit) {
+            return bit == 0 ? zero : one;
+        }
+
+        void setChild(int bit, Node child) {
+            if (bit == 0) {
+                zero = child;
+            } else {
+                one = child;
+            }
+        }
+    }
+
+    /**
+     * A parsed CIDR range, as a 128-bit prefix.
+     */
+    private record Range(long hi, long lo, int length) {
+
+        static Range parse(String cidr) {
+            String value = cidr.trim();
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            String suffix = slash < 0 ? null : value.substring(slash + 1);
+            if (IPV4.matcher(address).matches()) {
+                long ipv4 = 0;
+                for (String octet : address.split("\\.")) {
+                    int octetValue = Integer.parseInt(octet);
+                    if (octetValue > 255) {
+                        throw new IllegalArgumentException("Invalid CIDR range '" + cidr + "'");
+                    }
+                    ipv4 = ipv4 << 8 | octetValue;
+                }
+                return new Range(0, IPV4_MAPPED | ipv4, 96 + prefixLength(cidr, suffix, 32));
+            }
+            // Literal IPv6 only: InetAddress would resolve a host name
+            if (!IPV6.matcher(address).matches()) {
+                throw new IllegalArgumentException("Invalid CIDR range '" + cidr + "'");
+            }
+            byte[] bytes;
+            try {
+                bytes = InetAddress.getByName(address).getAddress();
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid CIDR range '" + cidr + "'", e);
+            }
+            if (bytes.length == 4) {
+                // IPv4-mapped literal (::ffff:a.b.c.d), prefix length counted on 128 bits
+                return new Range(0, IPV4_MAPPED | toLong(bytes, 0, 4), prefixLength(cidr, suffix, 128));
+            }
+            return new Range(toLong(bytes, 0, 8), toLong(bytes, 8, 8), prefixLength(cidr, suffix, 128));
+        }
+
+        private static int prefixLength(String cidr, String suffix, int maxLength) {
+            if (suffix == null) {
+                return maxLength;
+            }
+            try {
+                int length = Integer.parseInt(suffix);
+                if (length >= 0 && length <= maxLength) {
+                    return length;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException("Invalid CIDR prefix length in '" + cidr + "'");
+        }
+    }
+}
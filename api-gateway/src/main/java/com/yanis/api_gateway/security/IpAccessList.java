@@ -0,0 +1,175 @@
+package com.yanis.api_gateway.security;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import com.yanis.api_gateway.security.CidrTrie.Action;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Client address deny/allow lists, as a {@link CidrTrie}.
+ *
+ * <p>
+ * Ranges come from two sources: {@code gateway.ip-access.deny} and
+ * {@code gateway.ip-access.allow} (config-server, reloaded on refresh), and
+ * the Redis sets {@code gateway.ip-access.redis.deny-key} and
+ * {@code allow-key}, shared by all gateway nodes and polled every
+ * {@code refresh-interval}. Any change rebuilds the whole trie off the event
+ * loops and swaps it in one volatile write, so lookups never lock and never
+ * see a partial list. While Redis is unreachable the last ranges read from it
+ * are kept. Malformed ranges are logged and skipped.
+ * </p>
+ */
+public class IpAccessList {
+
+    private static final Logger logger = LoggerFactory.getLogger(IpAccessList.class);
+
+    private static final String PREFIX = "gateway.ip-access.";
+
+    private final Environment environment;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String denyKey;
+    private final String allowKey;
+    private final Duration refreshInterval;
+
+    private volatile CidrTrie trie = new CidrTrie();
+    private volatile List<String> configuredDeny = List.of();
+    private volatile List<String> configuredAllow = List.of();
+    private volatile Set<String> sharedDeny = Set.of();
+    private volatile Set<String> sharedAllow = Set.of();
+    private volatile boolean redisAvailable = true;
+    private Disposable refreshTask;
+
+    public IpAccessList(Environment environment, ReactiveStringRedisTemplate redisTemplate, String denyKey,
+            String allowKey, Duration refreshInterval, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.redisTemplate = redisTemplate;
+        this.denyKey = denyKey;
+        this.allowKey = allowKey;
+        this.refreshInterval = refreshInterval;
+        loadConfigured();
+        rebuild();
+        Gauge.builder("gateway.ip-access.ranges", this, list -> list.trie.size())
+                .description("CIDR ranges in the client address deny/allow lists")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether requests from an address must be rejected.
+     *
+     * @param address Client address.
+     * @return {@code true} if the most specific range containing it is denied.
+     */
+    public boolean isDenied(InetAddress address) {
+        return trie.lookup(address) == Action.DENY;
+    }
+
+    /**
+     * Starts polling the shared Redis sets.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefreshing() {
+        if (redisTemplate == null) {
+            return;
+        }
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refreshShared())
+                .subscribe();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith(PREFIX))) {
+            loadConfigured();
+            rebuild();
+        }
+    }
+
+    @PreDestroy
+    public void stopRefreshing() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * Reads the shared sets, rebuilding the trie if they changed.
+     */
+    Mono<Void> refreshShared() {
+        return Mono.zip(members(denyKey), members(allowKey))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(sets -> {
+                    if (!redisAvailable) {
+                        redisAvailable = true;
+                        logger.info("Shared IP access lists reachable again");
+                    }
+                    if (!sets.getT1().equals(sharedDeny) || !sets.getT2().equals(sharedAllow)) {
+                        sharedDeny = sets.getT1();
+                        sharedAllow = sets.getT2();
+                        rebuild();
+                    }
+                })
+                .onErrorResume(e -> {
+                    if (redisAvailable) {
+                        redisAvailable = false;
+                        logger.warn("Shared IP access lists unreachable, keeping {} shared ranges: {}",
+                                sharedDeny.size() + sharedAllow.size(), e.getMessage());
+                    }
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Set<String>> members(String key) {
+        return redisTemplate.opsForSet().members(key).collect(HashSet::new, Set::add);
+    }
+
+    private void loadConfigured() {
+        Binder binder = Binder.get(environment);
+        configuredDeny = binder.bind(PREFIX + "deny", Bindable.listOf(String.class)).orElse(List.of());
+        configuredAllow = binder.bind(PREFIX + "allow", Bindable.listOf(String.class)).orElse(List.of());
+    }
+
+    private synchronized void rebuild() {
+        CidrTrie built = new CidrTrie();
+        int rejected = add(built, configuredDeny, Action.DENY) + add(built, sharedDeny, Action.DENY)
+                + add(built, configuredAllow, Action.ALLOW) + add(built, sharedAllow, Action.ALLOW);
+        trie = built;
+        logger.info("IP access lists loaded: {} ranges ({} configured, {} shared, {} malformed)", built.size(),
+                configuredDeny.size() + configuredAllow.size(), sharedDeny.size() + sharedAllow.size(), rejected);
+    }
+
+    private static int add(CidrTrie trie, Iterable<String> ranges, Action action) {
+        int rejected = 0;
+        for (String range : ranges) {
+            try {
+                trie.add(range, action);
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                logger.warn("Ignoring IP access range: {}", e.getMessage());
+            }
+        }
+        return rejected;
+    }
+}
@@ -1,32 +1,36 @@
 package com.yanis.api_gateway.security;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
-import javax.crypto.SecretKey;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.yanis.platform_security.RoleTable;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 
 /**
  * JWT Token Provider for API Gateway.
  *
  * <p>
  * Validates JWT tokens issued by Auth Service and extracts user information.
- * Uses the same secret key as Auth Service to verify token signatures.
+ * The verification key is selected by the token's {@code kid} header through
+ * {@link VerificationKeyResolver}, so key rotation needs no restart.
+ * </p>
+ *
+ * <p>
+ * <strong>Security Note:</strong> HMAC secrets must match the Auth Service
+ * configuration; asymmetric public keys are fetched from its JWKS endpoint.
  * </p>
  *
  * <p>
- * <strong>Security Note:</strong> The JWT secret must match the Auth Service
- * secret
- * for proper token validation.
+ * Both claim profiles are accepted: the full {@code roles} array and the
+ * compact {@code rb} role bitmask decoded against the shared
+ * {@link RoleTable}.
  * </p>
  */
 @Component
@@ -34,8 +38,19 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final String ROLES_CLAIM = "roles";
+    private static final String ROLE_BITS_CLAIM = "rb";
+    private static final String USER_ID_CLAIM = "uid";
+
+    private final RoleTable roleTable;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(VerificationKeyResolver keyResolver, RoleTable roleTable) {
+        this.roleTable = roleTable;
+        this.parser = Jwts.parser()
+                .keyLocator(keyResolver)
+                .build();
+    }
 
     /**
      * Validates a JWT token's signature and expiration.
@@ -45,10 +60,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
@@ -56,6 +68,39 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verifies a token once and extracts everything the gateway forwards.
+     *
+     * <p>
+     * Prefer this over {@link #validateToken(String)} followed by the
+     * {@code extract*} methods, which each verify the signature again.
+     * </p>
+     *
+     * @param token The JWT token.
+     * @return The identity, or {@code null} if the token is invalid or expired.
+     */
+    public TokenIdentity parseIdentity(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Object roleBits = claims.get(ROLE_BITS_CLAIM);
+            if (roleBits instanceof Number bits) {
+                Object userId = claims.get(USER_ID_CLAIM);
+                return new TokenIdentity(
+                        claims.getSubject(),
+                        userId instanceof Number id ? id.longValue() : null,
+                        roleTable.decode(bits.longValue()),
+                        roleTable.join(bits.longValue()),
+                        bits.longValue());
+            }
+            List<String> roles = rolesOf(claims);
+            return new TokenIdentity(claims.getSubject(), null, roles, String.join(",", roles),
+                    roleTable.encodeKnown(roles));
+        } catch (Exception e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Extracts the user email from a JWT token.
      *
@@ -72,16 +117,12 @@ public class JwtTokenProvider {
      * @param token The JWT token.
      * @return List of user roles, or empty list if no roles found.
      */
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
         Claims claims = extractClaims(token);
-        Object roles = claims.get("roles");
-
-        if (roles instanceof List) {
-            return (List<String>) roles;
+        if (claims.get(ROLE_BITS_CLAIM) instanceof Number bits) {
+            return roleTable.decode(bits.longValue());
         }
-
-        return List.of();
+        return rolesOf(claims);
     }
 
     /**
@@ -99,6 +140,17 @@ public class JwtTokenProvider {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private List<String> rolesOf(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+
+        if (roles instanceof List) {
+            return (List<String>) roles;
+        }
+
+        return List.of();
+    }
+
     /**
      * Extracts all claims from a JWT token.
      *
@@ -106,20 +158,6 @@ public class JwtTokenProvider {
      * @return Claims object containing all token claims.
      */
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Gets the signing key for JWT verification.
-     *
-     * @return SecretKey for HMAC-SHA256 signature verification.
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
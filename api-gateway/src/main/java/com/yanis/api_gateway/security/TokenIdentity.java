@@ -0,0 +1,16 @@
+package com.yanis.api_gateway.security;
+
+import java.util.List;
+
+/**
+ * User identity extracted from a verified access token.
+ *
+ * @param email       Token subject.
+ * @param userId      Numeric user id ({@code uid} claim), or {@code null} for
+ *                    tokens issued without the compact profile.
+ * @param roles       Role names.
+ * @param rolesHeader Comma-separated roles, ready for {@code X-User-Roles}.
+ * @param roleBits    Registered roles as a bitmask of the shared role table.
+ */
+public record TokenIdentity(String email, Long userId, List<String> roles, String rolesHeader, long roleBits) {
+}
@@ -0,0 +1,196 @@
+package com.yanis.api_gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves JWT verification keys by key id ({@code kid}).
+ *
+ * <p>
+ * Keys come from two sources merged into one immutable map:
+ * <ul>
+ * <li>HMAC secrets from configuration ({@code jwt.secret} for tokens without
+ * {@code kid}, plus {@code jwt.verification.keys[*]})</li>
+ * <li>Public ES256/EdDSA keys fetched from the Auth Service JWKS endpoint</li>
+ * </ul>
+ *
+ * <p>
+ * The JWKS is refreshed ahead of time on a fixed interval, so a key published
+ * by the Auth Service before it becomes active is already cached when the
+ * first token signed with it arrives. An unknown {@code kid} triggers an
+ * additional, rate-limited refresh in the background; verification itself
+ * never waits on the network.
+ * </p>
+ */
+@Component
+public class VerificationKeyResolver extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationKeyResolver.class);
+
+    private static final String LEGACY_KID = "";
+
+    private final Environment environment;
+    private final WebClient webClient;
+    private final AtomicLong lastFetchMillis = new AtomicLong();
+
+    @Value("${jwt.jwks.enabled:true}")
+    private boolean jwksEnabled;
+
+    @Value("${jwt.jwks.uri:http://AUTH-SERVICE/auth/.well-known/jwks.json}")
+    private String jwksUri;
+
+    @Value("${jwt.jwks.refresh-interval:5m}")
+    private Duration refreshInterval;
+
+    @Value("${jwt.jwks.min-refresh-interval:30s}")
+    private Duration minRefreshInterval;
+
+    private volatile Map<String, Key> configuredKeys;
+    private volatile Map<String, Key> jwksKeys = Map.of();
+    private volatile Map<String, Key> keys;
+    private Disposable refreshTask;
+
+    public VerificationKeyResolver(Environment environment, WebClient.Builder webClientBuilder,
+            ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction) {
+        this.environment = environment;
+        this.webClient = webClientBuilder.filter(loadBalancerFunction).build();
+        this.configuredKeys = loadConfiguredKeys();
+        this.keys = configuredKeys;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = keys.get(kid == null ? LEGACY_KID : kid);
+        if (key == null) {
+            logger.warn("Unknown JWT kid '{}', scheduling JWKS refresh", kid);
+            refreshIfStale();
+        }
+        return key;
+    }
+
+    /**
+     * Starts the refresh-ahead loop once the application can reach discovery.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefreshing() {
+        if (!jwksEnabled) {
+            return;
+        }
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> fetchJwks())
+                .subscribe();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."))) {
+            configuredKeys = loadConfiguredKeys();
+            publish();
+            logger.info("JWT verification keys reloaded from configuration");
+        }
+    }
+
+    @PreDestroy
+    public void stopRefreshing() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    private void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        long last = lastFetchMillis.get();
+        if (jwksEnabled && now - last >= minRefreshInterval.toMillis() && lastFetchMillis.compareAndSet(last, now)) {
+            fetchJwks().subscribe();
+        }
+    }
+
+    private Mono<Void> fetchJwks() {
+        lastFetchMillis.set(System.currentTimeMillis());
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(this::applyJwks)
+                .doOnError(e -> logger.warn("JWKS refresh failed, keeping {} cached keys: {}",
+                        jwksKeys.size(), e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private void applyJwks(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, Key> fetched = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null) {
+                fetched.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        jwksKeys = Map.copyOf(fetched);
+        publish();
+        logger.debug("JWKS refreshed: {} public keys", fetched.size());
+    }
+
+    private void publish() {
+        Map<String, Key> merged = new HashMap<>(jwksKeys);
+        merged.putAll(configuredKeys);
+        keys = Map.copyOf(merged);
+    }
+
+    private Map<String, Key> loadConfiguredKeys() {
+        Map<String, Key> loaded = new HashMap<>();
+        loaded.put(LEGACY_KID, hmacKey(environment.getRequiredProperty("jwt.secret")));
+
+        List<HmacKeyDefinition> definitions = Binder.get(environment)
+                .bind("jwt.verification.keys", Bindable.listOf(HmacKeyDefinition.class))
+                .orElse(List.of());
+        for (HmacKeyDefinition definition : definitions) {
+            loaded.put(definition.kid(), hmacKey(definition.secret()));
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Shared HMAC secret accepted for a given key id.
+     *
+     * @param kid    Key id from the JWS header.
+     * @param secret Shared secret (same value as in the Auth Service).
+     */
+    public record HmacKeyDefinition(String kid, String secret) {
+    }
+}
@@ -0,0 +1,239 @@
+package com.yanis.api_gateway.startup;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.yanis.api_gateway.security.JwtTokenProvider;
+import com.yanis.api_gateway.upstream.UpstreamConnectionPrewarmer;
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Warms the gateway up before Eureka advertises it.
+ *
+ * <p>
+ * The instance registers as {@code STARTING} ({@code eureka.instance.initial-status}),
+ * so load balancers in front of the gateway that read the registry skip it.
+ * Once the context is ready, the following phases run on {@code concurrency}
+ * threads:
+ * </p>
+ * <ul>
+ * <li>{@code token}: verification of stand-in access tokens of both claim
+ * profiles ({@code roles} and {@code rb}/{@code uid}), signed with
+ * {@code jwt.secret};</li>
+ * <li>{@code identity}: signing and verification of the internal identity
+ * header;</li>
+ * <li>{@code rate-limit}: the rate limiter's Redis commands on a dedicated
+ * key, opening the Redis connection;</li>
+ * <li>{@code json}: error response serialisation;</li>
+ * <li>{@code upstream-pools}: connection pre-warming of every {@code lb://}
+ * service (see {@link UpstreamConnectionPrewarmer}).</li>
+ * </ul>
+ *
+ * <p>
+ * The instance is then set {@code UP}, even if a phase failed or the overall
+ * {@code timeout} elapsed. Phase durations are recorded in
+ * {@code gateway.startup.warmup{phase}} and the JVM uptime at {@code UP} in
+ * {@code gateway.startup.time-to-ready}.
+ * </p>
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String STAND_IN_EMAIL = "warmup@startup.invalid";
+    private static final String RATE_LIMIT_KEY = "rate_limit:warmup";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final IdentityCodec identityCodec;
+    private final RoleTable roleTable;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UpstreamConnectionPrewarmer prewarmer;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final AtomicReference<Double> timeToReady = new AtomicReference<>(Double.NaN);
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${gateway.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.warmup.iterations:500}")
+    private int iterations;
+
+    @Value("${gateway.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${gateway.warmup.timeout:30s}")
+    private Duration timeout;
+
+    public StartupWarmup(JwtTokenProvider jwtTokenProvider, IdentityCodec identityCodec, RoleTable roleTable,
+            RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+            UpstreamConnectionPrewarmer prewarmer, MeterRegistry meterRegistry,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.identityCodec = identityCodec;
+        this.roleTable = roleTable;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.prewarmer = prewarmer;
+        this.meterRegistry = meterRegistry;
+        this.applicationInfoManager = applicationInfoManager;
+        Gauge.builder("gateway.startup.time-to-ready", timeToReady, AtomicReference::get)
+                .description("JVM uptime when the instance was marked UP")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+            try {
+                warmUp(executor, deadline);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        markUp();
+    }
+
+    private void warmUp(ExecutorService executor, long deadline) {
+        List<String> roles = List.of(roleTable.roles().get(0));
+        long roleBits = roleTable.encode(roles);
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + timeout.toMillis() + 60_000);
+        var key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        String fullToken = Jwts.builder()
+                .claim("roles", roles)
+                .subject(STAND_IN_EMAIL)
+                .issuedAt(now)
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+        String compactToken = Jwts.builder()
+                .claim("rb", roleBits)
+                .claim("uid", 0L)
+                .subject(STAND_IN_EMAIL)
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+
+        run("token", iterations, executor, deadline, () -> {
+            if (jwtTokenProvider.parseIdentity(fullToken) == null
+                    || jwtTokenProvider.parseIdentity(compactToken) == null) {
+                throw new IllegalStateException("Stand-in token rejected, check jwt.secret");
+            }
+            return null;
+        });
+        run("identity", iterations, executor, deadline,
+                () -> identityCodec.verify(identityCodec.encode(0L, STAND_IN_EMAIL, roleBits)));
+        run("rate-limit", iterations, executor, deadline, () -> {
+            redisTemplate.opsForValue().increment(RATE_LIMIT_KEY);
+            redisTemplate.expire(RATE_LIMIT_KEY, 60, TimeUnit.SECONDS);
+            return redisTemplate.getExpire(RATE_LIMIT_KEY, TimeUnit.SECONDS);
+        });
+        redisTemplate.delete(RATE_LIMIT_KEY);
+        run("json", iterations, executor, deadline, () -> {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                    "Rate limit exceeded. Try again later.");
+            problemDetail.setTitle(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+            problemDetail.setInstance(URI.create("/api/warmup"));
+            problemDetail.setProperty("timestamp", Instant.now());
+            return objectMapper.writeValueAsBytes(problemDetail);
+        });
+        run("upstream-pools", 1, executor, deadline,
+                () -> prewarmer.warmAll().block(Duration.ofNanos(Math.max(0, deadline - System.nanoTime()))));
+    }
+
+    /**
+     * Runs one phase; failures are logged once and do not stop the warm-up.
+     */
+    private void run(String phase, int count, ExecutorService executor, long deadline, Warmable task) {
+        long start = System.nanoTime();
+        List<Future<Object>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(task::call));
+        }
+        int failures = 0;
+        Exception firstFailure = null;
+        for (Future<Object> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                logger.warn("Warm-up timed out during phase {}", phase);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failures++;
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("gateway.startup.warmup")
+                .description("Duration of each startup warm-up phase")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (failures > 0) {
+            logger.warn("Warm-up phase {}: {}/{} iterations failed", phase, failures, count, firstFailure);
+        } else {
+            logger.info("Warm-up phase {}: {} iterations in {}ms", phase, count,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void markUp() {
+        double uptimeSeconds = ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0;
+        timeToReady.set(uptimeSeconds);
+        ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+        if (manager != null) {
+            manager.setInstanceStatus(InstanceStatus.UP);
+        }
+        logger.info("Instance marked UP {}s after JVM start", uptimeSeconds);
+    }
+
+    @FunctionalInterface
+    private interface Warmable {
+        Object call() throws Exception;
+    }
+}
@@ -0,0 +1,161 @@
+package com.yanis.api_gateway.traffic;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch: approximate per-key counts in constant memory.
+ *
+ * <p>
+ * {@code depth} rows of {@code width} counters; a key increments one counter
+ * per row and its estimate is the smallest of them. Estimates never
+ * undercount, and overcount by at most {@code e / width} of the total with
+ * probability {@code 1 - e^-depth}. Counters are atomic, so concurrent
+ * event loops record without locking.
+ * </p>
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+    private final AtomicLong total = new AtomicLong();
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    /**
+     * Counts occurrences of a key.
+     *
+     * @param key   Key.
+     * @param count Occurrences to add.
+     * @return The new estimate of the key.
+     */
+    public long add(String key, long count) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long value = counters.addAndGet(index(row, h1, h2), count);
+            estimate = Math.min(estimate, value);
+        }
+        total.addAndGet(count);
+        return estimate;
+    }
+
+    /**
+     * Estimates the count of a key.
+     *
+     * @param key Key.
+     * @return Upper bound of its count.
+     */
+    public long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Adds the counts of a sketch of the same dimensions (e.g. of another
+     * node).
+     *
+     * @param other Sketch to add.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge a " + other.width + "x" + other.depth
+                    + " sketch into a " + width + "x" + depth + " sketch");
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            long value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, value);
+            }
+        }
+        total.addAndGet(other.total.get());
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the total of all counts.
+     */
+    public long total() {
+        return total.get();
+    }
+
+    /**
+     * Returns the maximum overcount of an estimate, {@code e / width} of the
+     * total.
+     */
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * total.get());
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(width);
+        out.writeInt(depth);
+        out.writeLong(total.get());
+        for (int i = 0; i < counters.length(); i++) {
+            out.writeLong(counters.get(i));
+        }
+    }
+
+    static CountMinSketch readFrom(DataInputStream in) throws IOException {
+        int width = in.readInt();
+        int depth = in.readInt();
+        if (width < 1 || depth < 1 || (long) width * depth > 1 << 24) {
+            throw new IOException("Invalid sketch dimensions " + width + "x" + depth);
+        }
+        CountMinSketch sketch = new CountMinSketch(width, depth);
+        sketch.total.set(in.readLong());
+        for (int i = 0; i < sketch.counters.length(); i++) {
+            sketch.counters.set(i, in.readLong());
+        }
+        return sketch;
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * 64-bit FNV-1a of the key, finalized with the MurmurHash3 mixer; its
+     * halves seed the row hashes (Kirsch-Mitzenmacher).
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,10 @@
+package com.yanis.api_gateway.traffic;
+
+/**
+ * A frequent key and its estimated request count.
+ *
+ * @param key   User, address, route or user agent.
+ * @param count Estimated requests, an upper bound.
+ */
+public record HeavyHitter(String key, long count) {
+}
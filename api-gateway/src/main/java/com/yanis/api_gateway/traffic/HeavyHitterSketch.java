@@ -0,0 +1,191 @@
+package com.yanis.api_gateway.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Heavy hitters of one dimension over one window: a {@link CountMinSketch}
+ * for the counts and a {@link SpaceSaving} top-K for the candidate keys.
+ *
+ * <p>
+ * A reported count is the smaller of the two estimates, both being upper
+ * bounds. Sketches of several gateway nodes merge exactly: the count-min
+ * counters are summed and the union of the node candidates is ranked on the
+ * merged sketch.
+ * </p>
+ *
+ * <p>
+ * Binary layout (gzip of {@link DataOutputStream} primitives):
+ * </p>
+ *
+ * <pre>
+ * version(1) | width(4) | depth(4) | total(8) | counters(8 each)
+ *   | candidates(4) | per candidate: key | count(8)
+ * </pre>
+ */
+public final class HeavyHitterSketch {
+
+    private static final byte VERSION = 1;
+
+    private final CountMinSketch counts;
+    private final SpaceSaving candidates;
+    private final List<HeavyHitter> decodedCandidates;
+
+    public HeavyHitterSketch(int width, int depth, int capacity) {
+        this(new CountMinSketch(width, depth), new SpaceSaving(capacity), null);
+    }
+
+    private HeavyHitterSketch(CountMinSketch counts, SpaceSaving candidates, List<HeavyHitter> decodedCandidates) {
+        this.counts = counts;
+        this.candidates = candidates;
+        this.decodedCandidates = decodedCandidates;
+    }
+
+    /**
+     * Counts one request of a key.
+     *
+     * @param key Key.
+     */
+    public void record(String key) {
+        counts.add(key, 1);
+        candidates.offer(key);
+    }
+
+    /**
+     * Returns the most frequent keys.
+     *
+     * @param limit Maximum number of keys.
+     * @return Keys, most frequent first.
+     */
+    public List<HeavyHitter> top(int limit) {
+        return candidates().stream()
+                .map(candidate -> new HeavyHitter(candidate.key(),
+                        Math.min(candidate.count(), counts.estimate(candidate.key()))))
+                .sorted(Comparator.comparingLong(HeavyHitter::count).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Whether a sketch has the same dimensions, as required to merge it.
+     *
+     * @param other Sketch of another node.
+     * @return {@code true} if both can be merged.
+     */
+    public boolean isMergeableWith(HeavyHitterSketch other) {
+        return counts.width() == other.counts.width() && counts.depth() == other.counts.depth();
+    }
+
+    public long total() {
+        return counts.total();
+    }
+
+    public long errorBound() {
+        return counts.errorBound();
+    }
+
+    /**
+     * Merges the sketches of several nodes.
+     *
+     * @param sketches Sketches of the same dimensions and window.
+     * @param limit    Maximum number of keys.
+     * @return Merged heavy hitters, most frequent first.
+     */
+    public static Merged merge(Collection<HeavyHitterSketch> sketches, int limit) {
+        CountMinSketch merged = null;
+        Set<String> keys = new LinkedHashSet<>();
+        for (HeavyHitterSketch sketch : sketches) {
+            if (merged == null) {
+                merged = new CountMinSketch(sketch.counts.width(), sketch.counts.depth());
+            }
+            merged.merge(sketch.counts);
+            sketch.candidates().forEach(candidate -> keys.add(candidate.key()));
+        }
+        if (merged == null) {
+            return new Merged(List.of(), 0, 0);
+        }
+        CountMinSketch counts = merged;
+        List<HeavyHitter> top = keys.stream()
+                .map(key -> new HeavyHitter(key, counts.estimate(key)))
+                .sorted(Comparator.comparingLong(HeavyHitter::count).reversed())
+                .limit(limit)
+                .toList();
+        return new Merged(top, counts.total(), counts.errorBound());
+    }
+
+    /**
+     * Encodes the sketch, for publication to the other nodes.
+     *
+     * @return The binary form.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(VERSION);
+            counts.writeTo(out);
+            List<HeavyHitter> snapshot = candidates();
+            out.writeInt(snapshot.size());
+            for (HeavyHitter candidate : snapshot) {
+                out.writeUTF(candidate.key());
+                out.writeLong(candidate.count());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a sketch produced by {@link #encode()}. The result is read-only.
+     *
+     * @param data Binary form.
+     * @return The sketch.
+     * @throws UncheckedIOException if the data is truncated or of an
+     *                              unsupported version.
+     */
+    public static HeavyHitterSketch decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported heavy hitter sketch version " + version);
+            }
+            CountMinSketch counts = CountMinSketch.readFrom(in);
+            int size = in.readInt();
+            if (size < 0 || size > 1 << 16) {
+                throw new IOException("Invalid candidate count " + size);
+            }
+            HeavyHitter[] candidates = new HeavyHitter[size];
+            for (int i = 0; i < size; i++) {
+                candidates[i] = new HeavyHitter(in.readUTF(), in.readLong());
+            }
+            return new HeavyHitterSketch(counts, null, List.of(candidates));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<HeavyHitter> candidates() {
+        return decodedCandidates != null ? decodedCandidates : candidates.snapshot();
+    }
+
+    /**
+     * Heavy hitters merged across nodes.
+     *
+     * @param top        Most frequent keys.
+     * @param total      Requests counted by all nodes.
+     * @param errorBound Maximum overcount of each count.
+     */
+    public record Merged(List<HeavyHitter> top, long total, long errorBound) {
+    }
+}
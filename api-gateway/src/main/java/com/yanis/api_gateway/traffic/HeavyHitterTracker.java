@@ -0,0 +1,248 @@
+package com.yanis.api_gateway.traffic;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Heavy hitters of the gateway traffic, per user, client address, route and
+ * user agent, over tumbling windows.
+ *
+ * <p>
+ * Each node counts its requests in one {@link HeavyHitterSketch} per
+ * dimension and publishes them every {@code sync-interval} to the Redis hash
+ * {@code heavy_hitters:<dimension>:<window-start>} (one field per node,
+ * expiring after three windows). A report merges the sketches of all nodes
+ * for the window, or falls back to the local sketch when Redis is
+ * unavailable. Memory is bounded by the sketch dimensions: two windows of
+ * {@code width * depth} counters and up to {@code 4 * capacity} keys (one
+ * {@link SpaceSaving} top-K per lock stripe) per dimension.
+ * </p>
+ */
+public class HeavyHitterTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeavyHitterTracker.class);
+
+    private static final String KEY_PREFIX = "heavy_hitters:";
+
+    /**
+     * Dimensions along which requests are counted.
+     */
+    public enum Dimension {
+        USER, IP, ROUTE, USER_AGENT;
+
+        /**
+         * Returns the external name, e.g. {@code user-agent}.
+         */
+        public String id() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+
+        /**
+         * Parses an external name.
+         *
+         * @param id Name, e.g. {@code user-agent}.
+         * @return The dimension, or {@code null} if unknown.
+         */
+        public static Dimension fromId(String id) {
+            for (Dimension dimension : values()) {
+                if (dimension.id().equalsIgnoreCase(id)) {
+                    return dimension;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final int width;
+    private final int depth;
+    private final int capacity;
+    private final Duration window;
+    private final Duration syncInterval;
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+    private Disposable publishTask;
+
+    public HeavyHitterTracker(int width, int depth, int capacity, Duration window, Duration syncInterval,
+            ReactiveRedisTemplate<String, byte[]> redisTemplate, Clock clock) {
+        this.width = width;
+        this.depth = depth;
+        this.capacity = capacity;
+        this.window = window;
+        this.syncInterval = syncInterval;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.current = new AtomicReference<>(newWindow(clock.millis()));
+    }
+
+    /**
+     * Counts one request.
+     *
+     * @param dimension Dimension of the key.
+     * @param key       User, address, route or user agent.
+     */
+    public void record(Dimension dimension, String key) {
+        window().sketches().get(dimension).record(key);
+    }
+
+    /**
+     * Reports the heavy hitters of a dimension, merged across nodes.
+     *
+     * @param dimension      Dimension.
+     * @param previousWindow Whether to report the last complete window
+     *                       instead of the current one.
+     * @param limit          Maximum number of keys.
+     * @return The report.
+     */
+    public Mono<Report> report(Dimension dimension, boolean previousWindow, int limit) {
+        Window reported = previousWindow ? previous : window();
+        if (reported == null) {
+            return Mono.just(new Report(dimension.id(), null, null, 0, false,
+                    HeavyHitterSketch.merge(List.of(), limit)));
+        }
+        HeavyHitterSketch local = reported.sketches().get(dimension);
+        Instant start = Instant.ofEpochMilli(reported.start());
+        Instant end = start.plus(window);
+        return redisTemplate.<String, byte[]>opsForHash().entries(key(dimension, reported.start()))
+                .filter(entry -> !nodeId.equals(entry.getKey()))
+                .flatMap(entry -> decode(entry.getKey(), entry.getValue()))
+                .filter(local::isMergeableWith)
+                .collectList()
+                .map(remote -> {
+                    List<HeavyHitterSketch> sketches = new ArrayList<>(remote);
+                    sketches.add(local);
+                    return new Report(dimension.id(), start, end, sketches.size(), true,
+                            HeavyHitterSketch.merge(sketches, limit));
+                })
+                .onErrorResume(e -> {
+                    logger.warn("Heavy hitters of other nodes unavailable, reporting local counts: {}",
+                            e.getMessage());
+                    return Mono.just(new Report(dimension.id(), start, end, 1, false,
+                            HeavyHitterSketch.merge(List.of(local), limit)));
+                });
+    }
+
+    /**
+     * Starts publishing the local sketches to the other nodes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPublishing() {
+        publishTask = Flux.interval(syncInterval, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> publish())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopPublishing() {
+        if (publishTask != null) {
+            publishTask.dispose();
+        }
+    }
+
+    /**
+     * Publishes the current window, and the previous one a last time after
+     * a rotation so that its final counts are shared.
+     */
+    Mono<Void> publish() {
+        Window live = window();
+        Window last = previous;
+        Flux<Window> windows = last != null && last.finalPublished().compareAndSet(false, true)
+                ? Flux.just(live, last)
+                : Flux.just(live);
+        return windows
+                .concatMap(published -> Flux.fromArray(Dimension.values())
+                        .concatMap(dimension -> publish(published, dimension)))
+                .then()
+                .onErrorResume(e -> {
+                    logger.debug("Heavy hitter publication failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Boolean> publish(Window published, Dimension dimension) {
+        String key = key(dimension, published.start());
+        byte[] encoded = published.sketches().get(dimension).encode();
+        return redisTemplate.<String, byte[]>opsForHash().put(key, nodeId, encoded)
+                .then(redisTemplate.expire(key, window.multipliedBy(3)));
+    }
+
+    private Mono<HeavyHitterSketch> decode(String node, byte[] data) {
+        try {
+            return Mono.just(HeavyHitterSketch.decode(data));
+        } catch (UncheckedIOException e) {
+            logger.warn("Ignoring unreadable heavy hitter sketch of node {}: {}", node, e.getMessage());
+            return Mono.empty();
+        }
+    }
+
+    /**
+     * Returns the current window, rotating it once its time is over.
+     */
+    private Window window() {
+        long now = clock.millis();
+        Window live = current.get();
+        if (now < live.start() + window.toMillis()) {
+            return live;
+        }
+        Window next = newWindow(now);
+        if (current.compareAndSet(live, next)) {
+            previous = live;
+            return next;
+        }
+        return current.get();
+    }
+
+    private Window newWindow(long now) {
+        long start = now - Math.floorMod(now, window.toMillis());
+        Map<Dimension, HeavyHitterSketch> sketches = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            sketches.put(dimension, new HeavyHitterSketch(width, depth, capacity));
+        }
+        return new Window(start, sketches, new AtomicBoolean());
+    }
+
+    private static String key(Dimension dimension, long windowStart) {
+        return KEY_PREFIX + dimension.id() + ":" + windowStart;
+    }
+
+    private record Window(long start, Map<Dimension, HeavyHitterSketch> sketches, AtomicBoolean finalPublished) {
+    }
+
+    /**
+     * Heavy hitters of one dimension and window.
+     *
+     * @param dimension   Dimension id.
+     * @param windowStart Start of the window.
+     * @param windowEnd   End of the window.
+     * @param nodes       Gateway nodes whose counts are included.
+     * @param cluster     Whether the other nodes could be read.
+     * @param counts      Merged heavy hitters.
+     */
+    public record Report(String dimension, Instant windowStart, Instant windowEnd, int nodes, boolean cluster,
+            HeavyHitterSketch.Merged counts) {
+    }
+}
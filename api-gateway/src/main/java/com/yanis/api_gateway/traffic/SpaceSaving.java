@@ -0,0 +1,192 @@
+package com.yanis.api_gateway.traffic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-saving top-K: the most frequent keys of a stream in bounded memory.
+ *
+ * <p>
+ * Monitors at most {@code capacity} keys. An unmonitored key replaces the
+ * least counted one and inherits its count, so counts overestimate by at
+ * most that inherited count, and any key more frequent than
+ * {@code total / capacity} is guaranteed to be monitored.
+ * </p>
+ *
+ * <p>
+ * Counters are kept in a Stream-Summary: buckets of equal count in a list
+ * ordered by count, plus a key index, so an offer, eviction included, runs
+ * in constant time. Keys are partitioned by hash into {@value #STRIPES}
+ * independent summaries of {@code capacity} keys each, so concurrent event
+ * loops rarely wait on the same lock; each key always lands in the same
+ * stripe, and a stripe sees at most the whole stream, so the guarantee
+ * above holds per stripe.
+ * </p>
+ */
+public final class SpaceSaving {
+
+    static final int STRIPES = 4;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Top-K capacity must be positive");
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     *
+     * @param key Key.
+     */
+    public void offer(String key) {
+        int hash = key.hashCode();
+        stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].offer(key);
+    }
+
+    /**
+     * Returns the monitored keys, most frequent first.
+     *
+     * @return Keys and their (over)estimated counts.
+     */
+    public List<HeavyHitter> snapshot() {
+        List<HeavyHitter> snapshot = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(snapshot);
+        }
+        snapshot.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        return List.copyOf(snapshot);
+    }
+
+    /**
+     * One Stream-Summary, guarded by its own monitor.
+     */
+    private static final class Stripe {
+
+        private final int capacity;
+        private final Map<String, Counter> index;
+        private Bucket min;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.index = HashMap.newHashMap(capacity);
+        }
+
+        synchronized void offer(String key) {
+            Counter counter = index.get(key);
+            if (counter != null) {
+                increment(counter);
+            } else if (index.size() < capacity) {
+                counter = new Counter(key);
+                index.put(key, counter);
+                if (min == null || min.count != 1) {
+                    Bucket first = new Bucket(1);
+                    first.next = min;
+                    if (min != null) {
+                        min.prev = first;
+                    }
+                    min = first;
+                }
+                min.add(counter);
+            } else {
+                counter = min.first;
+                index.remove(counter.key);
+                counter.key = key;
+                index.put(key, counter);
+                increment(counter);
+            }
+        }
+
+        synchronized void collect(List<HeavyHitter> into) {
+            for (Bucket bucket = min; bucket != null; bucket = bucket.next) {
+                for (Counter counter = bucket.first; counter != null; counter = counter.next) {
+                    into.add(new HeavyHitter(counter.key, bucket.count));
+                }
+            }
+        }
+
+        /**
+         * Moves a counter to the bucket of the next count, creating it next
+         * to the current one if needed and dropping the current one once
+         * empty.
+         */
+        private void increment(Counter counter) {
+            Bucket bucket = counter.bucket;
+            Bucket target = bucket.next;
+            if (target == null || target.count != bucket.count + 1) {
+                target = new Bucket(bucket.count + 1);
+                target.prev = bucket;
+                target.next = bucket.next;
+                if (bucket.next != null) {
+                    bucket.next.prev = target;
+                }
+                bucket.next = target;
+            }
+            bucket.remove(counter);
+            target.add(counter);
+            if (bucket.first == null) {
+                if (bucket.prev != null) {
+                    bucket.prev.next = bucket.next;
+                } else {
+                    min = bucket.next;
+                }
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    /**
+     * Keys sharing one count, as a doubly linked list of counters.
+     */
+    private static final class Bucket {
+
+        final long count;
+        Counter first;
+        Bucket prev;
+        Bucket next;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Counter counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = first;
+            if (first != null) {
+                first.prev = counter;
+            }
+            first = counter;
+        }
+
+        void remove(Counter counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                first = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        String key;
+        Bucket bucket;
+        Counter prev;
+        Counter next;
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.yanis.api_gateway.upstream;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Upstream instances recently found refusing connections.
+ *
+ * <p>
+ * An instance that is shutting down stays in the gateway's registry copy
+ * until Eureka, then the load balancer cache, catch up. Once it refuses a
+ * connection it is quarantined for {@code duration}, which should cover
+ * that propagation; the load balancer skips it meanwhile
+ * ({@link QuarantineServiceInstanceListSupplier}). Quarantines are counted
+ * in {@code gateway.upstream.quarantined{service}} and the current number
+ * is exposed as {@code gateway.upstream.quarantine.size}.
+ * </p>
+ *
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ */
+public class InstanceQuarantine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstanceQuarantine.class);
+
+    private final Duration duration;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> releaseAt = new ConcurrentHashMap<>();
+
+    public InstanceQuarantine(Duration duration, Clock clock, MeterRegistry meterRegistry) {
+        this.duration = duration;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.upstream.quarantine.size", this, quarantine -> quarantine.size())
+                .description("Upstream instances currently quarantined after refusing connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Quarantines an instance for the configured duration.
+     *
+     * @param instance Instance that refused a connection.
+     */
+    public void quarantine(ServiceInstance instance) {
+        String serviceId = instance.getServiceId().toLowerCase(Locale.ROOT);
+        if (releaseAt.put(keyOf(instance), clock.millis() + duration.toMillis()) == null) {
+            logger.warn("Quarantining {} instance {}:{} for {} after a refused connection", serviceId,
+                    instance.getHost(), instance.getPort(), duration);
+        }
+        Counter.builder("gateway.upstream.quarantined")
+                .description("Connections refused by upstream instances, each extending their quarantine")
+                .tag("service", serviceId)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Checks whether an instance is quarantined.
+     *
+     * @param instance Instance to check.
+     * @return true until the quarantine of the instance expires.
+     */
+    public boolean isQuarantined(ServiceInstance instance) {
+        Long until = releaseAt.get(keyOf(instance));
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        releaseAt.remove(keyOf(instance), until);
+        return false;
+    }
+
+    /**
+     * Removes quarantined instances from a list, unless all are quarantined:
+     * a stale quarantine then costs one more refused connection rather than
+     * an outage of the service.
+     *
+     * @param instances Instances of one service.
+     * @return The instances to balance over.
+     */
+    public List<ServiceInstance> filter(List<ServiceInstance> instances) {
+        if (releaseAt.isEmpty()) {
+            return instances;
+        }
+        List<ServiceInstance> available = instances.stream()
+                .filter(instance -> !isQuarantined(instance))
+                .toList();
+        return available.isEmpty() ? instances : available;
+    }
+
+    int size() {
+        long now = clock.millis();
+        releaseAt.values().removeIf(until -> until <= now);
+        return releaseAt.size();
+    }
+
+    private static String keyOf(ServiceInstance instance) {
+        return instance.getServiceId().toLowerCase(Locale.ROOT) + "/" + instance.getHost() + ":"
+                + instance.getPort();
+    }
+}
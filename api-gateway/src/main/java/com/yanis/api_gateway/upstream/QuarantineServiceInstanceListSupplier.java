@@ -0,0 +1,40 @@
+package com.yanis.api_gateway.upstream;
+
+import java.util.List;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Load balancer instance list without the instances of
+ * {@link InstanceQuarantine}.
+ *
+ * <p>
+ * Must wrap the caching supplier rather than sit under it, so that a
+ * quarantine applies to the next request instead of the next cache refresh.
+ * </p>
+ */
+public class QuarantineServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final InstanceQuarantine quarantine;
+
+    public QuarantineServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+            InstanceQuarantine quarantine) {
+        super(delegate);
+        this.quarantine = quarantine;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return getDelegate().get().map(quarantine::filter);
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        return getDelegate().get(request).map(quarantine::filter);
+    }
+}
@@ -0,0 +1,148 @@
+package com.yanis.api_gateway.upstream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Last-known service registry, as persisted by {@link RegistrySnapshotStore}.
+ *
+ * <p>
+ * Binary layout ({@link DataOutputStream} primitives, strings as modified
+ * UTF-8):
+ * </p>
+ *
+ * <pre>
+ * magic "GWRS"(4) | version(1) | reconciledAt epoch millis(8) | services(2)
+ *   per service: serviceId | instances(2)
+ *     per instance: instanceId | host | port(4) | secure(1) | metadata(2)
+ *       per entry: key | value
+ * </pre>
+ *
+ * <p>
+ * Services are keyed by lower-case service id and written in key order, so
+ * an unchanged registry encodes to the same bytes (see
+ * {@link #encodeServices()}).
+ * </p>
+ *
+ * @param reconciledAt Last time the content was confirmed by the registry.
+ * @param services     Instances by lower-case service id.
+ */
+public record RegistrySnapshot(Instant reconciledAt, Map<String, List<ServiceInstance>> services) {
+
+    private static final int MAGIC = 0x47575253;
+    private static final byte VERSION = 1;
+
+    public RegistrySnapshot {
+        services = new TreeMap<>(services);
+    }
+
+    /**
+     * Encodes the snapshot.
+     *
+     * @return The binary form.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(reconciledAt.toEpochMilli());
+            writeServices(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes the services only, to detect registry changes independently of
+     * {@link #reconciledAt()}.
+     *
+     * @return The binary form of the services.
+     */
+    public byte[] encodeServices() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeServices(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot produced by {@link #encode()}.
+     *
+     * @param data Binary form.
+     * @return The snapshot.
+     * @throws IOException if the data is truncated, of another format or of
+     *                     an unsupported version.
+     */
+    public static RegistrySnapshot decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a registry snapshot");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported registry snapshot version " + version);
+            }
+            Instant reconciledAt = Instant.ofEpochMilli(in.readLong());
+            int serviceCount = in.readUnsignedShort();
+            Map<String, List<ServiceInstance>> services = new TreeMap<>();
+            for (int s = 0; s < serviceCount; s++) {
+                String serviceId = in.readUTF();
+                int instanceCount = in.readUnsignedShort();
+                List<ServiceInstance> instances = new ArrayList<>(instanceCount);
+                for (int i = 0; i < instanceCount; i++) {
+                    String instanceId = in.readUTF();
+                    String host = in.readUTF();
+                    int port = in.readInt();
+                    boolean secure = in.readBoolean();
+                    int metadataCount = in.readUnsignedShort();
+                    Map<String, String> metadata = new LinkedHashMap<>();
+                    for (int m = 0; m < metadataCount; m++) {
+                        metadata.put(in.readUTF(), in.readUTF());
+                    }
+                    instances.add(new DefaultServiceInstance(instanceId, serviceId, host, port, secure, metadata));
+                }
+                services.put(serviceId, List.copyOf(instances));
+            }
+            return new RegistrySnapshot(reconciledAt, services);
+        }
+    }
+
+    private void writeServices(DataOutputStream out) throws IOException {
+        out.writeShort(services.size());
+        for (Map.Entry<String, List<ServiceInstance>> service : services.entrySet()) {
+            out.writeUTF(service.getKey());
+            out.writeShort(service.getValue().size());
+            for (ServiceInstance instance : service.getValue()) {
+                out.writeUTF(instance.getInstanceId() == null ? "" : instance.getInstanceId());
+                out.writeUTF(instance.getHost());
+                out.writeInt(instance.getPort());
+                out.writeBoolean(instance.isSecure());
+                Map<String, String> metadata = new TreeMap<>(instance.getMetadata());
+                metadata.values().removeIf(value -> value == null);
+                out.writeShort(metadata.size());
+                for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue());
+                }
+            }
+        }
+    }
+}
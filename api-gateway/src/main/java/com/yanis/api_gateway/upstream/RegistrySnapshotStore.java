@@ -0,0 +1,212 @@
+package com.yanis.api_gateway.upstream;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Persists the last-known service registry to a local file, so that
+ * {@code lb://} routes have instances before the first Eureka fetch and
+ * through a Eureka outage spanning a restart.
+ *
+ * <p>
+ * The snapshot is loaded when the gateway starts. After every successful
+ * registry fetch ({@link HeartbeatEvent}) it is reconciled with the
+ * registry: the file is rewritten, atomically, when the instances changed
+ * or when it is older than {@code rewriteInterval}. An empty registry never
+ * replaces a non-empty snapshot.
+ * </p>
+ *
+ * <p>
+ * {@link SnapshotFallbackServiceInstanceListSupplier} serves the snapshot
+ * instances of a service only while the registry has none and the registry
+ * cannot be trusted: before the first successful fetch, or when none has
+ * succeeded for {@code staleAfter}. While fetches succeed an empty service
+ * is authoritative (e.g. drained), so the snapshot is not used. A snapshot
+ * last confirmed more than {@code maxAge} ago is never served. The time since
+ * the snapshot was last confirmed by the registry is exposed as
+ * {@code gateway.discovery.snapshot.age} and fallbacks are counted in
+ * {@code gateway.discovery.snapshot.fallbacks{service}}.
+ * </p>
+ */
+public class RegistrySnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrySnapshotStore.class);
+
+    private final Path path;
+    private final Duration rewriteInterval;
+    private final Duration maxAge;
+    private final Duration staleAfter;
+    private final DiscoveryClient discoveryClient;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    private volatile RegistrySnapshot snapshot;
+    private volatile Instant fetchedAt;
+    private byte[] writtenServices;
+    private Instant writtenAt = Instant.MIN;
+
+    /**
+     * Creates the store and loads the snapshot file, if any.
+     *
+     * @param path            Snapshot file.
+     * @param rewriteInterval Maximum age of the file while the registry is
+     *                        unchanged.
+     * @param maxAge          Age after which the snapshot is no longer served.
+     * @param staleAfter      Time without a successful registry fetch after
+     *                        which the registry is considered unavailable.
+     * @param discoveryClient Registry to reconcile with.
+     * @param clock           Time source.
+     * @param meterRegistry   Registry for the snapshot metrics.
+     */
+    public RegistrySnapshotStore(Path path, Duration rewriteInterval, Duration maxAge, Duration staleAfter,
+            DiscoveryClient discoveryClient, Clock clock, MeterRegistry meterRegistry) {
+        this.path = path;
+        this.rewriteInterval = rewriteInterval;
+        this.maxAge = maxAge;
+        this.staleAfter = staleAfter;
+        this.discoveryClient = discoveryClient;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.snapshot = load();
+        Gauge.builder("gateway.discovery.snapshot.age", this, store -> store.ageSeconds())
+                .description("Time since the registry snapshot was last confirmed by Eureka")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the snapshot instances of a service.
+     *
+     * @param serviceId Service id, any case.
+     * @return The instances, empty if the service is not in the snapshot, the
+     *         registry is being fetched successfully or the snapshot is older
+     *         than {@code maxAge}.
+     */
+    public List<ServiceInstance> instances(String serviceId) {
+        RegistrySnapshot current = snapshot;
+        if (current == null || !fallbackAllowed(current)) {
+            return List.of();
+        }
+        String key = serviceId.toLowerCase(Locale.ROOT);
+        List<ServiceInstance> instances = current.services().getOrDefault(key, List.of());
+        if (!instances.isEmpty()) {
+            Counter.builder("gateway.discovery.snapshot.fallbacks")
+                    .description("Instance lists served from the registry snapshot while Eureka had none")
+                    .tag("service", key)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return instances;
+    }
+
+    @EventListener(HeartbeatEvent.class)
+    public void onHeartbeat() {
+        reconcile();
+    }
+
+    /**
+     * Replaces the snapshot with the current registry and persists it if
+     * needed.
+     */
+    synchronized void reconcile() {
+        Instant now = clock.instant();
+        fetchedAt = now;
+        Map<String, List<ServiceInstance>> services = new TreeMap<>();
+        for (String serviceId : discoveryClient.getServices()) {
+            List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+            if (!instances.isEmpty()) {
+                services.put(serviceId.toLowerCase(Locale.ROOT), instances.stream()
+                        .sorted(Comparator.comparing(ServiceInstance::getHost)
+                                .thenComparingInt(ServiceInstance::getPort))
+                        .toList());
+            }
+        }
+        if (services.isEmpty()) {
+            return;
+        }
+        RegistrySnapshot current = new RegistrySnapshot(now, services);
+        snapshot = current;
+
+        byte[] encodedServices = current.encodeServices();
+        if (Arrays.equals(encodedServices, writtenServices)
+                && Duration.between(writtenAt, now).compareTo(rewriteInterval) < 0) {
+            return;
+        }
+        try {
+            write(current.encode());
+            writtenServices = encodedServices;
+            writtenAt = now;
+        } catch (IOException e) {
+            logger.warn("Cannot write registry snapshot {}: {}", path, e.toString());
+        }
+    }
+
+    private boolean fallbackAllowed(RegistrySnapshot current) {
+        Instant now = clock.instant();
+        if (Duration.between(current.reconciledAt(), now).compareTo(maxAge) > 0) {
+            return false;
+        }
+        Instant lastFetch = fetchedAt;
+        return lastFetch == null || Duration.between(lastFetch, now).compareTo(staleAfter) > 0;
+    }
+
+    double ageSeconds() {
+        RegistrySnapshot current = snapshot;
+        return current == null ? Double.NaN
+                : Duration.between(current.reconciledAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private RegistrySnapshot load() {
+        try {
+            RegistrySnapshot loaded = RegistrySnapshot.decode(Files.readAllBytes(path));
+            logger.info("Loaded registry snapshot {} ({} services, confirmed at {})", path,
+                    loaded.services().size(), loaded.reconciledAt());
+            return loaded;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable registry snapshot {}: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    private void write(byte[] data) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, data);
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.yanis.api_gateway.upstream;
+
+import java.util.List;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Load balancer instance list falling back to the
+ * {@link RegistrySnapshotStore} when the registry has no instance of the
+ * service and cannot be trusted: before the first Eureka fetch, or while
+ * fetches are failing. A service drained from a healthy registry is not
+ * brought back from the snapshot.
+ *
+ * <p>
+ * Snapshot instances may be gone; those refusing connections are then
+ * quarantined like any other ({@link InstanceQuarantine}).
+ * </p>
+ */
+public class SnapshotFallbackServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final RegistrySnapshotStore snapshotStore;
+
+    public SnapshotFallbackServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+            RegistrySnapshotStore snapshotStore) {
+        super(delegate);
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return getDelegate().get().map(this::orSnapshot);
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        return getDelegate().get(request).map(this::orSnapshot);
+    }
+
+    private List<ServiceInstance> orSnapshot(List<ServiceInstance> instances) {
+        return instances.isEmpty() ? snapshotStore.instances(getServiceId()) : instances;
+    }
+}
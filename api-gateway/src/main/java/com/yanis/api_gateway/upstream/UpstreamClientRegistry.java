@@ -0,0 +1,143 @@
+package com.yanis.api_gateway.upstream;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.route.Route;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * One Reactor Netty {@link HttpClient} and {@link ConnectionProvider} per
+ * upstream {@code lb://} service.
+ *
+ * <p>
+ * With a single shared pool, a slow service can hold every connection and
+ * pending slot and starve the others. Each service gets its own limits from
+ * {@link UpstreamPoolProperties}; the provider is named after the service, so
+ * the {@code reactor.netty.connection.provider.*} meters carry it in their
+ * {@code name} tag. Routes to other schemes keep the default client.
+ * </p>
+ *
+ * <p>
+ * The connect timeout and compression settings of
+ * {@code spring.cloud.gateway.httpclient} and the {@link HttpClientCustomizer}
+ * beans are applied to every client; the upstreams are plain HTTP inside the
+ * cluster, so the TLS and proxy settings are not.
+ * </p>
+ */
+public class UpstreamClientRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamClientRegistry.class);
+
+    private final UpstreamPoolProperties defaults;
+    private final Map<String, UpstreamPoolProperties> services;
+    private final HttpClientProperties httpClientProperties;
+    private final List<HttpClientCustomizer> customizers;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public UpstreamClientRegistry(UpstreamPoolProperties defaults, Map<String, UpstreamPoolProperties> services,
+            HttpClientProperties httpClientProperties, List<HttpClientCustomizer> customizers) {
+        this.defaults = defaults;
+        this.services = services;
+        this.httpClientProperties = httpClientProperties;
+        this.customizers = customizers;
+    }
+
+    /**
+     * Returns the service id targeted by a route.
+     *
+     * @param route Gateway route.
+     * @return Lower-case service id, or {@code null} if the route is not
+     *         {@code lb://}.
+     */
+    public static String serviceIdOf(Route route) {
+        URI uri = route.getUri();
+        if (!"lb".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+            return null;
+        }
+        return uri.getHost().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the client of a service, creating its pool on first use.
+     *
+     * @param serviceId Service id, case-insensitive.
+     * @return The service client.
+     */
+    public HttpClient clientFor(String serviceId) {
+        return upstream(serviceId).client();
+    }
+
+    /**
+     * Returns the resolved pool settings of a service.
+     *
+     * @param serviceId Service id, case-insensitive.
+     * @return Fully populated settings.
+     */
+    public UpstreamPoolProperties settingsFor(String serviceId) {
+        return upstream(serviceId).settings();
+    }
+
+    private Upstream upstream(String serviceId) {
+        return upstreams.computeIfAbsent(serviceId.toLowerCase(Locale.ROOT), this::create);
+    }
+
+    private Upstream create(String serviceId) {
+        UpstreamPoolProperties settings = UpstreamPoolProperties.resolve(serviceId, defaults, services);
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(serviceId)
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireMaxCount(settings.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(settings.pendingAcquireTimeout())
+                .maxIdleTime(settings.maxIdleTime())
+                .maxLifeTime(settings.maxLifeTime())
+                .evictInBackground(settings.evictionInterval())
+                .metrics(httpClientProperties.getPool().isMetrics());
+        if (settings.h2c()) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(settings.maxConnections())
+                    .maxConcurrentStreams(settings.maxConcurrentStreams())
+                    .build());
+        }
+        ConnectionProvider provider = builder.build();
+
+        HttpClient client = HttpClient.create(provider)
+                .compress(httpClientProperties.isCompression());
+        if (httpClientProperties.getConnectTimeout() != null) {
+            client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, httpClientProperties.getConnectTimeout());
+        }
+        if (settings.h2c()) {
+            client = client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        for (HttpClientCustomizer customizer : customizers) {
+            client = customizer.customize(client);
+        }
+
+        logger.info("Upstream pool for {}: maxConnections={}, pendingAcquireMaxCount={}, h2c={}", serviceId,
+                settings.maxConnections(), settings.pendingAcquireMaxCount(), settings.h2c());
+        return new Upstream(settings, provider, client);
+    }
+
+    @Override
+    public void destroy() {
+        upstreams.values().forEach(upstream -> upstream.provider().disposeLater()
+                .block(Duration.ofSeconds(5)));
+        upstreams.clear();
+    }
+
+    private record Upstream(UpstreamPoolProperties settings, ConnectionProvider provider, HttpClient client) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.yanis.api_gateway.upstream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Opens pooled connections to each upstream instance as soon as it appears
+ * in the registry, so the first proxied requests after a deploy or scale-out
+ * do not pay TCP (and TLS) setup.
+ *
+ * <p>
+ * During the startup warm-up and on every registry refresh
+ * ({@link HeartbeatEvent}), the
+ * {@code lb://} services targeted by routes are listed; every instance not
+ * warmed yet receives {@code prewarm-connections} concurrent requests to
+ * {@code warmup-path} through the service client, which leaves that many
+ * idle keep-alive connections in its pool (one for h2c, which multiplexes).
+ * Instances that leave the registry are forgotten, so they are warmed again
+ * if they come back. Failed warm-ups are retried on the next refresh. Before
+ * the first registry fetch, the instances of the {@link RegistrySnapshotStore}
+ * are warmed instead.
+ * </p>
+ */
+public class UpstreamConnectionPrewarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamConnectionPrewarmer.class);
+    private static final Duration WARMUP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RouteLocator routeLocator;
+    private final DiscoveryClient discoveryClient;
+    private final RegistrySnapshotStore snapshotStore;
+    private final UpstreamClientRegistry clientRegistry;
+    private final Map<String, Set<String>> warmed = new ConcurrentHashMap<>();
+
+    public UpstreamConnectionPrewarmer(RouteLocator routeLocator, DiscoveryClient discoveryClient,
+            RegistrySnapshotStore snapshotStore, UpstreamClientRegistry clientRegistry) {
+        this.routeLocator = routeLocator;
+        this.discoveryClient = discoveryClient;
+        this.snapshotStore = snapshotStore;
+        this.clientRegistry = clientRegistry;
+    }
+
+    @EventListener(HeartbeatEvent.class)
+    public void onHeartbeat() {
+        refresh();
+    }
+
+    void refresh() {
+        warmAll().subscribe();
+    }
+
+    /**
+     * Warms the instances that appeared since the last refresh.
+     *
+     * @return Completes when every warm-up started by this call has ended;
+     *         failures are logged, never signalled.
+     */
+    public Mono<Void> warmAll() {
+        return routeLocator.getRoutes()
+                .mapNotNull(UpstreamClientRegistry::serviceIdOf)
+                .distinct()
+                .flatMap(this::warmService)
+                .onErrorResume(error -> {
+                    logger.warn("Cannot list routes for connection pre-warming", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    Flux<Long> warmService(String serviceId) {
+        UpstreamPoolProperties settings = clientRegistry.settingsFor(serviceId);
+        if (settings.prewarmConnections() <= 0) {
+            return Flux.empty();
+        }
+        Set<String> current = new HashSet<>();
+        Set<String> done = warmed.computeIfAbsent(serviceId, key -> ConcurrentHashMap.newKeySet());
+        List<Mono<Long>> warmUps = new ArrayList<>();
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        if (instances.isEmpty()) {
+            instances = snapshotStore.instances(serviceId);
+        }
+        for (ServiceInstance instance : instances) {
+            String key = instance.getHost() + ":" + instance.getPort();
+            current.add(key);
+            if (done.add(key)) {
+                warmUps.add(warm(serviceId, key, instance, settings, done));
+            }
+        }
+        done.retainAll(current);
+        return Flux.merge(warmUps);
+    }
+
+    private Mono<Long> warm(String serviceId, String key, ServiceInstance instance,
+            UpstreamPoolProperties settings, Set<String> done) {
+        int connections = settings.h2c() ? 1 : settings.prewarmConnections();
+        String uri = instance.getUri().toString() + settings.warmupPath();
+        HttpClient client = clientRegistry.clientFor(serviceId);
+        return Flux.range(0, connections)
+                .flatMap(i -> client.get().uri(uri)
+                        .responseSingle((response, body) -> body.then(Mono.just(response.status().code()))),
+                        connections)
+                .timeout(WARMUP_TIMEOUT)
+                .count()
+                .doOnNext(count -> logger.info("Pre-warmed {} connection(s) to {} ({})", count, serviceId, key))
+                .onErrorResume(error -> {
+                    done.remove(key);
+                    logger.warn("Connection pre-warming to {} ({}) failed: {}", serviceId, key, error.toString());
+                    return Mono.empty();
+                });
+    }
+}
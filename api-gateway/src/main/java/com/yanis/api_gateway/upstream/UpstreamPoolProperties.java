@@ -0,0 +1,83 @@
+package com.yanis.api_gateway.upstream;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Connection pool settings of one upstream {@code lb://} service.
+ *
+ * <p>
+ * Bound from {@code gateway.upstream.defaults} and
+ * {@code gateway.upstream.services.<service-id>}; a {@code null} field falls
+ * back to the defaults.
+ * </p>
+ *
+ * @param maxConnections         Maximum connections per instance.
+ * @param pendingAcquireMaxCount Requests allowed to wait for a connection
+ *                               before failing fast.
+ * @param pendingAcquireTimeout  Maximum wait for a connection.
+ * @param maxIdleTime            Idle time after which a connection is closed.
+ * @param maxLifeTime            Age after which a connection is closed.
+ * @param evictionInterval       Background eviction interval.
+ * @param h2c                    Whether to negotiate cleartext HTTP/2 (with
+ *                               HTTP/1.1 fallback).
+ * @param maxConcurrentStreams   Streams per HTTP/2 connection.
+ * @param prewarmConnections     Connections opened to each new instance.
+ * @param warmupPath             Path requested to open warm connections.
+ */
+public record UpstreamPoolProperties(
+        Integer maxConnections,
+        Integer pendingAcquireMaxCount,
+        Duration pendingAcquireTimeout,
+        Duration maxIdleTime,
+        Duration maxLifeTime,
+        Duration evictionInterval,
+        Boolean h2c,
+        Integer maxConcurrentStreams,
+        Integer prewarmConnections,
+        String warmupPath) {
+
+    /**
+     * Built-in defaults, used for fields missing from
+     * {@code gateway.upstream.defaults}.
+     */
+    public static final UpstreamPoolProperties BUILT_IN = new UpstreamPoolProperties(500, 1000,
+            Duration.ofSeconds(45), Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30), false,
+            100, 0, "/actuator/health");
+
+    /**
+     * Returns these settings with missing fields taken from {@code fallback}.
+     *
+     * @param fallback Settings to inherit from.
+     * @return Fully populated settings.
+     */
+    public UpstreamPoolProperties withDefaults(UpstreamPoolProperties fallback) {
+        return new UpstreamPoolProperties(
+                maxConnections != null ? maxConnections : fallback.maxConnections,
+                pendingAcquireMaxCount != null ? pendingAcquireMaxCount : fallback.pendingAcquireMaxCount,
+                pendingAcquireTimeout != null ? pendingAcquireTimeout : fallback.pendingAcquireTimeout,
+                maxIdleTime != null ? maxIdleTime : fallback.maxIdleTime,
+                maxLifeTime != null ? maxLifeTime : fallback.maxLifeTime,
+                evictionInterval != null ? evictionInterval : fallback.evictionInterval,
+                h2c != null ? h2c : fallback.h2c,
+                maxConcurrentStreams != null ? maxConcurrentStreams : fallback.maxConcurrentStreams,
+                prewarmConnections != null ? prewarmConnections : fallback.prewarmConnections,
+                warmupPath != null ? warmupPath : fallback.warmupPath);
+    }
+
+    /**
+     * Resolves the settings of a service.
+     *
+     * @param serviceId Service id, case-insensitive.
+     * @param defaults  Configured defaults.
+     * @param services  Per-service settings keyed by lower-case service id.
+     * @return Fully populated settings.
+     */
+    public static UpstreamPoolProperties resolve(String serviceId, UpstreamPoolProperties defaults,
+            Map<String, UpstreamPoolProperties> services) {
+        UpstreamPoolProperties base = defaults.withDefaults(BUILT_IN);
+        UpstreamPoolProperties specific = services.get(serviceId.toLowerCase(Locale.ROOT));
+        return specific != null ? specific.withDefaults(base) : base;
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 		"spring.cloud.discovery.enabled=false",
 		"spring.data.redis.host=localhost",
 		"spring.data.redis.port=6379",
+		"gateway.warmup.enabled=false",
 		"spring.profiles.active=test"
 })
 class ApiGatewayApplicationTests {
@@ -0,0 +1,103 @@
+package com.yanis.api_gateway.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tests unitaires pour la détection d'appels bloquants
+ * {@link BlockingCallDetector}.
+ *
+ * <p>
+ * BlockHound ne s'installe qu'une fois par JVM : le détecteur est installé en
+ * mode rapport (sans échec) pour toute la classe. Nécessite
+ * {@code -XX:+AllowRedefinitionToAddDeleteMethods} (configuré dans surefire).
+ * </p>
+ *
+ * @see BlockingCallDetector
+ */
+class BlockingCallDetectorTest {
+
+    private static final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private static BlockingCallDetector detector;
+
+    @BeforeAll
+    static void install() {
+        detector = new BlockingCallDetector(meterRegistry, false,
+                List.of(BlockingCallDetectorTest.class.getName() + "#allowedSleep"));
+        detector.install();
+    }
+
+    /**
+     * Vérifie qu'un appel bloquant sur un thread non bloquant est compté et
+     * attribué à la première classe de la gateway sur la pile.
+     */
+    @Test
+    void blockingCall_OnParallelScheduler_IsCountedAndAttributed() {
+        Mono.fromCallable(() -> {
+            Thread.sleep(1);
+            return 1;
+        }).subscribeOn(Schedulers.parallel()).block();
+
+        Counter counter = meterRegistry.find("gateway.blocking.calls")
+                .tag("filter", "BlockingCallDetectorTest")
+                .counter();
+        assertEquals(1.0, counter.count());
+        assertTrue(counter.getId().getTag("operation").startsWith("java.lang.Thread.sleep"));
+        assertEquals(1, detector.callSites().size());
+    }
+
+    /**
+     * Vérifie qu'un site d'appel de la liste d'autorisation n'est pas signalé.
+     */
+    @Test
+    void blockingCall_AllowedCallSite_IsNotReported() {
+        double before = totalCount();
+
+        Mono.fromCallable(BlockingCallDetectorTest::allowedSleep)
+                .subscribeOn(Schedulers.parallel())
+                .block();
+
+        assertEquals(before, totalCount());
+    }
+
+    /**
+     * Vérifie l'attribution au filtre à partir d'une pile d'appels.
+     */
+    @Test
+    void attribute_ReturnsFirstGatewayFrame() {
+        StackTraceElement[] stack = {
+                new StackTraceElement("java.lang.Thread", "sleep", null, -1),
+                new StackTraceElement(BlockingCallDetector.class.getName(), "onBlockingCall", null, -1),
+                new StackTraceElement("com.yanis.api_gateway.filter.RateLimitFilter", "lambda$apply$0", null, 58),
+                new StackTraceElement("reactor.core.publisher.MonoDefer", "subscribe", null, -1)
+        };
+
+        StackTraceElement frame = BlockingCallDetector.attribute(stack);
+
+        assertEquals("RateLimitFilter", BlockingCallDetector.simpleName(frame.getClassName()));
+        assertEquals("Config", BlockingCallDetector.simpleName("com.yanis.api_gateway.Config$$Lambda/0x1"));
+        assertNull(BlockingCallDetector.attribute(new StackTraceElement[] { stack[0] }));
+    }
+
+    private static double totalCount() {
+        return meterRegistry.find("gateway.blocking.calls").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    static Integer allowedSleep() throws InterruptedException {
+        Thread.sleep(1);
+        return 1;
+    }
+}
@@ -0,0 +1,111 @@
+package com.yanis.api_gateway.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Tests unitaires pour les métriques Netty {@link NettyMetrics}.
+ *
+ * <p>
+ * Utilise un allocateur et un groupe de boucles d'événements dédiés pour
+ * vérifier les jauges par arène, la profondeur des files et la sonde de
+ * latence des tâches.
+ * </p>
+ *
+ * @see NettyMetrics
+ */
+class NettyMetricsTest {
+
+    private PooledByteBufAllocator allocator;
+    private DefaultEventLoopGroup eventLoops;
+    private SimpleMeterRegistry meterRegistry;
+    private NettyMetrics nettyMetrics;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new PooledByteBufAllocator(true);
+        eventLoops = new DefaultEventLoopGroup(2);
+        meterRegistry = new SimpleMeterRegistry();
+        // Sonde déclenchée manuellement
+        nettyMetrics = new NettyMetrics(allocator, eventLoops, Duration.ofHours(1));
+        nettyMetrics.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nettyMetrics.destroy();
+        eventLoops.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Vérifie qu'une jauge est enregistrée par arène et qu'elle suit les
+     * allocations.
+     */
+    @Test
+    void bindTo_RegistersGaugePerArena() {
+        int arenas = allocator.metric().directArenas().size();
+        assertEquals(arenas, meterRegistry.find("gateway.netty.allocator.arena.active.bytes")
+                .tag("type", "direct").gauges().size());
+
+        ByteBuf buffer = allocator.directBuffer(1024);
+        try {
+            double active = meterRegistry.find("gateway.netty.allocator.arena.active.allocations")
+                    .tag("type", "direct").gauges().stream()
+                    .mapToDouble(Gauge::value)
+                    .sum();
+            assertEquals(1.0, active);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Vérifie que la sonde mesure la latence de chaque boucle d'événements.
+     */
+    @Test
+    void probe_RecordsTaskLatencyPerLoop() throws InterruptedException {
+        nettyMetrics.probe();
+        for (EventExecutor loop : eventLoops) {
+            // Les tâches s'exécutent dans l'ordre : la sonde est passée après celle-ci
+            loop.submit(() -> {
+            }).sync();
+        }
+
+        for (String loop : List.of("0", "1")) {
+            Timer timer = meterRegistry.find("gateway.netty.eventloop.task.latency").tag("loop", loop).timer();
+            assertNotNull(timer);
+            assertEquals(1, timer.count());
+        }
+        assertNotNull(meterRegistry.find("gateway.netty.eventloop.pending.tasks").tag("loop", "0").gauge());
+    }
+
+    /**
+     * Vérifie le contenu de l'instantané exposé par l'endpoint.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_ContainsAllocatorAndLoops() {
+        Map<String, Object> snapshot = nettyMetrics.snapshot();
+
+        assertEquals(2, ((List<Object>) snapshot.get("eventLoops")).size());
+        Map<String, Object> memory = (Map<String, Object>) snapshot.get("allocator");
+        assertEquals(allocator.metric().directArenas().size(), ((List<Object>) memory.get("directArenas")).size());
+    }
+}
@@ -5,7 +5,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +23,9 @@ import org.springframework.web.server.ServerWebExchange;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yanis.api_gateway.security.JwtTokenProvider;
+import com.yanis.api_gateway.security.TokenIdentity;
+import com.yanis.platform_security.identity.IdentityCodec;
+import com.yanis.platform_security.identity.IdentityContext;
 
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -42,6 +49,7 @@ class AuthenticationFilterTest {
 
     private AuthenticationFilter authenticationFilter;
     private JwtTokenProvider jwtTokenProvider;
+    private IdentityCodec identityCodec;
     private ObjectMapper objectMapper;
     private GatewayFilterChain filterChain;
 
@@ -50,7 +58,10 @@ class AuthenticationFilterTest {
         jwtTokenProvider = mock(JwtTokenProvider.class);
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-        authenticationFilter = new AuthenticationFilter(jwtTokenProvider, objectMapper);
+        identityCodec = new IdentityCodec(
+                Map.of(1, "internal-identity-key-for-tests-only-256b".getBytes(StandardCharsets.UTF_8)),
+                1, Duration.ofSeconds(30), Clock.systemUTC());
+        authenticationFilter = new AuthenticationFilter(jwtTokenProvider, identityCodec, objectMapper);
         filterChain = mock(GatewayFilterChain.class);
         when(filterChain.filter(org.mockito.ArgumentMatchers.any(ServerWebExchange.class)))
                 .thenReturn(Mono.empty());
@@ -104,8 +115,8 @@ class AuthenticationFilterTest {
      * Vérifie le rejet des tokens invalides ou expirés.
      *
      * <p>
-     * Utilise {@link JwtTokenProvider#validateToken(String)} pour la validation.
-     * Doit retourner 401 si le provider retourne false.
+     * Utilise {@link JwtTokenProvider#parseIdentity(String)} pour la validation.
+     * Doit retourner 401 si le provider ne retourne aucune identité.
      * </p>
      */
     @Test
@@ -116,7 +127,7 @@ class AuthenticationFilterTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         GatewayFilter filter = authenticationFilter.apply(new AuthenticationFilter.Config());
 
-        when(jwtTokenProvider.validateToken(anyString())).thenReturn(false);
+        when(jwtTokenProvider.parseIdentity(anyString())).thenReturn(null);
 
         Mono<Void> result = filter.filter(exchange, filterChain);
 
@@ -142,9 +153,8 @@ class AuthenticationFilterTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         GatewayFilter filter = authenticationFilter.apply(new AuthenticationFilter.Config());
 
-        when(jwtTokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(jwtTokenProvider.extractEmail("valid-token")).thenReturn("user@example.com");
-        when(jwtTokenProvider.extractRoles("valid-token")).thenReturn(List.of("ROLE_USER"));
+        when(jwtTokenProvider.parseIdentity("valid-token"))
+                .thenReturn(new TokenIdentity("user@example.com", null, List.of("ROLE_USER"), "ROLE_USER", 0L));
 
         // Capture the mutated exchange
         GatewayFilterChain capturingChain = mutatedExchange -> {
@@ -158,4 +168,65 @@ class AuthenticationFilterTest {
 
         filter.filter(exchange, capturingChain).block();
     }
+
+    /**
+     * Vérifie la propagation de l'identifiant numérique des tokens compacts.
+     *
+     * <p>
+     * Les tokens émis avec le profil compact portent un {@code uid} qui doit être
+     * transmis dans `X-User-Id`, avec les rôles décodés depuis le bitmask.
+     * </p>
+     */
+    @Test
+    void shouldInjectUserIdForCompactTokens() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/secure")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer compact-token")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        GatewayFilter filter = authenticationFilter.apply(new AuthenticationFilter.Config());
+
+        when(jwtTokenProvider.parseIdentity("compact-token"))
+                .thenReturn(new TokenIdentity("user@example.com", 42L, List.of("USER", "ADMIN"), "USER,ADMIN", 0b11L));
+
+        GatewayFilterChain capturingChain = mutatedExchange -> {
+            assertEquals("42", mutatedExchange.getRequest().getHeaders().getFirst("X-User-Id"));
+            assertEquals("USER,ADMIN", mutatedExchange.getRequest().getHeaders().getFirst("X-User-Roles"));
+            return Mono.empty();
+        };
+
+        filter.filter(exchange, capturingChain).block();
+    }
+
+    /**
+     * Vérifie l'émission du header d'identité signé.
+     *
+     * <p>
+     * Le header {@code X-Identity} doit être vérifiable par les services avals
+     * avec la clé interne et porter l'identifiant, l'email et le bitmask des
+     * rôles.
+     * </p>
+     */
+    @Test
+    void shouldInjectSignedIdentityHeader() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/secure")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer compact-token")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        GatewayFilter filter = authenticationFilter.apply(new AuthenticationFilter.Config());
+
+        when(jwtTokenProvider.parseIdentity("compact-token"))
+                .thenReturn(new TokenIdentity("user@example.com", 42L, List.of("USER", "ADMIN"), "USER,ADMIN", 0b11L));
+
+        GatewayFilterChain capturingChain = mutatedExchange -> {
+            IdentityContext identity = identityCodec.verify(
+                    mutatedExchange.getRequest().getHeaders().getFirst(IdentityCodec.HEADER));
+
+            assertEquals(42L, identity.userId());
+            assertEquals("user@example.com", identity.email());
+            assertEquals(0b11L, identity.roleBits());
+            return Mono.empty();
+        };
+
+        filter.filter(exchange, capturingChain).block();
+    }
 }
@@ -0,0 +1,247 @@
+package com.yanis.api_gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.api_gateway.idempotency.IdempotencyRecord;
+import com.yanis.api_gateway.security.TokenIdentity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitaires pour le filtre d'idempotence {@link IdempotencyFilter}.
+ *
+ * <p>
+ * Vérifie qu'une requête portant un {@code Idempotency-Key} n'est exécutée
+ * qu'une fois : la réponse est stockée puis rejouée aux doublons, et une clé
+ * réutilisée pour une autre requête est refusée.
+ * </p>
+ *
+ * @see IdempotencyFilter
+ * @see IdempotencyRecord
+ */
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"fromAccount\":1,\"toAccount\":2,\"amount\":100}";
+    private static final String RESPONSE = "{\"transferId\":42}";
+
+    private ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private ReactiveValueOperations<String, byte[]> valueOperations;
+    private GatewayFilterChain filterChain;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(1L));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
+        IdempotencyFilter factory = new IdempotencyFilter(redisTemplate, objectMapper,
+                new SimpleMeterRegistry());
+        // Inject properties via reflection as @Value won't work in unit test
+        ReflectionTestUtils.setField(factory, "retention", Duration.ofHours(24));
+        ReflectionTestUtils.setField(factory, "lockTtl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(factory, "waitTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(factory, "pollInterval", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(factory, "maxBodySize", 1024);
+        filter = factory.apply(new IdempotencyFilter.Config());
+
+        filterChain = mock(GatewayFilterChain.class);
+        when(filterChain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerWebExchange exchange = invocation.getArgument(0);
+            exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap(RESPONSE.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+
+    /**
+     * Vérifie que la première requête est exécutée et sa réponse stockée,
+     * puis qu'un doublon rejoue cette réponse sans appeler le service.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void duplicate_AfterCompletion_ReplaysStoredResponse() {
+        when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        MockServerWebExchange first = exchange(BODY);
+
+        StepVerifier.create(filter.filter(first, filterChain)).verifyComplete();
+
+        ArgumentCaptor<List<Object>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), args.capture());
+        byte[] stored = (byte[]) args.getValue().get(1);
+        assertEquals(HttpStatus.CREATED, first.getResponse().getStatusCode());
+
+        when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+                .thenReturn(Mono.just(false));
+        when(valueOperations.get(anyString())).thenReturn(Mono.just(stored));
+        MockServerWebExchange duplicate = exchange(BODY);
+
+        StepVerifier.create(filter.filter(duplicate, filterChain)).verifyComplete();
+
+        verify(filterChain, times(1)).filter(any(ServerWebExchange.class));
+        assertEquals(HttpStatus.CREATED, duplicate.getResponse().getStatusCode());
+        assertEquals("true", duplicate.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(MediaType.APPLICATION_JSON, duplicate.getResponse().getHeaders().getContentType());
+        assertEquals(RESPONSE, duplicate.getResponse().getBodyAsString().block());
+    }
+
+    /**
+     * Vérifie qu'une clé déjà utilisée pour un autre corps est refusée en
+     * 422.
+     */
+    @Test
+    void reusedKey_DifferentBody_Returns422() {
+        byte[] otherFingerprint = new byte[32];
+        byte[] stored = IdempotencyRecord.completed(otherFingerprint, 201, new HttpHeaders(),
+                RESPONSE.getBytes(StandardCharsets.UTF_8)).encode();
+        when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+                .thenReturn(Mono.just(false));
+        when(valueOperations.get(anyString())).thenReturn(Mono.just(stored));
+        MockServerWebExchange exchange = exchange(BODY);
+
+        StepVerifier.create(filter.filter(exchange, filterChain)).verifyComplete();
+
+        verify(filterChain, never()).filter(any(ServerWebExchange.class));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exchange.getResponse().getStatusCode());
+    }
+
+    /**
+     * Vérifie qu'une réponse marquée {@code no-store} (jetons) n'est jamais
+     * stockée : la clé est libérée.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void noStoreResponse_ReleasesKey() {
+        when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        when(filterChain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerWebExchange exchange = invocation.getArgument(0);
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setCacheControl("no-store");
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap("{\"accessToken\":\"secret\"}".getBytes(StandardCharsets.UTF_8))));
+        });
+        MockServerWebExchange exchange = exchange(BODY);
+
+        StepVerifier.create(filter.filter(exchange, filterChain)).verifyComplete();
+
+        ArgumentCaptor<List<Object>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), args.capture());
+        assertEquals(1, args.getValue().size());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+    }
+
+    /**
+     * Vérifie que les réponses volumineuses sont stockées compressées.
+     */
+    @Test
+    void record_LargeBody_StoredCompressed() {
+        byte[] body = "{\"status\":\"ok\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+        IdempotencyRecord record = IdempotencyRecord.completed(new byte[32], 200,
+                new HttpHeaders(), body);
+
+        byte[] encoded = record.encode();
+        IdempotencyRecord decoded = IdempotencyRecord.decode(encoded);
+
+        assertTrue(encoded.length < body.length / 4);
+        assertArrayEquals(body, decoded.body());
+        assertEquals(200, decoded.status());
+    }
+
+    /**
+     * Vérifie que deux utilisateurs envoyant la même clé et le même corps ne
+     * partagent pas la réponse stockée : la portée de la clé est l'identité
+     * vérifiée par {@link AuthenticationFilter}, pas un en-tête de requête.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void sameKey_DifferentUsers_NotShared() {
+        Map<String, byte[]> store = new HashMap<>();
+        when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+                .thenAnswer(invocation -> Mono.just(
+                        store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null));
+        when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> Mono.justOrEmpty(store.get(invocation.<String>getArgument(0))));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenAnswer(invocation -> {
+            String redisKey = invocation.<List<String>>getArgument(1).get(0);
+            List<Object> args = invocation.getArgument(2);
+            if (args.size() > 1) {
+                store.put(redisKey, (byte[]) args.get(1));
+            } else {
+                store.remove(redisKey);
+            }
+            return Flux.just(1L);
+        });
+        MockServerWebExchange alice = exchange(BODY, new TokenIdentity("alice@example.com", 1L,
+                List.of("USER"), "USER", 1L));
+        MockServerWebExchange bob = exchange(BODY, new TokenIdentity("bob@example.com", 2L,
+                List.of("USER"), "USER", 1L));
+        MockServerWebExchange aliceAgain = exchange(BODY);
+
+        StepVerifier.create(filter.filter(alice, filterChain)).verifyComplete();
+        StepVerifier.create(filter.filter(bob, filterChain)).verifyComplete();
+        StepVerifier.create(filter.filter(aliceAgain, filterChain)).verifyComplete();
+
+        verify(filterChain, times(2)).filter(any(ServerWebExchange.class));
+        assertEquals(2, store.size());
+        assertNull(bob.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("true", aliceAgain.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private static MockServerWebExchange exchange(String body) {
+        return exchange(body, new TokenIdentity("user@example.com", 1L, List.of("USER"), "USER", 1L));
+    }
+
+    private static MockServerWebExchange exchange(String body, TokenIdentity identity) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/accounts/1/transfer")
+                        .header("Idempotency-Key", "transfer-7f3c")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+        exchange.getAttributes().put(AuthenticationFilter.IDENTITY_ATTR, identity);
+        return exchange;
+    }
+}
@@ -0,0 +1,57 @@
+package com.yanis.api_gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.yanis.platform_security.identity.IdentityCodec;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests unitaires pour le filtre {@link IdentityHeaderStripFilter}.
+ *
+ * <p>
+ * Un client ne doit jamais pouvoir usurper une identité en envoyant lui-même
+ * les headers de contexte utilisateur.
+ * </p>
+ *
+ * @see IdentityHeaderStripFilter
+ */
+class IdentityHeaderStripFilterTest {
+
+    private final IdentityHeaderStripFilter filter = new IdentityHeaderStripFilter();
+
+    /**
+     * Vérifie la suppression des headers d'identité fournis par le client.
+     *
+     * <p>
+     * Les autres headers (ex. Authorization) doivent être conservés.
+     * </p>
+     */
+    @Test
+    void shouldStripClientSuppliedIdentityHeaders() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/secure")
+                .header(IdentityCodec.HEADER, "forged")
+                .header("X-User-Email", "admin@example.com")
+                .header("X-User-Roles", "ADMIN")
+                .header("X-User-Id", "1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        GatewayFilterChain capturingChain = mutatedExchange -> {
+            HttpHeaders headers = mutatedExchange.getRequest().getHeaders();
+            IdentityHeaderStripFilter.IDENTITY_HEADERS.forEach(name -> assertNull(headers.getFirst(name)));
+            assertEquals("Bearer token", headers.getFirst(HttpHeaders.AUTHORIZATION));
+            return Mono.empty();
+        };
+
+        filter.filter(exchange, capturingChain).block();
+    }
+}
@@ -0,0 +1,107 @@
+package com.yanis.api_gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.api_gateway.security.CidrTrie;
+import com.yanis.api_gateway.security.IpAccessList;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitaires pour le filtre de liste d'adresses {@link IpAccessFilter}.
+ *
+ * <p>
+ * Vérifie que les adresses des plages refusées sont rejetées en 403 sans
+ * atteindre la suite de la chaîne, et que la plage la plus spécifique
+ * l'emporte.
+ * </p>
+ *
+ * @see IpAccessList
+ * @see CidrTrie
+ */
+class IpAccessFilterTest {
+
+    private WebFilterChain filterChain;
+    private IpAccessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.ip-access.deny", "10.0.0.0/8, 2001:db8::/32")
+                .withProperty("gateway.ip-access.allow", "10.1.2.0/24");
+        IpAccessList accessList = new IpAccessList(environment, null, "ip_access:deny", "ip_access:allow",
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        filter = new IpAccessFilter(accessList, new ObjectMapper(), new SimpleMeterRegistry());
+
+        filterChain = mock(WebFilterChain.class);
+        when(filterChain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
+    }
+
+    /**
+     * Vérifie qu'une adresse d'une plage refusée est rejetée avant la chaîne.
+     */
+    @Test
+    void deniedAddress_Returns403() {
+        MockServerWebExchange exchange = exchange("10.9.8.7");
+
+        StepVerifier.create(filter.filter(exchange, filterChain)).verifyComplete();
+
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+        verify(filterChain, never()).filter(any(ServerWebExchange.class));
+    }
+
+    /**
+     * Vérifie qu'une plage autorisée plus spécifique rouvre une partie d'une
+     * plage refusée, et qu'une adresse hors liste passe.
+     */
+    @Test
+    void allowedOrUnlistedAddress_PassesThrough() {
+        MockServerWebExchange allowed = exchange("10.1.2.3");
+        MockServerWebExchange unlisted = exchange("192.0.2.1");
+
+        StepVerifier.create(filter.filter(allowed, filterChain)).verifyComplete();
+        StepVerifier.create(filter.filter(unlisted, filterChain)).verifyComplete();
+
+        verify(filterChain, times(2)).filter(any(ServerWebExchange.class));
+        assertNotEquals(HttpStatus.FORBIDDEN, allowed.getResponse().getStatusCode());
+    }
+
+    /**
+     * Vérifie la correspondance des plages IPv6.
+     */
+    @Test
+    void deniedIpv6Address_Returns403() {
+        MockServerWebExchange exchange = exchange("2001:db8:0:1::42");
+
+        StepVerifier.create(filter.filter(exchange, filterChain)).verifyComplete();
+
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+    }
+
+    private static MockServerWebExchange exchange(String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login")
+                .remoteAddress(new InetSocketAddress(address, 43210)));
+    }
+}
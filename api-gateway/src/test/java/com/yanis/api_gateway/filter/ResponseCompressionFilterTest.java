@@ -0,0 +1,133 @@
+package com.yanis.api_gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.yanis.api_gateway.compression.CompressionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitaires pour le filtre de compression des réponses
+ * {@link ResponseCompressionFilter}.
+ *
+ * <p>
+ * Vérifie la négociation via {@code Accept-Encoding}, la compression en flux
+ * des réponses volumineuses et l'envoi tel quel des petites réponses.
+ * </p>
+ *
+ * @see ResponseCompressionFilter
+ */
+class ResponseCompressionFilterTest {
+
+    private static final String CHUNK = "{\"id\":1,\"amount\":100,\"currency\":\"EUR\",\"status\":\"DONE\"},";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ResponseCompressionFilter(CompressionProperties.BUILT_IN, Map.of(), false, meterRegistry);
+    }
+
+    /**
+     * Vérifie qu'une réponse JSON volumineuse, écrite en plusieurs morceaux
+     * sans longueur connue, est compressée en gzip sans perte.
+     */
+    @Test
+    void largeChunkedJson_IsGzipped() throws IOException {
+        MockServerWebExchange exchange = exchange("gzip, deflate, br");
+        byte[] expected = CHUNK.repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        StepVerifier.create(filter.filter(exchange, chain(CHUNK, 200))).verifyComplete();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, headers.getFirst(HttpHeaders.VARY));
+        byte[] body = body(exchange);
+        assertArrayEquals(expected, gunzip(body));
+        assertEquals(1, meterRegistry.get("gateway.compression.ratio").summary().count());
+    }
+
+    /**
+     * Vérifie qu'une réponse sous le seuil est envoyée non compressée.
+     */
+    @Test
+    void smallJson_SentAsIs() {
+        MockServerWebExchange exchange = exchange("gzip");
+
+        StepVerifier.create(filter.filter(exchange, chain(CHUNK, 2))).verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(CHUNK.repeat(2), new String(body(exchange), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Vérifie la négociation de l'encodage, brotli étant préféré à qualité
+     * égale.
+     */
+    @Test
+    void negotiate_HonoursQualityValues() {
+        assertEquals("br", ResponseCompressionFilter.negotiate("gzip, br", true));
+        assertEquals("gzip", ResponseCompressionFilter.negotiate("gzip, br", false));
+        assertEquals("gzip", ResponseCompressionFilter.negotiate("br;q=0.5, gzip", true));
+        assertEquals("gzip", ResponseCompressionFilter.negotiate("*", false));
+        assertNull(ResponseCompressionFilter.negotiate("identity", true));
+        assertNull(ResponseCompressionFilter.negotiate("gzip;q=0", true));
+        assertNull(ResponseCompressionFilter.negotiate(null, true));
+    }
+
+    private static MockServerWebExchange exchange(String acceptEncoding) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/transactions")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+    }
+
+    private static GatewayFilterChain chain(String chunk, int count) {
+        GatewayFilterChain chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerWebExchange exchange = invocation.getArgument(0);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Flux.range(0, count)
+                    .map(i -> exchange.getResponse().bufferFactory()
+                            .wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        });
+        return chain;
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
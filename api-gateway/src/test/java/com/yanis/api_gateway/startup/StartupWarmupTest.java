@@ -0,0 +1,120 @@
+package com.yanis.api_gateway.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.yanis.api_gateway.security.JwtTokenProvider;
+import com.yanis.api_gateway.security.TokenIdentity;
+import com.yanis.api_gateway.upstream.UpstreamConnectionPrewarmer;
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests unitaires pour le préchauffage au démarrage {@link StartupWarmup}.
+ *
+ * <p>
+ * Vérifie que l'instance passe {@code UP} dans Eureka même si une phase
+ * échoue ou si le délai global expire, sans attendre la phase bloquée.
+ * </p>
+ *
+ * @see StartupWarmup
+ */
+class StartupWarmupTest {
+
+    private static final String RATE_LIMIT_KEY = "rate_limit:warmup";
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private ApplicationInfoManager applicationInfoManager;
+    private SimpleMeterRegistry meterRegistry;
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.parseIdentity(anyString()))
+                .thenReturn(new TokenIdentity("warmup@startup.invalid", 0L, List.of("USER"), "USER", 1L));
+        IdentityCodec identityCodec = new IdentityCodec(
+                Map.of(1, "internal-identity-key-for-tests-only-256b".getBytes(StandardCharsets.UTF_8)),
+                1, Duration.ofSeconds(30), Clock.systemUTC());
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        UpstreamConnectionPrewarmer prewarmer = mock(UpstreamConnectionPrewarmer.class);
+        when(prewarmer.warmAll()).thenReturn(Mono.empty());
+        applicationInfoManager = mock(ApplicationInfoManager.class);
+        ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider = mock(ObjectProvider.class);
+        when(applicationInfoManagerProvider.getIfAvailable()).thenReturn(applicationInfoManager);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        meterRegistry = new SimpleMeterRegistry();
+
+        warmup = new StartupWarmup(jwtTokenProvider, identityCodec, RoleTable.of(List.of("USER", "ADMIN")),
+                redisTemplate, objectMapper, prewarmer, meterRegistry, applicationInfoManagerProvider);
+        ReflectionTestUtils.setField(warmup, "jwtSecret", "jwt-secret-for-warmup-tests-only-32-bytes");
+        ReflectionTestUtils.setField(warmup, "enabled", true);
+        ReflectionTestUtils.setField(warmup, "iterations", 5);
+        ReflectionTestUtils.setField(warmup, "concurrency", 2);
+        ReflectionTestUtils.setField(warmup, "timeout", Duration.ofSeconds(10));
+    }
+
+    /**
+     * Vérifie qu'une phase en échec (Redis injoignable) n'empêche ni les
+     * phases suivantes ni le passage {@code UP}.
+     */
+    @Test
+    void onReady_PhaseFails_MarksUp() {
+        when(valueOperations.increment(RATE_LIMIT_KEY))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        warmup.onReady();
+
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+        assertEquals(1, meterRegistry.get("gateway.startup.warmup").tag("phase", "upstream-pools").timer().count());
+    }
+
+    /**
+     * Vérifie qu'une phase bloquée au-delà de {@code timeout} est abandonnée
+     * et que l'instance passe tout de même {@code UP}, sans attendre la fin
+     * de la phase.
+     */
+    @Test
+    void onReady_TimeoutElapses_MarksUp() {
+        ReflectionTestUtils.setField(warmup, "timeout", Duration.ofMillis(200));
+        when(valueOperations.increment(RATE_LIMIT_KEY)).thenAnswer(invocation -> {
+            Thread.sleep(60_000);
+            return 1L;
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), warmup::onReady);
+
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+        verify(redisTemplate).delete(RATE_LIMIT_KEY);
+    }
+}
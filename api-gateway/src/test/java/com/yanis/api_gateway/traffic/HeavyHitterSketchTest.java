@@ -0,0 +1,71 @@
+package com.yanis.api_gateway.traffic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour la détection des clients les plus actifs
+ * {@link HeavyHitterSketch}.
+ *
+ * <p>
+ * Vérifie que les clés fréquentes sont retrouvées parmi un grand nombre de
+ * clés rares, que les comptes ne sont jamais sous-estimés et que les
+ * esquisses de plusieurs nœuds se fusionnent après encodage.
+ * </p>
+ *
+ * @see CountMinSketch
+ * @see SpaceSaving
+ */
+class HeavyHitterSketchTest {
+
+    /**
+     * Vérifie que les clés les plus fréquentes sont en tête, malgré un
+     * top-K bien plus petit que le nombre de clés distinctes.
+     */
+    @Test
+    void top_FindsHeavyKeysAmongNoise() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 20);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.record("ip:10.0.0." + (i % 5_000));
+            if (i % 4 == 0) {
+                sketch.record("ip:203.0.113.7");
+            }
+            if (i % 10 == 0) {
+                sketch.record("ip:198.51.100.1");
+            }
+        }
+
+        List<HeavyHitter> top = sketch.top(2);
+
+        assertEquals("ip:203.0.113.7", top.get(0).key());
+        assertEquals("ip:198.51.100.1", top.get(1).key());
+        assertTrue(top.get(0).count() >= 2_500);
+        assertTrue(top.get(0).count() <= 2_500 + sketch.errorBound());
+    }
+
+    /**
+     * Vérifie que la fusion des esquisses encodées de deux nœuds additionne
+     * les comptes, même pour une clé vue seulement dans le top-K d'un nœud.
+     */
+    @Test
+    void merge_EncodedNodeSketches_SumsCounts() {
+        HeavyHitterSketch first = new HeavyHitterSketch(512, 4, 10);
+        HeavyHitterSketch second = new HeavyHitterSketch(512, 4, 10);
+        for (int i = 0; i < 300; i++) {
+            first.record("user@example.com");
+            second.record(i % 3 == 0 ? "user@example.com" : "other@example.com");
+        }
+
+        HeavyHitterSketch.Merged merged = HeavyHitterSketch.merge(
+                List.of(HeavyHitterSketch.decode(first.encode()), HeavyHitterSketch.decode(second.encode())), 5);
+
+        assertEquals(600, merged.total());
+        assertEquals("user@example.com", merged.top().get(0).key());
+        assertEquals(400, merged.top().get(0).count());
+        assertEquals(200, merged.top().get(1).count());
+    }
+}
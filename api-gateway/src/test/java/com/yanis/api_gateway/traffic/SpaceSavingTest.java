@@ -0,0 +1,106 @@
+package com.yanis.api_gateway.traffic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour le top-K {@link SpaceSaving}.
+ *
+ * <p>
+ * Vérifie qu'une clé non suivie hérite du compte de la clé évincée, et que
+ * des mises à jour concurrentes depuis plusieurs threads ne perdent aucune
+ * occurrence.
+ * </p>
+ *
+ * @see HeavyHitterSketch
+ */
+class SpaceSavingTest {
+
+    /**
+     * Vérifie qu'une clé nouvelle remplace la moins comptée et hérite de son
+     * compte plus un.
+     */
+    @Test
+    void offer_Full_EvictsLeastCountedAndInheritsCount() {
+        SpaceSaving topK = new SpaceSaving(2);
+        String first = "a";
+        String second = sameStripe(first, "b");
+        String third = sameStripe(first, "c");
+        for (int i = 0; i < 3; i++) {
+            topK.offer(first);
+        }
+        topK.offer(second);
+
+        topK.offer(third);
+
+        List<HeavyHitter> snapshot = topK.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(new HeavyHitter(first, 3), snapshot.get(0));
+        assertEquals(new HeavyHitter(third, 2), snapshot.get(1));
+    }
+
+    /**
+     * Vérifie qu'avec plusieurs threads (comme les boucles d'événements
+     * Netty) chaque occurrence est comptée exactement une fois et que la clé
+     * dominante est suivie avec un compte jamais sous-estimé.
+     */
+    @Test
+    void offer_ConcurrentThreads_CountsEveryOccurrence() throws Exception {
+        SpaceSaving topK = new SpaceSaving(50);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        topK.offer(i % 4 == 0 ? "ip:203.0.113.7" : "ip:10." + thread + ".0." + (i % 5_000));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<HeavyHitter> snapshot = topK.snapshot();
+        assertEquals((long) threads * perThread, snapshot.stream().mapToLong(HeavyHitter::count).sum());
+        assertEquals("ip:203.0.113.7", snapshot.get(0).key());
+        assertTrue(snapshot.get(0).count() >= threads * perThread / 4);
+    }
+
+    /**
+     * Returns the first key {@code prefix0}, {@code prefix1}... hashed to the
+     * same stripe as {@code key}.
+     */
+    private static String sameStripe(String key, String prefix) {
+        for (int i = 0;; i++) {
+            String candidate = prefix + i;
+            if (stripe(candidate) == stripe(key)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (SpaceSaving.STRIPES - 1);
+    }
+}
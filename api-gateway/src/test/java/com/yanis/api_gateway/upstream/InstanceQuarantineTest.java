@@ -0,0 +1,103 @@
+package com.yanis.api_gateway.upstream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitaires pour la mise en quarantaine des instances
+ * {@link InstanceQuarantine}.
+ *
+ * <p>
+ * Vérifie qu'une instance refusant les connexions est écartée de la liste du
+ * load balancer pendant la durée configurée, sans jamais vider la liste.
+ * </p>
+ *
+ * @see InstanceQuarantine
+ * @see QuarantineServiceInstanceListSupplier
+ */
+class InstanceQuarantineTest {
+
+    private static final ServiceInstance FIRST = new DefaultServiceInstance("a", "AUTH-SERVICE", "10.0.0.1", 8081,
+            false);
+    private static final ServiceInstance SECOND = new DefaultServiceInstance("b", "AUTH-SERVICE", "10.0.0.2", 8081,
+            false);
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstanceQuarantine quarantine = new InstanceQuarantine(Duration.ofSeconds(30), clock,
+            meterRegistry);
+
+    /**
+     * Vérifie qu'une instance en quarantaine est retirée de la liste, puis
+     * réintégrée à l'expiration.
+     */
+    @Test
+    void filter_QuarantinedInstance_SkippedUntilExpiry() {
+        quarantine.quarantine(FIRST);
+
+        assertEquals(List.of(SECOND), quarantine.filter(List.of(FIRST, SECOND)));
+        assertEquals(1.0, meterRegistry.get("gateway.upstream.quarantine.size").gauge().value());
+        assertEquals(1.0, meterRegistry.get("gateway.upstream.quarantined").tag("service", "auth-service")
+                .counter().count());
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertFalse(quarantine.isQuarantined(FIRST));
+        assertEquals(List.of(FIRST, SECOND), quarantine.filter(List.of(FIRST, SECOND)));
+        assertEquals(0.0, meterRegistry.get("gateway.upstream.quarantine.size").gauge().value());
+    }
+
+    /**
+     * Vérifie que la liste complète est conservée si toutes les instances sont
+     * en quarantaine.
+     */
+    @Test
+    void filter_AllQuarantined_KeepsAllInstances() {
+        quarantine.quarantine(FIRST);
+        quarantine.quarantine(SECOND);
+
+        assertTrue(quarantine.isQuarantined(SECOND));
+        assertEquals(List.of(FIRST, SECOND), quarantine.filter(List.of(FIRST, SECOND)));
+    }
+
+    /**
+     * Horloge avançable manuellement.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
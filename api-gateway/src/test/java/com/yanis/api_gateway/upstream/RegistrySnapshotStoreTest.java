@@ -0,0 +1,168 @@
+package com.yanis.api_gateway.upstream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitaires pour la persistance du registre de services
+ * {@link RegistrySnapshotStore}.
+ *
+ * <p>
+ * Vérifie que le dernier registre connu survit à un redémarrage, qu'un
+ * registre vide ne l'écrase pas, et qu'il n'est servi que tant qu'Eureka
+ * est injoignable et qu'il n'est pas trop ancien.
+ * </p>
+ *
+ * @see RegistrySnapshot
+ * @see SnapshotFallbackServiceInstanceListSupplier
+ */
+class RegistrySnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private Instant now = NOW;
+    private final Clock clock = new Clock() {
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    };
+
+    private final Map<String, List<ServiceInstance>> registry = new HashMap<>();
+    private final DiscoveryClient discoveryClient = new DiscoveryClient() {
+
+        @Override
+        public String description() {
+            return "test";
+        }
+
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            return registry.getOrDefault(serviceId, List.of());
+        }
+
+        @Override
+        public List<String> getServices() {
+            return List.copyOf(registry.keySet());
+        }
+    };
+
+    /**
+     * Vérifie qu'un registre réconcilié est rechargé par une nouvelle
+     * instance, même sans Eureka.
+     */
+    @Test
+    void reconcile_ThenRestart_ServesLastKnownInstances() {
+        Path file = directory.resolve("registry.snapshot");
+        registry.put("AUTH-SERVICE", List.of(instance("10.0.0.2"), instance("10.0.0.1")));
+        store(file).reconcile();
+        registry.clear();
+        now = NOW.plusSeconds(90);
+
+        RegistrySnapshotStore restarted = store(file);
+
+        List<ServiceInstance> instances = restarted.instances("auth-service");
+        assertEquals(List.of("10.0.0.1", "10.0.0.2"), instances.stream().map(ServiceInstance::getHost).toList());
+        assertEquals("zone-a", instances.get(0).getMetadata().get("zone"));
+        assertEquals(90.0, restarted.ageSeconds());
+    }
+
+    /**
+     * Vérifie qu'un registre vide ne remplace pas le dernier registre connu,
+     * et que celui-ci n'est servi qu'une fois les récupérations en échec
+     * depuis {@code staleAfter} : un service retiré d'un Eureka joignable
+     * (drain) ne revient pas par le snapshot.
+     */
+    @Test
+    void reconcile_EmptyRegistry_KeepsSnapshotButServesItOnlyWhenStale() throws Exception {
+        Path file = directory.resolve("registry.snapshot");
+        registry.put("AUTH-SERVICE", List.of(instance("10.0.0.1")));
+        RegistrySnapshotStore store = store(file);
+        store.reconcile();
+        byte[] written = Files.readAllBytes(file);
+
+        registry.clear();
+        now = NOW.plusSeconds(5);
+        store.reconcile();
+
+        assertArrayEquals(written, Files.readAllBytes(file));
+        assertTrue(store.instances("AUTH-SERVICE").isEmpty());
+
+        now = NOW.plusSeconds(60);
+        assertEquals(1, store.instances("AUTH-SERVICE").size());
+    }
+
+    /**
+     * Vérifie qu'un snapshot plus ancien que {@code maxAge} n'est plus servi.
+     */
+    @Test
+    void instances_SnapshotOlderThanMaxAge_NotServed() {
+        Path file = directory.resolve("registry.snapshot");
+        registry.put("AUTH-SERVICE", List.of(instance("10.0.0.1")));
+        store(file).reconcile();
+        registry.clear();
+        now = NOW.plus(Duration.ofHours(2));
+
+        RegistrySnapshotStore restarted = store(file);
+
+        assertTrue(restarted.instances("auth-service").isEmpty());
+    }
+
+    /**
+     * Vérifie qu'un fichier illisible est ignoré au démarrage.
+     */
+    @Test
+    void load_CorruptFile_StartsEmpty() throws Exception {
+        Path file = directory.resolve("registry.snapshot");
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        RegistrySnapshotStore store = store(file);
+
+        assertTrue(store.instances("auth-service").isEmpty());
+        assertTrue(Double.isNaN(store.ageSeconds()));
+    }
+
+    private RegistrySnapshotStore store(Path file) {
+        return new RegistrySnapshotStore(file, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofSeconds(30),
+                discoveryClient, clock, new SimpleMeterRegistry());
+    }
+
+    private static ServiceInstance instance(String host) {
+        return new DefaultServiceInstance(host + ":8081", "AUTH-SERVICE", host, 8081, false,
+                Map.of("zone", "zone-a"));
+    }
+}
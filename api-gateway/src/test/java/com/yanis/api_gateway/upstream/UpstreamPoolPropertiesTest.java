@@ -0,0 +1,79 @@
+package com.yanis.api_gateway.upstream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+
+/**
+ * Tests unitaires pour la résolution des pools de connexions par service
+ * {@link UpstreamPoolProperties}.
+ *
+ * <p>
+ * Vérifie l'héritage réglages du service → valeurs par défaut configurées →
+ * valeurs intégrées, et l'identification du service cible d'une route.
+ * </p>
+ *
+ * @see UpstreamPoolProperties
+ * @see UpstreamClientRegistry
+ */
+class UpstreamPoolPropertiesTest {
+
+    private static final UpstreamPoolProperties NONE = new UpstreamPoolProperties(null, null, null, null, null,
+            null, null, null, null, null);
+
+    /**
+     * Vérifie que les réglages du service priment, puis les valeurs par
+     * défaut configurées, puis les valeurs intégrées.
+     */
+    @Test
+    void resolve_MergesServiceThenDefaultsThenBuiltIn() {
+        UpstreamPoolProperties defaults = new UpstreamPoolProperties(300, null, Duration.ofSeconds(5), null, null,
+                null, null, null, 2, null);
+        UpstreamPoolProperties authService = new UpstreamPoolProperties(50, null, null, null, null, null, true,
+                null, null, null);
+
+        UpstreamPoolProperties resolved = UpstreamPoolProperties.resolve("AUTH-SERVICE", defaults,
+                Map.of("auth-service", authService));
+
+        assertEquals(50, resolved.maxConnections());
+        assertTrue(resolved.h2c());
+        assertEquals(Duration.ofSeconds(5), resolved.pendingAcquireTimeout());
+        assertEquals(2, resolved.prewarmConnections());
+        assertEquals(UpstreamPoolProperties.BUILT_IN.pendingAcquireMaxCount(), resolved.pendingAcquireMaxCount());
+        assertEquals("/actuator/health", resolved.warmupPath());
+    }
+
+    /**
+     * Vérifie qu'un service non déclaré reçoit les valeurs par défaut.
+     */
+    @Test
+    void resolve_UndeclaredService_UsesDefaults() {
+        UpstreamPoolProperties resolved = UpstreamPoolProperties.resolve("user-service", NONE, Map.of());
+
+        assertEquals(UpstreamPoolProperties.BUILT_IN, resolved);
+    }
+
+    /**
+     * Vérifie l'extraction du service cible des routes {@code lb://}.
+     */
+    @Test
+    void serviceIdOf_OnlyLoadBalancedRoutes() {
+        assertEquals("auth-service", UpstreamClientRegistry.serviceIdOf(route("lb://AUTH-SERVICE")));
+        assertNull(UpstreamClientRegistry.serviceIdOf(route("http://localhost:8081")));
+    }
+
+    private static Route route(String uri) {
+        return Route.async()
+                .id("test")
+                .uri(URI.create(uri))
+                .predicate(exchange -> true)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yanis.auth_service.domain.model.User;
+
+/**
+ * Cost of the domain/entity mapping performed by {@link UserRepositoryImpl}
+ * on every save and lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+
+    private User user;
+    private UserEntity entity;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(42L)
+                .email("benchmark@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .createdAt(LocalDateTime.now())
+                .build();
+        user.addRole("USER");
+        user.addRole("ADMIN");
+        entity = UserRepositoryImpl.toEntity(user);
+    }
+
+    @Benchmark
+    public UserEntity toEntity() {
+        return UserRepositoryImpl.toEntity(user);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return UserRepositoryImpl.toDomain(entity);
+    }
+}
@@ -0,0 +1,127 @@
+package com.yanis.auth_service.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result with a stored baseline and fails on regressions.
+ *
+ * <p>
+ * Usage: {@code BaselineComparator <result.json> <baseline.json> <thresholdPercent|--update>}.
+ * Benchmarks are matched by name and parameters. For throughput modes a lower
+ * score is a regression, for time modes a higher one. A benchmark regresses
+ * only when the delta exceeds the threshold <em>and</em> the two error
+ * intervals do not overlap, so noisy runs do not fail the build.
+ * </p>
+ *
+ * <p>
+ * A missing baseline is not an error: the tool prints how to record one and
+ * exits 0. {@code --update} copies the result over the baseline.
+ * </p>
+ */
+public final class BaselineComparator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineComparator <result.json> <baseline.json> <thresholdPercent|--update>");
+            System.exit(2);
+        }
+        Path result = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        if (!Files.exists(result)) {
+            System.err.println("No JMH result at " + result + "; run with -Pjmh exec:exec@jmh first");
+            System.exit(2);
+        }
+
+        if ("--update".equals(args[2])) {
+            Path parent = baseline.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline
+                    + "; record one on the reference machine with -Pjmh exec:exec@jmh-baseline");
+            return;
+        }
+
+        double threshold = Double.parseDouble(args[2]);
+        int regressions = compare(read(baseline), read(result), threshold);
+        if (regressions > 0) {
+            System.err.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    static int compare(Map<String, Score> baseline, Map<String, Score> current, double thresholdPercent) {
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Delta", "Status");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  NEW%n", entry.getKey(), "-", now.score(), "-");
+                continue;
+            }
+            double delta = (now.score() - before.score()) / before.score() * 100.0;
+            double worse = now.higherIsBetter() ? -delta : delta;
+            boolean overlap = Math.abs(now.score() - before.score()) <= now.error() + before.error();
+            String status;
+            if (worse > thresholdPercent && !overlap) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (-worse > thresholdPercent && !overlap) {
+                status = "IMPROVED";
+            } else {
+                status = "ok";
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s (%s)%n", entry.getKey(), before.score(), now.score(),
+                    delta, status, now.unit());
+        }
+        return regressions;
+    }
+
+    static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(key.indexOf(":") < 0 ? ':' : ',')
+                            .append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0.0);
+            scores.put(key.toString(), new Score(
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0.0 : error,
+                    metric.path("scoreUnit").asText(),
+                    "thrpt".equals(run.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    record Score(double score, double error, String unit, boolean higherIsBetter) {
+    }
+}
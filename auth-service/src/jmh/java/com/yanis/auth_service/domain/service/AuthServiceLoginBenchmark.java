@@ -0,0 +1,134 @@
+package com.yanis.auth_service.domain.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yanis.auth_service.application.security.SigningKeyRegistry;
+import com.yanis.auth_service.application.security.TokenMinter;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.in.LoginUserUseCase.AuthTokens;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+import com.yanis.auth_service.domain.port.out.UserRepository;
+import com.yanis.platform_security.RoleTable;
+
+/**
+ * End-to-end cost of {@link AuthService#login} without I/O: in-memory user
+ * lookup, BCrypt verification and signing of both tokens.
+ *
+ * <p>
+ * Comparing this with {@link JwtServiceBenchmark} and the BCrypt benchmark at
+ * the same cost shows how much of a login is spent outside hashing.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceLoginBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "Benchmark-Passw0rd!";
+
+    @Param({ "4", "10" })
+    public int cost;
+
+    private AuthService authService;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.secret", "benchmark-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256");
+        SigningKeyRegistry keyRegistry = new SigningKeyRegistry(environment);
+        JwtService jwtService = new JwtService(keyRegistry, RoleTable.parse("USER,ADMIN"),
+                new TokenMinter(keyRegistry, Clock.systemUTC()));
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 1800000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpirationMs", 604800000L);
+
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        User user = User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .passwordHash(encoder.encode(PASSWORD))
+                .createdAt(LocalDateTime.now())
+                .build();
+        user.addRole("USER");
+        repository.save(user);
+
+        authService = new AuthService(repository, encoder, jwtService, new NoThrottle(),
+                event -> {
+                }, event -> {
+                }, LatencyProfiler.noop());
+    }
+
+    @Benchmark
+    public AuthTokens login() {
+        return authService.login(EMAIL, PASSWORD, "127.0.0.1");
+    }
+
+    private static final class InMemoryUserRepository implements UserRepository {
+
+        private final Map<String, User> users = new HashMap<>();
+
+        @Override
+        public User save(User user) {
+            users.put(user.getEmail().toLowerCase(), user);
+            return user;
+        }
+
+        @Override
+        public Optional<User> insertIfAbsent(User user) {
+            return users.putIfAbsent(user.getEmail().toLowerCase(), user) == null ? Optional.of(user)
+                    : Optional.empty();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return Optional.ofNullable(users.get(email.toLowerCase()));
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return users.containsKey(email.toLowerCase());
+        }
+    }
+
+    private static final class NoThrottle implements LoginThrottle {
+
+        @Override
+        public Optional<Duration> lockedFor(String email, String clientIp) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void recordFailure(String email, String clientIp) {
+        }
+
+        @Override
+        public void recordSuccess(String email) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.yanis.auth_service.domain.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yanis.auth_service.application.security.SigningKeyRegistry;
+import com.yanis.auth_service.application.security.TokenMinter;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.platform_security.RoleTable;
+
+/**
+ * Token signing throughput of {@link JwtService}, including the per-call
+ * signing key lookup, for the full and compact claim profiles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean compactClaims;
+
+    private JwtService jwtService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.secret", "benchmark-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256");
+        SigningKeyRegistry keyRegistry = new SigningKeyRegistry(environment);
+        jwtService = new JwtService(keyRegistry, RoleTable.parse("USER,ADMIN"),
+                new TokenMinter(keyRegistry, Clock.systemUTC()));
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 1800000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpirationMs", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "compactClaims", compactClaims);
+
+        user = User.builder()
+                .id(42L)
+                .email("benchmark@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .createdAt(LocalDateTime.now())
+                .build();
+        user.addRole("USER");
+        user.addRole("ADMIN");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(user);
+    }
+}
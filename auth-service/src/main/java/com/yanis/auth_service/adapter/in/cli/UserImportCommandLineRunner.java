@@ -0,0 +1,71 @@
+package com.yanis.auth_service.adapter.in.cli;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase.ImportReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-line mode for bulk user imports.
+ *
+ * <p>
+ * Active only when {@code auth.import.file} is set. Runs the import, writes
+ * the report next to the input ({@code <file>.report.json}) and exits with
+ * status 0 if it completed, 1 otherwise:
+ * </p>
+ *
+ * <pre>
+ * java -jar auth-service.jar --spring.main.web-application-type=none \
+ *     --eureka.client.enabled=false \
+ *     --auth.import.file=/data/partner.csv --auth.import.format=CSV \
+ *     --auth.import.resume-after-line=0
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportCommandLineRunner implements ApplicationRunner {
+
+    private final ImportUsersUseCase importUsersUseCase;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${auth.import.file}")
+    private Path file;
+
+    @Value("${auth.import.format:NDJSON}")
+    private ImportUsersUseCase.Format format;
+
+    @Value("${auth.import.resume-after-line:0}")
+    private long resumeAfterLine;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ImportReport report;
+        try (InputStream input = Files.newInputStream(file)) {
+            report = importUsersUseCase.importUsers(input, format, resumeAfterLine);
+        }
+
+        Path reportFile = file.resolveSibling(file.getFileName() + ".report.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        log.info("Import report written to {}", reportFile);
+
+        int exitCode = report.completed() ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
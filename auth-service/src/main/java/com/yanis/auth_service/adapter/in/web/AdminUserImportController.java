@@ -0,0 +1,69 @@
+package com.yanis.auth_service.adapter.in.web;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase.ImportReport;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for administrative user imports.
+ *
+ * <p>
+ * Requires the {@code ADMIN} role, taken from the signed identity header set
+ * by the API Gateway. The request body is streamed straight into the import,
+ * so files of any size can be posted.
+ * </p>
+ *
+ * <p>
+ * <strong>Base Path:</strong> {@code /admin/users}
+ * </p>
+ *
+ * @see ImportUsersUseCase
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Administration", description = "Administrative user management endpoints")
+public class AdminUserImportController {
+
+        private final ImportUsersUseCase importUsersUseCase;
+
+        @Operation(summary = "Bulk import users", description = "Streams NDJSON or CSV users with pre-hashed (BCrypt) passwords. Rows are validated in parallel and inserted in batches. Resume a failed run with resumeAfterLine set to the previous committedThroughLine.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Import completed (rejected rows are listed in the report)"),
+                        @ApiResponse(responseCode = "500", description = "Import aborted; the report tells where to resume"),
+                        @ApiResponse(responseCode = "403", description = "ADMIN role required")
+        })
+        @PostMapping("/import")
+        public ResponseEntity<ImportReport> importUsers(
+                        @RequestParam(defaultValue = "NDJSON") ImportUsersUseCase.Format format,
+                        @RequestParam(defaultValue = "0") long resumeAfterLine,
+                        HttpServletRequest request) throws IOException {
+                log.info("User import request received: format={}, resumeAfterLine={}", format, resumeAfterLine);
+
+                ImportReport report = importUsersUseCase.importUsers(request.getInputStream(), format,
+                                resumeAfterLine);
+
+                return ResponseEntity
+                                .status(report.completed() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body(report);
+        }
+}
@@ -1,5 +1,6 @@
 package com.yanis.auth_service.adapter.in.web;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +21,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +42,7 @@ import lombok.extern.slf4j.Slf4j;
  * @see LoginUserUseCase
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 @Slf4j
@@ -80,21 +83,40 @@ public class AuthController {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "User successfully authenticated", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
                         @ApiResponse(responseCode = "400", description = "Invalid request (validation errors)", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
-                        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+                        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+                        @ApiResponse(responseCode = "429", description = "Too many failed attempts, account or IP locked out", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
         })
         @PostMapping("/login")
-        public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                        HttpServletRequest httpRequest) {
                 log.info("Login request received for email: {}", request.email());
 
                 LoginUserUseCase.AuthTokens tokens = loginUserUseCase.login(
                                 request.email(),
-                                request.password());
+                                request.password(),
+                                clientIp(httpRequest));
 
                 return ResponseEntity.ok(new AuthResponse(
                                 tokens.accessToken(),
                                 tokens.refreshToken()));
         }
 
+        /**
+         * Resolves the client IP behind the API Gateway.
+         *
+         * <p>
+         * The gateway appends the peer address to {@code X-Forwarded-For}, so the
+         * last entry is the one it observed; earlier entries are client-supplied.
+         * </p>
+         */
+        private static String clientIp(HttpServletRequest request) {
+                String forwardedFor = request.getHeader("X-Forwarded-For");
+                if (forwardedFor == null || forwardedFor.isBlank()) {
+                        return request.getRemoteAddr();
+                }
+                return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+        }
+
         @Operation(summary = "Health check", description = "Simple health check endpoint to verify the service is running.")
         @ApiResponse(responseCode = "200", description = "Service is healthy")
         @GetMapping("/health")
@@ -2,13 +2,18 @@ package com.yanis.auth_service.adapter.in.web;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
+import com.yanis.auth_service.domain.exception.AccountLockedException;
 import com.yanis.auth_service.domain.exception.InvalidCredentialsException;
 import com.yanis.auth_service.domain.exception.UserAlreadyExistsException;
 
@@ -70,6 +75,29 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    /**
+     * Handles login lockouts (too many failed attempts).
+     *
+     * @param ex The exception carrying the remaining lockout.
+     * @return ProblemDetail with 429 Too Many Requests status and Retry-After.
+     */
+    @ExceptionHandler(AccountLockedException.class)
+    public ResponseEntity<ProblemDetail> handleAccountLocked(AccountLockedException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too many failed login attempts, retry later");
+        problem.setTitle("Login Locked");
+        problem.setType(URI.create("/errors/login-locked"));
+        problem.setProperty(TIMESTAMP_PROPERTY, Instant.now());
+        problem.setProperty("retryAfterSeconds", retryAfterSeconds);
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(problem);
+    }
+
     /**
      * Handles validation errors from @Valid annotations.
      *
@@ -94,4 +122,51 @@ public class GlobalExceptionHandler {
 
         return problem;
     }
+
+    /**
+     * Handles validation errors from @Valid annotations (reactive adapter set).
+     *
+     * @param ex The exception containing field validation errors.
+     * @return ProblemDetail with 400 Bad Request status and field errors.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ProblemDetail handleReactiveValidationErrors(WebExchangeBindException ex) {
+        log.warn("Validation failed: {} errors", ex.getErrorCount());
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST,
+                "Validation failed for one or more fields");
+        problem.setTitle("Validation Error");
+        problem.setType(URI.create("/errors/validation-failed"));
+        problem.setProperty(TIMESTAMP_PROPERTY, Instant.now());
+
+        var errors = ex.getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+        problem.setProperty("errors", errors);
+
+        return problem;
+    }
+
+    /**
+     * Handles saturation of the bounded password hashing scheduler.
+     *
+     * @param ex The exception thrown when the hashing queue is full.
+     * @return ProblemDetail with 503 Service Unavailable status.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ProblemDetail> handleRejectedExecution(RejectedExecutionException ex) {
+        log.warn("Password hashing queue full: {}", ex.getMessage());
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many concurrent authentications, retry shortly");
+        problem.setTitle("Service Busy");
+        problem.setType(URI.create("/errors/service-busy"));
+        problem.setProperty(TIMESTAMP_PROPERTY, Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
 }
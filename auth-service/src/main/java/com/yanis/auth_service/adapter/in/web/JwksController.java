@@ -0,0 +1,48 @@
+package com.yanis.auth_service.adapter.in.web;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yanis.auth_service.application.security.SigningKeyRegistry;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes the public JWT verification keys as a JWK Set (RFC 7517).
+ *
+ * <p>
+ * Only asymmetric public keys are exposed; HMAC secrets never leave the
+ * service. The API Gateway polls this endpoint to verify tokens signed with
+ * ES256/EdDSA keys without sharing any secret.
+ * </p>
+ *
+ * @see SigningKeyRegistry
+ */
+@RestController
+@RequestMapping("/auth/.well-known")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "User authentication and registration endpoints")
+public class JwksController {
+
+        private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+        private final SigningKeyRegistry keyRegistry;
+
+        @Operation(summary = "JSON Web Key Set", description = "Public keys used to verify access and refresh tokens, indexed by kid.")
+        @ApiResponse(responseCode = "200", description = "Current JWK Set")
+        @GetMapping("/jwks.json")
+        public ResponseEntity<Map<String, Object>> jwks() {
+                return ResponseEntity.ok()
+                                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                                .body(keyRegistry.jwks());
+        }
+}
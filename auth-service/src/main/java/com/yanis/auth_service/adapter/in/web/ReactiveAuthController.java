@@ -0,0 +1,96 @@
+package com.yanis.auth_service.adapter.in.web;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yanis.auth_service.adapter.in.web.dto.AuthResponse;
+import com.yanis.auth_service.adapter.in.web.dto.LoginRequest;
+import com.yanis.auth_service.adapter.in.web.dto.RegisterRequest;
+import com.yanis.auth_service.domain.port.in.ReactiveLoginUserUseCase;
+import com.yanis.auth_service.domain.port.in.ReactiveRegisterUserUseCase;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for authentication endpoints (profile
+ * {@code reactive}).
+ *
+ * <p>
+ * Same contract as {@link AuthController}, served by Netty without a thread
+ * per connection. Only active in a reactive web application.
+ * </p>
+ *
+ * <p>
+ * <strong>Base Path:</strong> {@code /auth}
+ * </p>
+ *
+ * @see ReactiveRegisterUserUseCase
+ * @see ReactiveLoginUserUseCase
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Authentication", description = "User authentication and registration endpoints")
+public class ReactiveAuthController {
+
+        private final ReactiveRegisterUserUseCase registerUserUseCase;
+        private final ReactiveLoginUserUseCase loginUserUseCase;
+
+        @PostMapping("/register")
+        public Mono<ResponseEntity<AuthResponse>> register(@Valid @RequestBody RegisterRequest request,
+                        ServerHttpRequest httpRequest) {
+                log.info("Registration request received for email: {}", request.email());
+
+                return registerUserUseCase.register(request.email(), request.password())
+                                .then(loginUserUseCase.login(request.email(), request.password(),
+                                                clientIp(httpRequest)))
+                                .map(tokens -> ResponseEntity
+                                                .status(HttpStatus.CREATED)
+                                                .body(new AuthResponse(tokens.accessToken(),
+                                                                tokens.refreshToken())));
+        }
+
+        @PostMapping("/login")
+        public Mono<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                        ServerHttpRequest httpRequest) {
+                log.info("Login request received for email: {}", request.email());
+
+                return loginUserUseCase.login(request.email(), request.password(), clientIp(httpRequest))
+                                .map(tokens -> ResponseEntity.ok(new AuthResponse(
+                                                tokens.accessToken(),
+                                                tokens.refreshToken())));
+        }
+
+        @GetMapping("/health")
+        public Mono<ResponseEntity<String>> health() {
+                return Mono.just(ResponseEntity.ok("Auth Service is running (reactive)"));
+        }
+
+        /**
+         * Resolves the client IP behind the API Gateway (last
+         * {@code X-Forwarded-For} entry, see {@link AuthController}).
+         */
+        private static String clientIp(ServerHttpRequest request) {
+                String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+                if (forwardedFor != null && !forwardedFor.isBlank()) {
+                        return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+                }
+                InetSocketAddress remoteAddress = request.getRemoteAddress();
+                return remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : null;
+        }
+}
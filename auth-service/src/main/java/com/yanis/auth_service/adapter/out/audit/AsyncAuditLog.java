@@ -0,0 +1,237 @@
+package com.yanis.auth_service.adapter.out.audit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yanis.auth_service.domain.model.AuditEvent;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queued implementation of {@link AuditLog}.
+ *
+ * <p>
+ * Callers only enqueue into a bounded queue ({@code auth.audit.queue-capacity});
+ * a single background thread takes whatever has accumulated, up to
+ * {@code auth.audit.batch-size} events, and writes it with one multi-row
+ * insert. Batches therefore grow with load without adding latency when
+ * traffic is light. Durability is set by {@code auth.audit.durability} (see
+ * {@link AuditDurability}).
+ * </p>
+ *
+ * <p>
+ * Nothing is silently dropped: when the queue is full the caller writes its
+ * own event inline, and a batch that still fails after
+ * {@code auth.audit.max-attempts} is written to the {@code AUDIT_FALLBACK}
+ * log. Queued events are flushed on shutdown, after the web server has
+ * stopped accepting requests.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AsyncAuditLog implements AuditLog, SmartLifecycle {
+
+    private static final Logger fallbackLog = LoggerFactory.getLogger("AUDIT_FALLBACK");
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final JdbcAuditWriter writer;
+    private final BlockingQueue<PendingAudit> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AuditDurability durability;
+    private final Duration syncTimeout;
+    private final Duration shutdownTimeout;
+    private final DistributionSummary batchSizes;
+    private final Counter written;
+    private final Counter inline;
+    private final Counter lost;
+    private final Counter syncTimeouts;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncAuditLog(JdbcAuditWriter writer, MeterRegistry meterRegistry,
+            @Value("${auth.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${auth.audit.batch-size:500}") int batchSize,
+            @Value("${auth.audit.max-attempts:3}") int maxAttempts,
+            @Value("${auth.audit.durability:SYNC_ON_FAILURE}") AuditDurability durability,
+            @Value("${auth.audit.sync-timeout:2s}") Duration syncTimeout,
+            @Value("${auth.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.durability = durability;
+        this.syncTimeout = syncTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.batchSizes = DistributionSummary.builder("auth.audit.batch.size")
+                .description("Audit events per insert")
+                .register(meterRegistry);
+        this.written = Counter.builder("auth.audit.written")
+                .description("Audit events persisted")
+                .register(meterRegistry);
+        this.inline = Counter.builder("auth.audit.inline")
+                .description("Audit events written by the caller because the queue was full")
+                .register(meterRegistry);
+        this.lost = Counter.builder("auth.audit.fallback")
+                .description("Audit events that could not be persisted and went to the fallback log")
+                .register(meterRegistry);
+        this.syncTimeouts = Counter.builder("auth.audit.sync.timeouts")
+                .description("Synchronous audit writes that did not complete in time")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+            return;
+        }
+        enqueue(event);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("audit-writer").daemon().start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Audit writer stopped with {} queued events", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server (phase {@code DEFAULT_PHASE - 1024}) so
+     * in-flight requests can still audit.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void enqueue(AuditEvent event) {
+        boolean sync = durability == AuditDurability.SYNC_ON_FAILURE && event.type().isFailure();
+        PendingAudit pending = new PendingAudit(event, sync ? new CompletableFuture<>() : null);
+        if (!running || !queue.offer(pending)) {
+            inline.increment();
+            persist(List.of(pending));
+            return;
+        }
+        if (sync) {
+            await(pending.written());
+        }
+    }
+
+    private void await(CompletableFuture<Void> written) {
+        try {
+            written.get(syncTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            syncTimeouts.increment();
+            log.warn("Audit event not persisted within {}ms", syncTimeout.toMillis());
+        }
+    }
+
+    private void runWriter() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAudit first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<PendingAudit> batch) {
+        List<AuditEvent> events = batch.stream().map(PendingAudit::event).toList();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                writer.write(events);
+                written.increment(events.size());
+                batchSizes.record(events.size());
+                batch.forEach(PendingAudit::complete);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Audit batch of {} failed (attempt {}/{}): {}", events.size(), attempt, maxAttempts,
+                        e.getMessage());
+                if (attempt < maxAttempts && !backOff(attempt)) {
+                    break;
+                }
+            }
+        }
+        lost.increment(events.size());
+        events.forEach(event -> fallbackLog.error("{}", event));
+        batch.forEach(PendingAudit::complete);
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(100L << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PendingAudit(AuditEvent event, CompletableFuture<Void> written) {
+
+        private void complete() {
+            if (written != null) {
+                written.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.yanis.auth_service.adapter.out.audit;
+
+/**
+ * How durable an audit event is when {@link AsyncAuditLog#record} returns.
+ */
+public enum AuditDurability {
+
+    /**
+     * Every event is queued and written in the background; events still queued
+     * when the process dies are lost.
+     */
+    FIRE_AND_FORGET,
+
+    /**
+     * Failure events (rejected logins) are written before the response is
+     * sent, bounded by {@code auth.audit.sync-timeout}; other events are
+     * written in the background.
+     */
+    SYNC_ON_FAILURE
+}
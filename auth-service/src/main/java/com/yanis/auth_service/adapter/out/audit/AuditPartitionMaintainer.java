@@ -0,0 +1,164 @@
+package com.yanis.auth_service.adapter.out.audit;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates and retires the monthly partitions of {@code auth_audit_log}.
+ *
+ * <p>
+ * On startup and daily ({@code auth.audit.partitions.cron}) it creates the
+ * partitions of the current month and the next
+ * {@code auth.audit.partitions.months-ahead} months (UTC boundaries), so
+ * inserts never land in the default partition. When
+ * {@code auth.audit.partitions.retention-months} is positive, partitions
+ * whose whole month is older than that are dropped: retiring a month is a
+ * metadata operation instead of a large {@code DELETE}.
+ * </p>
+ *
+ * <p>
+ * The startup run is a lifecycle phase before {@link AsyncAuditLog} and the
+ * web server: once a row of a month lands in the default partition, that
+ * month's partition can no longer be created.
+ * </p>
+ *
+ * <p>
+ * A transaction-scoped advisory lock keeps concurrent instances from running
+ * the DDL at the same time.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AuditPartitionMaintainer implements SmartLifecycle {
+
+    private static final String TABLE = "auth_audit_log";
+    private static final long ADVISORY_LOCK_KEY = 0x61756469744C6FL;
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private static final String LIST_PARTITIONS = """
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auth.audit.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${auth.audit.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    private volatile boolean running;
+
+    public AuditPartitionMaintainer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void start() {
+        maintain();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the audit writer (phase {@code DEFAULT_PHASE - 2048}) and
+     * the web server.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Creates upcoming partitions and drops expired ones.
+     */
+    @Scheduled(cron = "${auth.audit.partitions.cron:0 15 2 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                        ADVISORY_LOCK_KEY);
+                if (Boolean.TRUE.equals(locked)) {
+                    YearMonth current = YearMonth.now(ZoneOffset.UTC);
+                    createPartitions(current);
+                    dropExpiredPartitions(current);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Audit partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createPartitions(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + start(month) + "') TO ('" + start(month.plusMonths(1)) + "')");
+        }
+    }
+
+    private void dropExpiredPartitions(YearMonth current) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class, TABLE);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped audit partition {} (retention {} months)", partition, retentionMonths);
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_" + SUFFIX.format(month.atDay(1));
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        String prefix = TABLE + "_y";
+        if (!partitionName.startsWith(prefix) || partitionName.length() != prefix.length() + 7) {
+            return null;
+        }
+        try {
+            String suffix = partitionName.substring(prefix.length());
+            return YearMonth.of(Integer.parseInt(suffix.substring(0, 4)), Integer.parseInt(suffix.substring(5)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String start(YearMonth month) {
+        LocalDate day = month.atDay(1);
+        return day + " 00:00:00+00";
+    }
+}
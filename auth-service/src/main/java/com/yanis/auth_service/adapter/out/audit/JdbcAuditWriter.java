@@ -0,0 +1,75 @@
+package com.yanis.auth_service.adapter.out.audit;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.yanis.auth_service.domain.model.AuditEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends audit events to the partitioned {@code auth_audit_log} table.
+ *
+ * <p>
+ * A batch is one multi-row insert: the columns are sent as arrays and
+ * expanded server-side with {@code unnest}, as in the bulk user import.
+ * Postgres routes each row to its monthly partition.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcAuditWriter {
+
+    private static final String INSERT_BATCH = """
+            INSERT INTO auth_audit_log (occurred_at, event_type, user_id, email, client_ip, detail)
+            SELECT * FROM unnest(?::timestamptz[], ?::varchar[], ?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[])
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts a batch of events in one statement.
+     *
+     * @param events Events to insert.
+     */
+    public void write(List<AuditEvent> events) {
+        int size = events.size();
+        Timestamp[] occurredAt = new Timestamp[size];
+        String[] types = new String[size];
+        Long[] userIds = new Long[size];
+        String[] emails = new String[size];
+        String[] clientIps = new String[size];
+        String[] details = new String[size];
+        for (int i = 0; i < size; i++) {
+            AuditEvent event = events.get(i);
+            occurredAt[i] = Timestamp.from(event.occurredAt());
+            types[i] = event.type().name();
+            userIds[i] = event.userId();
+            emails[i] = event.email();
+            clientIps[i] = event.clientIp();
+            details[i] = event.detail();
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_BATCH);
+            statement.setArray(1, array(connection, "timestamptz", occurredAt));
+            statement.setArray(2, array(connection, "varchar", types));
+            statement.setArray(3, array(connection, "bigint", userIds));
+            statement.setArray(4, array(connection, "varchar", emails));
+            statement.setArray(5, array(connection, "varchar", clientIps));
+            statement.setArray(6, array(connection, "varchar", details));
+            return statement;
+        });
+    }
+
+    private static Array array(Connection connection, String type, Object[] values) throws SQLException {
+        return connection.createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,126 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.auth_service.domain.event.DomainEvent;
+import com.yanis.auth_service.domain.port.out.EventOutbox;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of {@link EventOutbox} over the {@code outbox_events}
+ * table.
+ *
+ * <p>
+ * {@link #append(DomainEvent)} and {@link #appendAll(List)} run on the
+ * connection of the surrounding transaction; {@code appendAll} sends the
+ * whole list as one {@code unnest} statement. The relay side locks rows with {@code FOR UPDATE SKIP LOCKED},
+ * so several instances can drain the table concurrently without publishing
+ * the same row twice in parallel.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcEventOutbox implements EventOutbox {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (aggregate_id, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_BATCH = """
+            INSERT INTO outbox_events (aggregate_id, event_type, payload, created_at)
+            SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::text[], ?::timestamp[])
+            """;
+
+    private static final String LOCK_BATCH = """
+            SELECT id, aggregate_id, event_type, payload, created_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void append(DomainEvent event) {
+        jdbcTemplate.update(INSERT, event.aggregateId(), event.eventType(), serialize(event),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public void appendAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int size = events.size();
+        String[] aggregateIds = new String[size];
+        String[] eventTypes = new String[size];
+        String[] payloads = new String[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < size; i++) {
+            DomainEvent event = events.get(i);
+            aggregateIds[i] = event.aggregateId();
+            eventTypes[i] = event.eventType();
+            payloads[i] = serialize(event);
+            createdAt[i] = now;
+        }
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT_BATCH);
+            statement.setArray(1, connection.createArrayOf("varchar", aggregateIds));
+            statement.setArray(2, connection.createArrayOf("varchar", eventTypes));
+            statement.setArray(3, connection.createArrayOf("text", payloads));
+            statement.setArray(4, connection.createArrayOf("timestamp", createdAt));
+            return statement;
+        });
+    }
+
+    /**
+     * Locks the oldest unpublished rows for the current transaction.
+     *
+     * @param limit Maximum number of rows.
+     * @return Locked rows in id order.
+     */
+    public List<OutboxMessage> lockNextBatch(int limit) {
+        return jdbcTemplate.query(LOCK_BATCH, (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getString("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()), limit);
+    }
+
+    /**
+     * Deletes published rows.
+     *
+     * @param batch Rows acknowledged by the broker.
+     */
+    public void delete(List<OutboxMessage> batch) {
+        Long[] ids = batch.stream().map(OutboxMessage::id).toArray(Long[]::new);
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(DELETE);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            return statement;
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.eventType(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes outbox messages to Kafka.
+ *
+ * <p>
+ * All records of a batch are handed to the producer at once, so they share
+ * producer batches ({@code spring.kafka.producer.batch-size} and
+ * {@code linger.ms}), and the call returns when every send is acknowledged.
+ * The producer is idempotent ({@code enable.idempotence}, {@code acks=all}),
+ * so broker-side retries never duplicate or reorder a partition. Records are
+ * keyed by aggregate (user) id and carry {@code event-type} and
+ * {@code event-id} headers; the outbox id lets consumers discard the
+ * duplicates a relay crash between send and delete can still cause.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaOutboxPublisher implements OutboxPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final Duration sendTimeout;
+
+    public KafkaOutboxPublisher(KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${auth.outbox.topic:auth.user-events}") String topic,
+            @Value("${auth.outbox.send-timeout:10s}") Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < sends.length; i++) {
+            sends[i] = send(batch.get(i));
+        }
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Outbox batch of " + batch.size() + " not acknowledged", e);
+        }
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxMessage message) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, message.aggregateId(),
+                message.payload());
+        record.headers().add("event-type", message.eventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add("event-id", Long.toString(message.id()).getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record);
+    }
+}
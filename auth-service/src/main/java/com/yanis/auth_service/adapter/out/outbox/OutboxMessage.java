@@ -0,0 +1,15 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row awaiting publication.
+ *
+ * @param id          Outbox id (sequence value).
+ * @param aggregateId Message key.
+ * @param eventType   Event type name.
+ * @param payload     JSON payload.
+ * @param createdAt   Time the event was recorded.
+ */
+public record OutboxMessage(long id, String aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+}
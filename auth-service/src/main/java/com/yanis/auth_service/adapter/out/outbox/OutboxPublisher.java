@@ -0,0 +1,23 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.util.List;
+
+/**
+ * Sends outbox messages to the message broker.
+ *
+ * <p>
+ * Implemented by {@link KafkaOutboxPublisher}; tests substitute an in-memory
+ * publisher.
+ * </p>
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publishes a batch and returns once every message is acknowledged.
+     *
+     * @param batch Messages in outbox order.
+     * @throws RuntimeException if any message could not be published; the
+     *                          whole batch is then retried.
+     */
+    void publish(List<OutboxMessage> batch);
+}
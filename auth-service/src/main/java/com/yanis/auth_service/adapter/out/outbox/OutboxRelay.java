@@ -0,0 +1,123 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox table to the {@link OutboxPublisher}.
+ *
+ * <p>
+ * Every {@code auth.outbox.poll-interval}, the relay locks up to
+ * {@code auth.outbox.batch-size} rows, publishes them as one batch and
+ * deletes them in the same transaction, repeating while batches come back
+ * full. A failed publish rolls back and the rows are retried on the next
+ * tick, so delivery is at-least-once.
+ * </p>
+ *
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li>{@code auth.outbox.batch.size} - messages per published batch</li>
+ * <li>{@code auth.outbox.lag} - time from commit to acknowledgement, per
+ * message</li>
+ * <li>{@code auth.outbox.oldest.age} - age of the oldest row not yet
+ * published (seconds, 0 when drained)</li>
+ * <li>{@code auth.outbox.publish.failures} - failed batches</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final JdbcEventOutbox outbox;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Counter failures;
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(JdbcEventOutbox outbox, OutboxPublisher publisher,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${auth.outbox.batch-size:500}") int batchSize) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchSizes = DistributionSummary.builder("auth.outbox.batch.size")
+                .description("Outbox messages per published batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("auth.outbox.lag")
+                .description("Time from outbox commit to broker acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failures = Counter.builder("auth.outbox.publish.failures")
+                .description("Outbox batches that failed to publish")
+                .register(meterRegistry);
+        Gauge.builder("auth.outbox.oldest.age", this, OutboxRelay::oldestPendingSeconds)
+                .description("Age of the oldest unpublished outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes pending rows until the outbox is drained or a batch fails.
+     */
+    @Scheduled(fixedDelayString = "${auth.outbox.poll-interval:200ms}")
+    public void drain() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishNextBatch());
+            } while (published != null && published == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox publish failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int publishNextBatch() {
+        List<OutboxMessage> batch = outbox.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            oldestPending.set(null);
+            return 0;
+        }
+        oldestPending.set(batch.get(0).createdAt());
+
+        publisher.publish(batch);
+        outbox.delete(batch);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : batch) {
+            lag.record(Duration.between(message.createdAt(), now));
+        }
+        batchSizes.record(batch.size());
+        if (batch.size() < batchSize) {
+            oldestPending.set(null);
+        }
+        return batch.size();
+    }
+
+    private double oldestPendingSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
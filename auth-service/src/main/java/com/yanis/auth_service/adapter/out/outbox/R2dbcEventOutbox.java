@@ -0,0 +1,57 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.auth_service.domain.event.DomainEvent;
+import com.yanis.auth_service.domain.port.out.ReactiveEventOutbox;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of {@link ReactiveEventOutbox} (profile
+ * {@code reactive}).
+ *
+ * <p>
+ * Writes the same {@code outbox_events} rows as {@link JdbcEventOutbox}, so
+ * {@link OutboxRelay} publishes them unchanged. The insert goes through the
+ * {@link DatabaseClient}, which joins the transaction bound by the caller's
+ * {@code TransactionalOperator}.
+ * </p>
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcEventOutbox implements ReactiveEventOutbox {
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> append(DomainEvent event) {
+        return Mono.fromCallable(() -> serialize(event))
+                .flatMap(payload -> databaseClient.sql("""
+                        INSERT INTO outbox_events (aggregate_id, event_type, payload, created_at)
+                        VALUES (:aggregateId, :eventType, :payload, :createdAt)
+                        """)
+                        .bind("aggregateId", event.aggregateId())
+                        .bind("eventType", event.eventType())
+                        .bind("payload", payload)
+                        .bind("createdAt", LocalDateTime.now())
+                        .then());
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.eventType(), e);
+        }
+    }
+}
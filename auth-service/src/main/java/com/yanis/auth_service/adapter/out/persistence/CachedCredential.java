@@ -0,0 +1,40 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.platform_security.RoleTable;
+
+/**
+ * Immutable, compact copy of the user fields needed to authenticate.
+ *
+ * <p>
+ * Roles are held as a bitmask of the shared {@link RoleTable} instead of a
+ * set of strings. {@link User} is mutable, so every cache hit hands out a
+ * fresh instance.
+ * </p>
+ *
+ * @param id           User id.
+ * @param email        Email as stored.
+ * @param passwordHash BCrypt hash.
+ * @param roleBits     Roles as a bitmask.
+ * @param createdAt    Creation timestamp.
+ */
+record CachedCredential(Long id, String email, String passwordHash, long roleBits, LocalDateTime createdAt) {
+
+    static CachedCredential of(User user, RoleTable roleTable) {
+        return new CachedCredential(user.getId(), user.getEmail(), user.getPasswordHash(),
+                roleTable.encode(user.getRoles()), user.getCreatedAt());
+    }
+
+    User toUser(RoleTable roleTable) {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .passwordHash(passwordHash)
+                .roles(new HashSet<>(roleTable.decode(roleBits)))
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.UserRepository;
+import com.yanis.platform_security.RoleTable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache decorating the JPA {@link UserRepository} adapter.
+ *
+ * <p>
+ * {@link #findByEmail(String)} is served from a size- and TTL-bounded local
+ * Caffeine cache keyed by normalised email, holding {@link CachedCredential}
+ * records, so repeat logins skip the JPA query and entity mapping. Misses
+ * are not cached.
+ * </p>
+ *
+ * <p>
+ * {@link #save(User)} evicts the entry locally and publishes the email on
+ * {@value #INVALIDATION_CHANNEL} once the transaction commits, so every
+ * instance drops its copy. The TTL bounds staleness if a message is lost.
+ * Hit, miss and eviction counts are exposed as {@code cache.*} metrics
+ * ({@code cache=users}).
+ * </p>
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "auth.user-cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CachingUserRepository implements UserRepository {
+
+    /**
+     * Redis pub/sub channel carrying emails to evict.
+     */
+    public static final String INVALIDATION_CHANNEL = "auth:user-cache:invalidate";
+
+    private final UserRepositoryImpl delegate;
+    private final RoleTable roleTable;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, CachedCredential> cache;
+
+    public CachingUserRepository(UserRepositoryImpl delegate, RoleTable roleTable,
+            StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.max-size:100000}") long maxSize,
+            @Value("${auth.user-cache.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.roleTable = roleTable;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> insertIfAbsent(User user) {
+        // Only existing users are cached, so a new row has nothing to evict
+        return delegate.insertIfAbsent(user);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        String key = normalize(email);
+        CachedCredential cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached.toUser(roleTable));
+        }
+        Optional<User> user = delegate.findByEmail(email);
+        user.filter(found -> roleTable.canEncode(found.getRoles()))
+                .ifPresent(found -> cache.put(key, CachedCredential.of(found, roleTable)));
+        return user;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    /**
+     * Drops the local entry for an email (invalidation message received).
+     *
+     * @param email The email to evict.
+     */
+    public void evictLocal(String email) {
+        cache.invalidate(normalize(email));
+    }
+
+    private void invalidate(String email) {
+        evictLocal(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(email);
+                }
+            });
+        } else {
+            publish(email);
+        }
+    }
+
+    private void publish(String email) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (RuntimeException e) {
+            log.warn("User cache invalidation not published, other instances expire on TTL: {}", e.getMessage());
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
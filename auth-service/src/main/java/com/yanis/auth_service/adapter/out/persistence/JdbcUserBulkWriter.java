@@ -0,0 +1,90 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yanis.auth_service.domain.event.UserRegistered;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.EventOutbox;
+import com.yanis.auth_service.domain.port.out.UserBulkWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of {@link UserBulkWriter}.
+ *
+ * <p>
+ * A whole batch is sent as four array parameters and expanded server-side
+ * with {@code unnest}, so one statement and one round trip insert thousands
+ * of rows. This bypasses JPA, whose {@code IDENTITY} ids rule out JDBC
+ * batching; ids still come from the {@code users} sequence. Duplicates are
+ * skipped by the case-insensitive unique index.
+ * </p>
+ *
+ * <p>
+ * The inserted rows are returned, and their {@link UserRegistered} events
+ * go to the outbox with one more {@code unnest} statement in the same
+ * transaction.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcUserBulkWriter implements UserBulkWriter {
+
+    private static final String INSERT_BATCH = """
+            INSERT INTO users (email, password_hash, roles, created_at)
+            SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::timestamp[])
+            ON CONFLICT ((lower(email))) DO NOTHING
+            RETURNING id, email, roles, created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventOutbox eventOutbox;
+
+    @Override
+    @Transactional
+    public int insertBatch(List<User> users) {
+        int size = users.size();
+        String[] emails = new String[size];
+        String[] hashes = new String[size];
+        String[] roles = new String[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            User user = users.get(i);
+            emails[i] = user.getEmail();
+            hashes[i] = user.getPasswordHash();
+            roles[i] = String.join(",", user.getRoles());
+            createdAt[i] = Timestamp.valueOf(user.getCreatedAt());
+        }
+
+        List<UserRegistered> events = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_BATCH);
+            statement.setArray(1, array(connection, "varchar", emails));
+            statement.setArray(2, array(connection, "varchar", hashes));
+            statement.setArray(3, array(connection, "varchar", roles));
+            statement.setArray(4, array(connection, "timestamp", createdAt));
+            return statement;
+        }, (rs, rowNum) -> new UserRegistered(
+                rs.getLong("id"),
+                rs.getString("email"),
+                Set.copyOf(Arrays.asList(rs.getString("roles").split(","))),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+
+        eventOutbox.appendAll(events);
+        return events.size();
+    }
+
+    private static Array array(Connection connection, String type, Object[] values) throws SQLException {
+        return connection.createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,80 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.ReactiveUserRepository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of {@link ReactiveUserRepository} (profile
+ * {@code reactive}).
+ *
+ * <p>
+ * Uses the same {@code users} table and statements as the JPA adapter
+ * ({@code lower(email)} lookups on the unique expression index, single
+ * {@code INSERT ... ON CONFLICT DO NOTHING RETURNING}); Flyway still owns
+ * the schema through the JDBC data source.
+ * </p>
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcUserRepository implements ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return databaseClient.sql("""
+                SELECT id, email, password_hash, roles, created_at
+                FROM users
+                WHERE lower(email) = lower(:email)
+                """)
+                .bind("email", email)
+                .map(R2dbcUserRepository::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<User> insertIfAbsent(User user) {
+        return databaseClient.sql("""
+                INSERT INTO users (email, password_hash, roles, created_at)
+                VALUES (:email, :passwordHash, :roles, :createdAt)
+                ON CONFLICT ((lower(email))) DO NOTHING
+                RETURNING id
+                """)
+                .bind("email", user.getEmail())
+                .bind("passwordHash", user.getPasswordHash())
+                .bind("roles", String.join(",", user.getRoles()))
+                .bind("createdAt", user.getCreatedAt())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> User.builder()
+                        .id(id)
+                        .email(user.getEmail())
+                        .passwordHash(user.getPasswordHash())
+                        .roles(user.getRoles())
+                        .createdAt(user.getCreatedAt())
+                        .build());
+    }
+
+    private static User toDomain(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .email(row.get("email", String.class))
+                .passwordHash(row.get("password_hash", String.class))
+                .roles(new HashSet<>(Arrays.asList(row.get("roles", String.class).split(","))))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
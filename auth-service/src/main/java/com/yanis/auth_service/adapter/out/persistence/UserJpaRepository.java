@@ -1,12 +1,37 @@
 package com.yanis.auth_service.adapter.out.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
-    Optional<UserEntity> findByEmail(String email);
-    boolean existsByEmail(String email);
+
+    // lower(email) matches the ux_users_email_lower expression index
+    @Query("SELECT u FROM UserEntity u WHERE lower(u.email) = lower(:email)")
+    Optional<UserEntity> findByEmail(@Param("email") String email);
+
+    @Query("SELECT count(u) > 0 FROM UserEntity u WHERE lower(u.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * Inserts a user in one statement, relying on the unique index to detect
+     * duplicates.
+     *
+     * @return The generated id, or empty if the email is already registered.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (email, password_hash, roles, created_at)
+            VALUES (:email, :passwordHash, :roles, :createdAt)
+            ON CONFLICT ((lower(email))) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("email") String email, @Param("passwordHash") String passwordHash,
+            @Param("roles") String roles, @Param("createdAt") LocalDateTime createdAt);
 }
@@ -5,7 +5,9 @@ import java.util.HashSet;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.yanis.auth_service.application.datasource.ReplicaLagGuard;
 import com.yanis.auth_service.domain.model.User;
 import com.yanis.auth_service.domain.port.out.UserRepository;
 
@@ -16,26 +18,50 @@ import lombok.RequiredArgsConstructor;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
+    private final ReplicaLagGuard replicaLagGuard;
 
     @Override
     public User save(User user) {
         UserEntity entity = toEntity(user);
         UserEntity saved = jpaRepository.save(entity);
+        replicaLagGuard.recordWrite(saved.getEmail());
         return toDomain(saved);
     }
 
     @Override
+    public Optional<User> insertIfAbsent(User user) {
+        Optional<User> inserted = jpaRepository.insertIfAbsent(
+                user.getEmail(),
+                user.getPasswordHash(),
+                String.join(",", user.getRoles()),
+                user.getCreatedAt())
+                .map(id -> User.builder()
+                        .id(id)
+                        .email(user.getEmail())
+                        .passwordHash(user.getPasswordHash())
+                        .roles(user.getRoles())
+                        .createdAt(user.getCreatedAt())
+                        .build());
+        inserted.ifPresent(saved -> replicaLagGuard.recordWrite(saved.getEmail()));
+        return inserted;
+    }
+
+    // Read-only transactions are routed to the replica when one is configured;
+    // kept narrow so no connection is held during password verification
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        return jpaRepository.findByEmail(email)
-                .map(this::toDomain);
+        return replicaLagGuard.read(email, () -> jpaRepository.findByEmail(email))
+                .map(UserRepositoryImpl::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return jpaRepository.existsByEmail(email);
+        return replicaLagGuard.read(email, () -> jpaRepository.existsByEmail(email));
     }
 
-    private UserEntity toEntity(User user) {
+    static UserEntity toEntity(User user) {
         return UserEntity.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -45,7 +71,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .build();
     }
 
-    private User toDomain(UserEntity entity) {
+    static User toDomain(UserEntity entity) {
         return User.builder()
                 .id(entity.getId())
                 .email(entity.getEmail())
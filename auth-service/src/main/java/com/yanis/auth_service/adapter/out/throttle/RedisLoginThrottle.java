@@ -0,0 +1,214 @@
+package com.yanis.auth_service.adapter.out.throttle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis implementation of {@link LoginThrottle}.
+ *
+ * <p>
+ * Failures are counted per email and per client IP in Redis
+ * ({@code INCR} with a sliding expiry), so every instance shares the same
+ * view. Once a counter reaches its threshold a lock key holding the unlock
+ * time is written; each further failure doubles the lockout up to
+ * {@code max-lockout}. While locked, the counter lives for the lockout plus
+ * {@code failure-window}, so the escalation level survives long lockouts
+ * and only resets after a quiet {@code failure-window}.
+ * </p>
+ *
+ * <p>
+ * Checking costs a single {@code MGET} of both lock keys. Locks already seen
+ * are kept in a local map until they expire, so repeated attempts against a
+ * locked account are rejected without any network round trip. If Redis is
+ * unavailable the throttle fails open: logins keep working, unthrottled.
+ * </p>
+ */
+@Component
+@Slf4j
+public class RedisLoginThrottle implements LoginThrottle {
+
+    private static final String FAILURES_PREFIX = "login:failures:";
+    private static final String LOCK_PREFIX = "login:lock:";
+    private static final int MAX_LOCAL_LOCKS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, Long> localLocks = new ConcurrentHashMap<>();
+    private final Counter emailRejections;
+    private final Counter ipRejections;
+    private final Counter emailLockouts;
+    private final Counter ipLockouts;
+    private final Counter redisErrors;
+
+    @Value("${auth.login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.login-throttle.max-failures-per-email:5}")
+    private int maxFailuresPerEmail;
+
+    @Value("${auth.login-throttle.max-failures-per-ip:20}")
+    private int maxFailuresPerIp;
+
+    @Value("${auth.login-throttle.failure-window:15m}")
+    private Duration failureWindow;
+
+    @Value("${auth.login-throttle.base-lockout:30s}")
+    private Duration baseLockout;
+
+    @Value("${auth.login-throttle.max-lockout:1h}")
+    private Duration maxLockout;
+
+    public RedisLoginThrottle(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.emailRejections = rejections(meterRegistry, "email");
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.emailLockouts = lockouts(meterRegistry, "email");
+        this.ipLockouts = lockouts(meterRegistry, "ip");
+        this.redisErrors = Counter.builder("auth.login.throttle.errors")
+                .description("Throttle checks skipped because Redis was unavailable")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Duration> lockedFor(String email, String clientIp) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String emailLock = LOCK_PREFIX + "email:" + normalize(email);
+        String ipLock = clientIp != null ? LOCK_PREFIX + "ip:" + clientIp : null;
+        long now = System.currentTimeMillis();
+
+        Optional<Duration> local = remaining(localLocks.get(emailLock), now, emailRejections);
+        if (local.isEmpty() && ipLock != null) {
+            local = remaining(localLocks.get(ipLock), now, ipRejections);
+        }
+        if (local.isPresent()) {
+            return local;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        keys.add(emailLock);
+        if (ipLock != null) {
+            keys.add(ipLock);
+        }
+        try {
+            List<String> unlockTimes = redisTemplate.opsForValue().multiGet(keys);
+            if (unlockTimes == null) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < unlockTimes.size(); i++) {
+                if (unlockTimes.get(i) != null) {
+                    long unlockAt = Long.parseLong(unlockTimes.get(i));
+                    cacheLocally(keys.get(i), unlockAt, now);
+                    Optional<Duration> lock = remaining(unlockAt, now, i == 0 ? emailRejections : ipRejections);
+                    if (lock.isPresent()) {
+                        return lock;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Login throttle check skipped, Redis unavailable: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void recordFailure(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            fail("email:" + normalize(email), maxFailuresPerEmail, emailLockouts);
+            if (clientIp != null) {
+                fail("ip:" + clientIp, maxFailuresPerIp, ipLockouts);
+            }
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Login failure not recorded, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(FAILURES_PREFIX + "email:" + normalize(email));
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Login failure counter not reset, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    private void fail(String subject, int threshold, Counter lockouts) {
+        String failuresKey = FAILURES_PREFIX + subject;
+        Long failures = redisTemplate.opsForValue().increment(failuresKey);
+        if (failures == null || failures < threshold) {
+            redisTemplate.expire(failuresKey, failureWindow);
+            return;
+        }
+        long exponent = Math.min(failures - threshold, 20);
+        long lockMillis = Math.min(baseLockout.toMillis() << exponent, maxLockout.toMillis());
+        // The counter is the lockout level: keep it for the lock plus the
+        // window, so a failure right after unlocking escalates further
+        redisTemplate.expire(failuresKey, failureWindow.plusMillis(lockMillis));
+        long now = System.currentTimeMillis();
+        String lockKey = LOCK_PREFIX + subject;
+        redisTemplate.opsForValue().set(lockKey, Long.toString(now + lockMillis), Duration.ofMillis(lockMillis));
+        cacheLocally(lockKey, now + lockMillis, now);
+        lockouts.increment();
+        log.warn("Login locked for {} after {} failures: {}s", subject.startsWith("ip:") ? "ip" : "account",
+                failures, lockMillis / 1000);
+    }
+
+    private void cacheLocally(String lockKey, long unlockAt, long now) {
+        if (localLocks.size() >= MAX_LOCAL_LOCKS) {
+            localLocks.values().removeIf(expiry -> expiry <= now);
+        }
+        if (localLocks.size() < MAX_LOCAL_LOCKS) {
+            localLocks.put(lockKey, unlockAt);
+        }
+    }
+
+    private Optional<Duration> remaining(Long unlockAt, long now, Counter rejections) {
+        if (unlockAt == null || unlockAt <= now) {
+            return Optional.empty();
+        }
+        rejections.increment();
+        return Optional.of(Duration.ofMillis(unlockAt - now));
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.login.throttle.rejected")
+                .description("Login attempts rejected while locked out, before any lookup or hashing")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private static Counter lockouts(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.login.throttle.lockouts")
+                .description("Lockouts started after repeated failed logins")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.yanis.auth_service.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduling for the daily audit partition maintenance.
+ *
+ * @see com.yanis.auth_service.adapter.out.audit.AuditPartitionMaintainer
+ */
+@Configuration
+@EnableScheduling
+public class AuditConfig {
+}
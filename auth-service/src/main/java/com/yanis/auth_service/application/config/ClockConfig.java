@@ -0,0 +1,25 @@
+package com.yanis.auth_service.application.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the time source of token minting, so tests can pin it.
+ */
+@Configuration
+public class ClockConfig {
+
+    /**
+     * System UTC clock, unless another {@link Clock} bean is defined.
+     *
+     * @return The clock.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
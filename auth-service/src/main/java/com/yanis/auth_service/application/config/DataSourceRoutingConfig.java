@@ -0,0 +1,80 @@
+package com.yanis.auth_service.application.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.yanis.auth_service.application.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primary/replica data source routing.
+ *
+ * <p>
+ * Enabled with {@code auth.datasource.replica.enabled=true}. The primary pool
+ * is built from {@code spring.datasource.*}, the replica pool from
+ * {@code auth.datasource.replica.*} (Hikari properties). Both pools are beans,
+ * so Spring Boot binds their {@code hikaricp.*} metrics with
+ * {@code pool=auth-primary} and {@code pool=auth-replica} tags. Flyway and
+ * every non-read-only transaction use the primary.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    /**
+     * Provides the primary (read-write) pool.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("auth-primary");
+        return dataSource;
+    }
+
+    /**
+     * Provides the replica (read-only) pool.
+     */
+    @Bean
+    @ConfigurationProperties("auth.datasource.replica")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setPoolName("auth-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Provides the routing data source used by JPA, JDBC and Flyway.
+     *
+     * <p>
+     * The pools are injected as plain {@link DataSource}s because the
+     * virtual-thread mode wraps them in a concurrency limiter.
+     * </p>
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
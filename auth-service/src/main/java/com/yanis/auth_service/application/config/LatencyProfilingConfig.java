@@ -0,0 +1,50 @@
+package com.yanis.auth_service.application.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.yanis.auth_service.application.datasource.ConcurrencyLimitingDataSource;
+import com.yanis.auth_service.application.datasource.PoolWaitTimingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Attributes connection pool wait to the login latency profile.
+ *
+ * @see com.yanis.auth_service.application.diagnostics.MicrometerLatencyProfiler
+ */
+@Configuration
+public class LatencyProfilingConfig {
+
+    /**
+     * Wraps each pool in a {@link PoolWaitTimingDataSource}.
+     *
+     * <p>
+     * Runs last, so in the virtual-thread mode the timing also covers the
+     * concurrency limiter.
+     * </p>
+     */
+    @Bean
+    public static BeanPostProcessor poolWaitTiming() {
+        return new PoolWaitTimingPostProcessor();
+    }
+
+    static final class PoolWaitTimingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource || bean instanceof ConcurrencyLimitingDataSource) {
+                return new PoolWaitTimingDataSource((DataSource) bean);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
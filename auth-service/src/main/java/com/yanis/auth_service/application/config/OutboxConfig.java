@@ -0,0 +1,20 @@
+package com.yanis.auth_service.application.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduling for the outbox relay.
+ *
+ * <p>
+ * Events are always written to the outbox; setting
+ * {@code auth.outbox.relay.enabled=false} only stops this instance from
+ * publishing them (another instance, or a later restart, will).
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "auth.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+}
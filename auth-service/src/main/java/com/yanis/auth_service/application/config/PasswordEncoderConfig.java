@@ -0,0 +1,26 @@
+package com.yanis.auth_service.application.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder configuration.
+ *
+ * <p>
+ * Kept apart from the web security configurations so the servlet, reactive
+ * and command-line (bulk import) modes share the same encoder.
+ * </p>
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * Provides BCrypt password encoder (strength 10).
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+}
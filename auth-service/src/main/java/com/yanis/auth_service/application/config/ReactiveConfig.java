@@ -0,0 +1,92 @@
+package com.yanis.auth_service.application.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive adapter set configuration (profile {@code reactive}).
+ *
+ * <p>
+ * R2DBC auto-configuration is excluded in {@code AuthServiceApplication} so
+ * the default servlet/JPA profile never needs an R2DBC URL; this class
+ * builds the pool explicitly from {@code auth.r2dbc.*} instead.
+ * </p>
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Provides the pooled R2DBC connection factory.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(
+            @Value("${auth.r2dbc.url}") String url,
+            @Value("${auth.r2dbc.username}") String username,
+            @Value("${auth.r2dbc.password}") String password,
+            @Value("${auth.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${auth.r2dbc.pool.max-acquire-time:2s}") Duration maxAcquireTime) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("auth-r2dbc")
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    /**
+     * Provides the database client used by the R2DBC adapter.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Provides the operator running R2DBC statements in one transaction.
+     *
+     * <p>
+     * The transaction manager is deliberately not a bean: a second
+     * {@code TransactionManager} would make {@code @Transactional} ambiguous
+     * and switch off the auto-configured JPA one.
+     * </p>
+     */
+    @Bean
+    public TransactionalOperator r2dbcTransactionalOperator(ConnectionPool connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /**
+     * Provides the bounded scheduler for BCrypt and other blocking calls.
+     *
+     * <p>
+     * At most one thread per core hashes at a time; excess work waits in a
+     * bounded queue and is rejected once it is full rather than piling up.
+     * </p>
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${auth.reactive.hashing.threads:0}") int threads,
+            @Value("${auth.reactive.hashing.queue-capacity:1000}") int queueCapacity) {
+        int threadCap = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threadCap, queueCapacity, "password-hashing");
+    }
+}
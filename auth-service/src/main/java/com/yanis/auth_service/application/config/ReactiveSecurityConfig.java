@@ -0,0 +1,82 @@
+package com.yanis.auth_service.application.config;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.WebFilter;
+
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+import com.yanis.platform_security.identity.IdentityContext;
+import com.yanis.platform_security.identity.IdentityVerificationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring Security configuration for the reactive adapter set.
+ *
+ * <p>
+ * Mirrors {@link SecurityConfig} for WebFlux: stateless, CSRF disabled,
+ * public /auth/** and Actuator endpoints, ADMIN role for /admin/**, and
+ * authentication from the gateway's signed X-Identity header.
+ * </p>
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final IdentityCodec identityCodec;
+    private final RoleTable roleTable;
+
+    /**
+     * Configures the security filter chain for HTTP exchanges.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/auth/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**",
+                                "/webjars/**")
+                        .permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).permitAll()
+                        .pathMatchers("/admin/**").hasRole("ADMIN")
+                        .anyExchange().authenticated())
+                .addFilterAt(identityHeaderFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private WebFilter identityHeaderFilter() {
+        return (exchange, chain) -> {
+            String header = exchange.getRequest().getHeaders().getFirst(IdentityCodec.HEADER);
+            if (header == null) {
+                return chain.filter(exchange);
+            }
+            IdentityContext identity;
+            try {
+                identity = identityCodec.verify(header);
+            } catch (IdentityVerificationException e) {
+                return chain.filter(exchange);
+            }
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
+                    .authenticated(identity.email(), null, roleTable.decode(identity.roleBits()).stream()
+                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                            .toList());
+            authentication.setDetails(identity);
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+        };
+    }
+}
@@ -1,15 +1,19 @@
 package com.yanis.auth_service.application.config;
 
 import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.yanis.auth_service.application.security.IdentityHeaderAuthenticationFilter;
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,14 +26,19 @@ import lombok.RequiredArgsConstructor;
  * <li>Stateless session management (no server-side sessions)</li>
  * <li>CSRF disabled (REST API with JWT)</li>
  * <li>Public access to /auth/** and Actuator endpoints</li>
- * <li>BCrypt password encoder (strength 10)</li>
+ * <li>Authentication from the gateway's signed X-Identity header</li>
+ * <li>ADMIN role required for /admin/**</li>
  * </ul>
  */
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final IdentityCodec identityCodec;
+    private final RoleTable roleTable;
+
     /**
      * Configures the security filter chain for HTTP requests.
      */
@@ -49,16 +58,11 @@ public class SecurityConfig {
                                 "/webjars/**")
                         .permitAll()
                         .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
-                        .anyRequest().authenticated());
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .anyRequest().authenticated())
+                .addFilterBefore(new IdentityHeaderAuthenticationFilter(identityCodec, roleTable),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
-
-    /**
-     * Provides BCrypt password encoder.
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
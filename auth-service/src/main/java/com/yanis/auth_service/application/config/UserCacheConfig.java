@@ -0,0 +1,40 @@
+package com.yanis.auth_service.application.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.yanis.auth_service.adapter.out.persistence.CachingUserRepository;
+
+/**
+ * Cross-instance invalidation of the user credential cache.
+ *
+ * <p>
+ * Subscribes to {@link CachingUserRepository#INVALIDATION_CHANNEL} and evicts
+ * the local entry for each email published by any instance.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.user-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class UserCacheConfig {
+
+    /**
+     * Provides the Redis listener container for cache invalidation.
+     */
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+            CachingUserRepository cachingUserRepository) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cachingUserRepository
+                        .evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CachingUserRepository.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
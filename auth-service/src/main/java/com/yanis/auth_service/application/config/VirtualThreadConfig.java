@@ -0,0 +1,179 @@
+package com.yanis.auth_service.application.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.yanis.auth_service.application.datasource.ConcurrencyLimitingDataSource;
+import com.yanis.auth_service.application.diagnostics.PinningEndpoint;
+import com.yanis.auth_service.application.diagnostics.VirtualThreadPinningMonitor;
+import com.yanis.auth_service.application.security.OffloadingPasswordEncoder;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Virtual-thread execution mode (profile {@code virtual-threads}).
+ *
+ * <p>
+ * Active when {@code spring.threads.virtual.enabled=true}: Tomcat then runs
+ * each request, with its JDBC access and JWT issuing, on a virtual thread.
+ * This class keeps the resources that virtual threads do not make cheaper
+ * bounded:
+ * <ul>
+ * <li>BCrypt runs on its own platform-thread pool
+ * ({@code auth.virtual-threads.hashing.*}), sized separately from the
+ * carrier pool ({@code -Djdk.virtualThreadScheduler.parallelism})</li>
+ * <li>Every Hikari pool is wrapped in a
+ * {@link ConcurrencyLimitingDataSource} whose permits equal the pool
+ * size</li>
+ * <li>Carrier pinning is reported by the {@link VirtualThreadPinningMonitor}
+ * and the {@code pinning} actuator endpoint</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps each Hikari pool in a semaphore sized to its maximum pool size.
+     *
+     * <p>
+     * Runs after {@code @ConfigurationProperties} binding, so the configured
+     * pool size is already set. Waiting for a permit times out after the
+     * pool's own {@code connectionTimeout}.
+     * </p>
+     */
+    @Bean
+    public static BeanPostProcessor hikariConcurrencyLimiter() {
+        return new HikariConcurrencyLimiter();
+    }
+
+    /**
+     * Publishes {@code auth.datasource.permits.active} and
+     * {@code auth.datasource.permits.waiting} per pool.
+     */
+    @Bean
+    public MeterBinder dataSourcePermitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(VirtualThreadConfig::limiterOf)
+                .filter(Objects::nonNull)
+                .forEach(limiter -> bindPermitGauges(registry, limiter));
+    }
+
+    /**
+     * Provides the platform-thread pool dedicated to BCrypt.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(
+            @Value("${auth.virtual-threads.hashing.threads:0}") int threads,
+            @Value("${auth.virtual-threads.hashing.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Provides the BCrypt encoder offloaded to {@code passwordHashingExecutor}.
+     */
+    @Bean
+    @Primary
+    public PasswordEncoder offloadingPasswordEncoder(@Qualifier("passwordEncoder") PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor) {
+        return new OffloadingPasswordEncoder(passwordEncoder, passwordHashingExecutor);
+    }
+
+    /**
+     * Provides the carrier pinning monitor.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${auth.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+            @Value("${auth.virtual-threads.pinning.max-sites:200}") int maxSites,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, maxSites, meterRegistry);
+    }
+
+    /**
+     * Exposes the pinned call sites ({@code /actuator/pinning}).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public PinningEndpoint pinningEndpoint(VirtualThreadPinningMonitor virtualThreadPinningMonitor) {
+        return new PinningEndpoint(virtualThreadPinningMonitor);
+    }
+
+    private static void bindPermitGauges(MeterRegistry registry, ConcurrencyLimitingDataSource limiter) {
+        String pool = poolName(limiter);
+        Gauge.builder("auth.datasource.permits.active", limiter, ConcurrencyLimitingDataSource::getActive)
+                .description("Connections held through the virtual-thread concurrency limiter")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("auth.datasource.permits.waiting", limiter, ConcurrencyLimitingDataSource::getWaiting)
+                .description("Threads waiting for a connection permit")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    private static ConcurrencyLimitingDataSource limiterOf(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitingDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static String poolName(ConcurrencyLimitingDataSource limiter) {
+        try {
+            String name = limiter.unwrap(HikariDataSource.class).getPoolName();
+            return name == null ? "default" : name;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * Wraps each Hikari pool before other data source decorators
+     * ({@code LatencyProfilingConfig}) see it.
+     */
+    static final class HikariConcurrencyLimiter implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                        Duration.ofMillis(hikari.getConnectionTimeout()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yanis.auth_service.application.datasource;
+
+/**
+ * Connection pools behind {@link ReplicaRoutingDataSource}.
+ */
+public enum DataSourceTarget {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,48 @@
+package com.yanis.auth_service.application.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.yanis.auth_service.application.diagnostics.MicrometerLatencyProfiler;
+
+/**
+ * Reports the time spent obtaining connections to the latency profile of the
+ * calling thread ({@code auth.phase{phase=pool_wait}}).
+ *
+ * <p>
+ * Wraps each pool (outside the virtual-thread concurrency limiter, whose
+ * queueing is pool wait too). The pool's own
+ * {@code hikaricp.connections.acquire} timer stays the aggregate view; this
+ * wrapper attributes the wait to individual logins.
+ * </p>
+ */
+public class PoolWaitTimingDataSource extends DelegatingDataSource {
+
+    public PoolWaitTimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return obtainTargetDataSource().getConnection();
+        } finally {
+            MicrometerLatencyProfiler.recordPoolWait(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return obtainTargetDataSource().getConnection(username, password);
+        } finally {
+            MicrometerLatencyProfiler.recordPoolWait(System.nanoTime() - start);
+        }
+    }
+}
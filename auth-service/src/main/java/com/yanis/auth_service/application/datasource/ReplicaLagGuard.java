@@ -0,0 +1,146 @@
+package com.yanis.auth_service.application.datasource;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps reads that follow a write on the primary while replicas catch up.
+ *
+ * <p>
+ * Writes record the email they touched for {@code lag-window}; a read for
+ * that email within the window runs pinned to the primary, so a login right
+ * after registration never misses the new row on a lagging replica. The pin
+ * is a thread-local consulted by {@link ReplicaRoutingDataSource} when the
+ * (lazy) connection is first acquired.
+ * </p>
+ *
+ * <p>
+ * A write is marked once its transaction commits (a marker set earlier
+ * would start the window before the row even exists), in a local cache and
+ * in Redis with a {@code lag-window} TTL, so the login that follows a
+ * registration is pinned wherever the load balancer sends it. The local
+ * cache answers repeated reads on the writing instance without a round
+ * trip. If Redis is unavailable, reads go to the primary. The lag window
+ * should exceed the usual replication lag.
+ * </p>
+ *
+ * <p>
+ * Without a replica ({@code auth.datasource.replica.enabled=false}) nothing
+ * is tracked.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ReplicaLagGuard {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final String KEY_PREFIX = "auth:recent-write:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lagWindow;
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReplicaLagGuard(StringRedisTemplate redisTemplate,
+            @Value("${auth.datasource.replica.lag-window:5s}") Duration lagWindow,
+            @Value("${auth.datasource.replica.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.lagWindow = lagWindow;
+        this.enabled = enabled;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(lagWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Records a write, pinning reads for the same email to the primary once
+     * the current transaction (if any) commits.
+     *
+     * @param email The email written.
+     */
+    public void recordWrite(String email) {
+        if (!enabled) {
+            return;
+        }
+        String key = normalize(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark(key);
+                }
+            });
+            return;
+        }
+        mark(key);
+    }
+
+    /**
+     * Runs a read, pinned to the primary if the email was written recently.
+     *
+     * @param email The email read.
+     * @param read  The read to run.
+     * @return The read result.
+     */
+    public <T> T read(String email, Supplier<T> read) {
+        if (!enabled || !recentlyWritten(normalize(email))) {
+            return read.get();
+        }
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the current thread must read from the primary.
+     */
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    private void mark(String email) {
+        recentWrites.put(email, Boolean.TRUE);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + email, "1", lagWindow);
+        } catch (RuntimeException e) {
+            log.warn("Recent write not shared, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    private boolean recentlyWritten(String email) {
+        if (recentWrites.getIfPresent(email) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + email));
+        } catch (RuntimeException e) {
+            log.warn("Recent writes unknown, Redis unavailable, reading from primary: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
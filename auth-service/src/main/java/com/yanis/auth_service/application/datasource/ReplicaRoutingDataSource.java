@@ -0,0 +1,55 @@
+package com.yanis.auth_service.application.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes read-only transactions to the replica pool.
+ *
+ * <p>
+ * Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for a connection before the read-only flag is
+ * bound to the thread, and the proxy defers the actual lookup until the
+ * first statement. Reads pinned by {@link ReplicaLagGuard} and all writes go
+ * to the primary. Routing decisions are counted per target
+ * ({@code auth.datasource.routed}).
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceTarget.PRIMARY, primary, DataSourceTarget.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryRoutes = routed(meterRegistry, DataSourceTarget.PRIMARY);
+        this.replicaRoutes = routed(meterRegistry, DataSourceTarget.REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaLagGuard.isPinnedToPrimary()) {
+            replicaRoutes.increment();
+            return DataSourceTarget.REPLICA;
+        }
+        primaryRoutes.increment();
+        return DataSourceTarget.PRIMARY;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, DataSourceTarget target) {
+        return Counter.builder("auth.datasource.routed")
+                .description("Connections acquired per routing target")
+                .tag("target", target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
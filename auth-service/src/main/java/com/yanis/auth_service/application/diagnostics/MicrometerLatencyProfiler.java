@@ -0,0 +1,160 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yanis.auth_service.domain.model.AuthPhase;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer implementation of {@link LatencyProfiler}.
+ *
+ * <p>
+ * Publishes, with percentile histograms (Prometheus {@code _bucket} series):
+ * <ul>
+ * <li>{@code auth.phase} - per phase, tagged {@code operation} and
+ * {@code phase}, plus {@code phase=pool_wait} for the time spent obtaining
+ * JDBC connections during the operation</li>
+ * <li>{@code auth.operation} - whole operation, tagged {@code operation} and
+ * {@code outcome}</li>
+ * </ul>
+ * Each finished operation is also offered to the {@link SlowOperationTracker}
+ * behind the {@code slowlogins} actuator endpoint.
+ * </p>
+ *
+ * <p>
+ * The current profile is bound to the thread, which is how
+ * {@link #recordPoolWait(long)} attributes connection waits measured by the
+ * data source wrapper. Registration opens its transaction, and thus takes
+ * its connection, before the profile starts, so its pool wait is not split
+ * out.
+ * </p>
+ */
+@Component
+public class MicrometerLatencyProfiler implements LatencyProfiler {
+
+    static final String POOL_WAIT = "pool_wait";
+
+    private static final ThreadLocal<ActiveProfile> CURRENT = new ThreadLocal<>();
+    private static final AuthPhase[] PHASES = AuthPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final SlowOperationTracker slowOperations;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerLatencyProfiler(MeterRegistry meterRegistry,
+            @Value("${auth.latency.slowest.size:20}") int slowestSize,
+            @Value("${auth.latency.slowest.window:5m}") Duration slowestWindow) {
+        this.meterRegistry = meterRegistry;
+        this.slowOperations = new SlowOperationTracker(slowestSize, slowestWindow);
+    }
+
+    @Override
+    public Profile start(String operation) {
+        ActiveProfile profile = new ActiveProfile(operation, CURRENT.get());
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Adds a connection wait to the profile running on the current thread, if
+     * any.
+     *
+     * @param nanos Time spent in {@code DataSource.getConnection()}.
+     */
+    public static void recordPoolWait(long nanos) {
+        ActiveProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.poolWaitNanos += nanos;
+        }
+    }
+
+    /**
+     * Returns the tracker of the slowest recent operations.
+     */
+    public SlowOperationTracker slowOperations() {
+        return slowOperations;
+    }
+
+    private Timer phaseTimer(String operation, String phase) {
+        return timers.computeIfAbsent(operation + '/' + phase, key -> Timer.builder("auth.phase")
+                .description("Time spent in one phase of an authentication operation")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + '#' + outcome, key -> Timer.builder("auth.operation")
+                .description("Authentication operation latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private final class ActiveProfile implements Profile {
+
+        private final String operation;
+        private final ActiveProfile parent;
+        private final long startNanos = System.nanoTime();
+        private final long[] phaseNanos = new long[PHASES.length];
+        private long poolWaitNanos;
+        private String outcome = "error";
+
+        private ActiveProfile(String operation, ActiveProfile parent) {
+            this.operation = operation;
+            this.parent = parent;
+        }
+
+        @Override
+        public <T> T time(AuthPhase phase, Supplier<T> step) {
+            long start = System.nanoTime();
+            try {
+                return step.get();
+            } finally {
+                phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void outcome(String outcome) {
+            this.outcome = outcome;
+        }
+
+        @Override
+        public void close() {
+            long totalNanos = System.nanoTime() - startNanos;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+
+            Map<String, Long> phaseMillis = new LinkedHashMap<>();
+            for (AuthPhase phase : PHASES) {
+                long nanos = phaseNanos[phase.ordinal()];
+                if (nanos > 0) {
+                    phaseTimer(operation, phase.tag()).record(Duration.ofNanos(nanos));
+                    phaseMillis.put(phase.tag(), Duration.ofNanos(nanos).toMillis());
+                }
+            }
+            phaseTimer(operation, POOL_WAIT).record(Duration.ofNanos(poolWaitNanos));
+            phaseMillis.put(POOL_WAIT, Duration.ofNanos(poolWaitNanos).toMillis());
+            operationTimer(operation, outcome).record(Duration.ofNanos(totalNanos));
+
+            slowOperations.offer(operation, outcome, totalNanos, phaseMillis, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint listing the call sites where virtual threads were pinned
+ * ({@code GET /actuator/pinning}).
+ */
+@Endpoint(id = "pinning")
+public class PinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    public PinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public List<VirtualThreadPinningMonitor.PinnedSiteSnapshot> pinning() {
+        return monitor.sites();
+    }
+}
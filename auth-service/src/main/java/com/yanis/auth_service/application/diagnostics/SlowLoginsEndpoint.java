@@ -0,0 +1,27 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the slowest recent logins and registrations with
+ * their per-phase split ({@code GET /actuator/slowlogins}).
+ */
+@Component
+@Endpoint(id = "slowlogins")
+public class SlowLoginsEndpoint {
+
+    private final MicrometerLatencyProfiler profiler;
+
+    public SlowLoginsEndpoint(MicrometerLatencyProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public List<SlowOperationTracker.SlowOperation> slowest() {
+        return profiler.slowOperations().slowest();
+    }
+}
@@ -0,0 +1,97 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the slowest operations of a sliding time window.
+ *
+ * <p>
+ * Holds at most {@code size} samples in a min-heap keyed by duration. An
+ * operation faster than the current minimum of a full heap is rejected with
+ * two volatile reads, so the common case takes no lock. Samples older than
+ * {@code window} are evicted on every write and read, and the first
+ * operation after the oldest sample expires is always admitted. Samples
+ * carry no user data: only the operation, outcome, timings and time.
+ * </p>
+ */
+public class SlowOperationTracker {
+
+    private final int size;
+    private final Duration window;
+    private final PriorityQueue<SlowOperation> heap;
+    private volatile long admissionNanos;
+    private volatile Instant nextExpiry = Instant.MAX;
+
+    public SlowOperationTracker(int size, Duration window) {
+        this.size = size;
+        this.window = window;
+        this.heap = new PriorityQueue<>(size, Comparator.comparingLong(SlowOperation::totalNanos));
+    }
+
+    /**
+     * Offers a finished operation.
+     */
+    public void offer(String operation, String outcome, long totalNanos, Map<String, Long> phaseMillis,
+            Instant finishedAt) {
+        if (totalNanos <= admissionNanos && finishedAt.isBefore(nextExpiry)) {
+            return;
+        }
+        synchronized (heap) {
+            evictExpired(finishedAt);
+            heap.add(new SlowOperation(operation, outcome, totalNanos, Duration.ofNanos(totalNanos).toMillis(),
+                    Collections.unmodifiableMap(phaseMillis), finishedAt));
+            if (heap.size() > size) {
+                heap.poll();
+            }
+            updateAdmission();
+        }
+    }
+
+    /**
+     * Returns the slowest operations of the window, slowest first.
+     */
+    public List<SlowOperation> slowest() {
+        synchronized (heap) {
+            evictExpired(Instant.now());
+            updateAdmission();
+            List<SlowOperation> result = new ArrayList<>(heap);
+            result.sort(Comparator.comparingLong(SlowOperation::totalNanos).reversed());
+            return result;
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Instant cutoff = now.minus(window);
+        heap.removeIf(sample -> sample.finishedAt().isBefore(cutoff));
+    }
+
+    private void updateAdmission() {
+        admissionNanos = heap.size() < size ? 0 : heap.peek().totalNanos();
+        nextExpiry = heap.stream()
+                .map(SlowOperation::finishedAt)
+                .min(Comparator.naturalOrder())
+                .map(oldest -> oldest.plus(window))
+                .orElse(Instant.MAX);
+    }
+
+    /**
+     * One slow operation.
+     *
+     * @param operation   Operation name.
+     * @param outcome     Outcome tag.
+     * @param totalNanos  Total duration.
+     * @param totalMillis Total duration in milliseconds.
+     * @param phaseMillis Time per phase, in milliseconds.
+     * @param finishedAt  Completion time.
+     */
+    public record SlowOperation(String operation, String outcome, long totalNanos, long totalMillis,
+            Map<String, Long> phaseMillis, Instant finishedAt) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects virtual threads pinned to their carrier thread.
+ *
+ * <p>
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event (a virtual thread
+ * blocked while holding a monitor or inside native code, so it could not
+ * unmount) for pins longer than {@code threshold}. Each event is attributed
+ * to the first frame of the Hibernate, PostgreSQL driver or HikariCP code on
+ * the stack, falling back to the first non-JDK frame, and:
+ * <ul>
+ * <li>recorded in the {@code auth.virtual-threads.pinned} timer, tagged by
+ * component ({@code hibernate}, {@code postgres}, {@code hikari},
+ * {@code other})</li>
+ * <li>aggregated per call site for the {@code pinning} actuator endpoint</li>
+ * <li>logged with its stack the first time a call site is seen</li>
+ * </ul>
+ *
+ * <p>
+ * At most {@code maxSites} distinct call sites are kept; later ones are
+ * only counted in the timer.
+ * </p>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Map<String, String> COMPONENTS = Map.of(
+            "org.hibernate.", "hibernate",
+            "org.postgresql.", "postgres",
+            "com.zaxxer.hikari.", "hikari");
+
+    private final Duration threshold;
+    private final int maxSites;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, int maxSites, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.maxSites = maxSites;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts streaming pinning events once the application serves traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Returns the aggregated call sites, most frequent first.
+     */
+    public List<PinnedSiteSnapshot> sites() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(PinnedSiteSnapshot::count).reversed())
+                .toList();
+    }
+
+    void record(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        RecordedFrame culprit = culprit(frames);
+        String site = culprit == null ? "unknown" : describe(culprit);
+        String component = culprit == null ? "other" : component(culprit);
+        Duration duration = event.getDuration();
+
+        timers.computeIfAbsent(component, key -> Timer.builder("auth.virtual-threads.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .tag("component", key)
+                .register(meterRegistry))
+                .record(duration);
+
+        PinnedSite aggregate = sites.get(site);
+        if (aggregate == null && sites.size() < maxSites) {
+            PinnedSite created = new PinnedSite(component);
+            aggregate = sites.putIfAbsent(site, created);
+            if (aggregate == null) {
+                aggregate = created;
+                log.warn("Virtual thread pinned for {}ms at {}:\n\t{}", duration.toMillis(), site,
+                        String.join("\n\t", frames.stream().limit(20).map(VirtualThreadPinningMonitor::describe)
+                                .toList()));
+            }
+        }
+        if (aggregate != null) {
+            aggregate.add(duration);
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static RecordedFrame culprit(List<RecordedFrame> frames) {
+        RecordedFrame firstApplicationFrame = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (component(type) != null) {
+                return frame;
+            }
+            if (firstApplicationFrame == null && !type.startsWith("java.") && !type.startsWith("jdk.")
+                    && !type.startsWith("sun.")) {
+                firstApplicationFrame = frame;
+            }
+        }
+        return firstApplicationFrame;
+    }
+
+    private static String component(RecordedFrame frame) {
+        String component = component(frame.getMethod().getType().getName());
+        return component == null ? "other" : component;
+    }
+
+    private static String component(String type) {
+        for (Map.Entry<String, String> entry : COMPONENTS.entrySet()) {
+            if (type.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                + frame.getLineNumber();
+    }
+
+    private static final class PinnedSite {
+
+        private final String component;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private PinnedSite(String component) {
+            this.component = component;
+        }
+
+        private void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private PinnedSiteSnapshot snapshot(String site) {
+            return new PinnedSiteSnapshot(site, component, count.sum(), totalNanos.sum() / 1_000_000,
+                    maxNanos.get() / 1_000_000);
+        }
+    }
+
+    /**
+     * Aggregated pinning statistics for one call site.
+     *
+     * @param site        Attributed frame ({@code class.method:line}).
+     * @param component   Library the frame belongs to.
+     * @param count       Number of pins longer than the threshold.
+     * @param totalMillis Total pinned time.
+     * @param maxMillis   Longest single pin.
+     */
+    public record PinnedSiteSnapshot(String site, String component, long count, long totalMillis,
+            long maxMillis) {
+    }
+}
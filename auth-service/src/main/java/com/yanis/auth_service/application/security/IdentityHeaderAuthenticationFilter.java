@@ -0,0 +1,61 @@
+package com.yanis.auth_service.application.security;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+import com.yanis.platform_security.identity.IdentityContext;
+import com.yanis.platform_security.identity.IdentityVerificationException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authenticates requests from the signed {@code X-Identity} header set by
+ * the API Gateway.
+ *
+ * <p>
+ * The gateway has already verified the JWT, so only the header MAC is checked
+ * here (a few microseconds). Roles are decoded from the bitmask against the
+ * shared {@link RoleTable} and exposed as {@code ROLE_*} authorities. A
+ * missing or invalid header leaves the request anonymous.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdentityHeaderAuthenticationFilter extends OncePerRequestFilter {
+
+    private final IdentityCodec identityCodec;
+    private final RoleTable roleTable;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(IdentityCodec.HEADER);
+        if (header != null) {
+            try {
+                IdentityContext identity = identityCodec.verify(header);
+                List<SimpleGrantedAuthority> authorities = roleTable.decode(identity.roleBits()).stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .toList();
+                UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
+                        .authenticated(identity.email(), null, authorities);
+                authentication.setDetails(identity);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (IdentityVerificationException e) {
+                log.warn("Rejected identity header: {}", e.getMessage());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,60 @@
+package com.yanis.auth_service.application.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs BCrypt on a bounded pool of platform threads.
+ *
+ * <p>
+ * With virtual threads, request handling is no longer bounded by the Tomcat
+ * pool, and a burst of logins would otherwise hash on every carrier thread at
+ * once, starving the JDBC and JWT work that shares them. The calling virtual
+ * thread parks (and releases its carrier) while the hash runs on the
+ * dedicated pool. When the pool queue is full the executor rejects the task
+ * and the caller gets a {@link java.util.concurrent.RejectedExecutionException}
+ * (503 with {@code Retry-After}).
+ * </p>
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T offload(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
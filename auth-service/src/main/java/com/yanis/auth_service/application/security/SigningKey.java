@@ -0,0 +1,49 @@
+package com.yanis.auth_service.application.security;
+
+import java.security.Key;
+import java.util.Map;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+/**
+ * Immutable signing/verification key resolved from configuration.
+ *
+ * @param kid             Key id ({@code null} for the legacy {@code jwt.secret}
+ *                        key, which is emitted without a {@code kid} header).
+ * @param algorithm       Explicit JWA algorithm, or {@code null} to let JJWT
+ *                        infer it from the key (legacy behaviour).
+ * @param signingKey      Secret or private key, {@code null} when this instance
+ *                        can only verify.
+ * @param verificationKey Secret or public key.
+ * @param publicJwk       Public JWK published on the JWKS endpoint, or
+ *                        {@code null} for symmetric keys.
+ */
+public record SigningKey(
+        String kid,
+        SecureDigestAlgorithm<?, ?> algorithm,
+        Key signingKey,
+        Key verificationKey,
+        Map<String, Object> publicJwk) {
+
+    /**
+     * Applies the key id header and signature to a token builder.
+     *
+     * @param builder The builder to sign.
+     * @return The same builder, ready for {@code compact()}.
+     * @throws IllegalStateException if this key has no private part.
+     */
+    @SuppressWarnings("unchecked")
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw new IllegalStateException("Key " + kid + " has no private part and cannot sign tokens");
+        }
+        if (kid != null) {
+            builder.header().keyId(kid);
+        }
+        if (algorithm == null) {
+            return builder.signWith(signingKey);
+        }
+        return builder.signWith(signingKey, (SecureDigestAlgorithm<Key, ?>) algorithm);
+    }
+}
@@ -0,0 +1,49 @@
+package com.yanis.auth_service.application.security;
+
+import java.util.List;
+
+/**
+ * Binding target for the {@code jwt.signing.*} configuration tree.
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * jwt:
+ *   signing:
+ *     active-kid: es-2026-01
+ *     keys:
+ *       - kid: hs-2025-12
+ *         algorithm: HS256
+ *         secret: ${JWT_SECRET_2025_12}
+ *       - kid: es-2026-01
+ *         algorithm: ES256
+ *         private-key: ${JWT_ES256_PRIVATE_KEY}   # base64 PKCS#8
+ *         public-key: ${JWT_ES256_PUBLIC_KEY}     # base64 X.509
+ * </pre>
+ *
+ * @param activeKid Key id used to sign new tokens.
+ * @param keys      All keys accepted for verification (active, next and
+ *                  retiring).
+ */
+public record SigningKeyProperties(String activeKid, List<KeyDefinition> keys) {
+
+    /**
+     * A single configured key.
+     *
+     * @param kid        Key id written in the JWS header.
+     * @param algorithm  JWA identifier: HS256, HS384, HS512, ES256 or EdDSA.
+     * @param secret     Shared secret for HMAC algorithms.
+     * @param privateKey Base64 PKCS#8 private key for asymmetric algorithms
+     *                   (optional on instances that only verify).
+     * @param publicKey  Base64 X.509 public key for asymmetric algorithms.
+     */
+    public record KeyDefinition(
+            String kid,
+            String algorithm,
+            String secret,
+            String privateKey,
+            String publicKey) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.yanis.auth_service.application.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of JWT signing keys indexed by key id ({@code kid}).
+ *
+ * <p>
+ * Keys are parsed once from configuration into an immutable snapshot that is
+ * swapped atomically, so token signing and verification cost a single map
+ * lookup. Rotation does not require a restart: refreshing the configuration
+ * (e.g. {@code POST /actuator/refresh} after a config-server change) rebuilds
+ * the snapshot.
+ * </p>
+ *
+ * <p>
+ * <strong>Rotation procedure:</strong> publish the next key in
+ * {@code jwt.signing.keys} first, wait for the gateway JWKS refresh interval,
+ * then switch {@code jwt.signing.active-kid}. Retiring keys stay in the list
+ * until every token they signed has expired.
+ * </p>
+ *
+ * <p>
+ * When {@code jwt.signing.keys} is empty, the legacy {@code jwt.secret} is used
+ * without a {@code kid} header, exactly as before. Once keys are configured,
+ * {@code jwt.secret} (if still set) stays as a verify-only key for tokens
+ * without a {@code kid}, so refresh tokens issued before the migration keep
+ * working until they expire; remove it afterwards.
+ * </p>
+ */
+@Component
+@Slf4j
+public class SigningKeyRegistry {
+
+    private static final String LEGACY_KID = "";
+
+    private final Environment environment;
+
+    private volatile Snapshot snapshot;
+
+    public SigningKeyRegistry(Environment environment) {
+        this.environment = environment;
+        this.snapshot = load();
+    }
+
+    /**
+     * Returns the key used to sign new tokens.
+     */
+    public SigningKey activeKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * Resolves a verification key by key id.
+     *
+     * @param kid Key id from the JWS header ({@code null} for legacy tokens).
+     * @return The key, or {@code null} if unknown.
+     */
+    public SigningKey find(String kid) {
+        return snapshot.byKid().get(kid == null ? LEGACY_KID : kid);
+    }
+
+    /**
+     * Returns the public JWK set (asymmetric keys only, never secrets).
+     */
+    public Map<String, Object> jwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * Returns a JJWT key locator backed by this registry.
+     *
+     * <p>
+     * The locator reads the current snapshot on every call, so a parser built
+     * once keeps working across rotations.
+     * </p>
+     */
+    public LocatorAdapter<Key> verificationKeyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                SigningKey key = find(header.getKeyId());
+                return key != null ? key.verificationKey() : null;
+            }
+        };
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean jwtChanged = event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."));
+        if (!jwtChanged) {
+            return;
+        }
+        try {
+            snapshot = load();
+            log.info("JWT signing keys reloaded, active kid: {}", snapshot.active().kid());
+        } catch (RuntimeException e) {
+            log.error("Invalid JWT signing key configuration, keeping previous keys", e);
+        }
+    }
+
+    private Snapshot load() {
+        SigningKeyProperties properties = Binder.get(environment)
+                .bind("jwt.signing", SigningKeyProperties.class)
+                .orElse(new SigningKeyProperties(null, List.of()));
+
+        if (properties.keys() == null || properties.keys().isEmpty()) {
+            String secret = environment.getRequiredProperty("jwt.secret");
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            SigningKey legacy = new SigningKey(null, null, key, key, null);
+            return new Snapshot(legacy, Map.of(LEGACY_KID, legacy), jwkSet(List.of()));
+        }
+
+        Map<String, SigningKey> byKid = new HashMap<>();
+        String legacySecret = environment.getProperty("jwt.secret");
+        if (legacySecret != null && !legacySecret.isBlank()) {
+            SecretKey key = Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8));
+            byKid.put(LEGACY_KID, new SigningKey(null, null, null, key, null));
+        }
+        List<Map<String, Object>> publicJwks = new ArrayList<>();
+        for (SigningKeyProperties.KeyDefinition definition : properties.keys()) {
+            SigningKey key = toSigningKey(definition);
+            byKid.put(key.kid(), key);
+            if (key.publicJwk() != null) {
+                publicJwks.add(key.publicJwk());
+            }
+        }
+
+        SigningKey active = byKid.get(properties.activeKid());
+        if (active == null) {
+            throw new IllegalStateException("jwt.signing.active-kid '" + properties.activeKid()
+                    + "' does not match any configured key");
+        }
+        if (active.signingKey() == null) {
+            throw new IllegalStateException("Active key '" + active.kid() + "' has no private key");
+        }
+
+        return new Snapshot(active, Map.copyOf(byKid), jwkSet(publicJwks));
+    }
+
+    private SigningKey toSigningKey(SigningKeyProperties.KeyDefinition definition) {
+        if (definition.kid() == null || definition.kid().isBlank()) {
+            throw new IllegalStateException("Every jwt.signing.keys entry needs a kid");
+        }
+        if (definition.algorithm() == null || definition.algorithm().isBlank()) {
+            throw new IllegalStateException("JWT key '" + definition.kid() + "' has no algorithm");
+        }
+        SecureDigestAlgorithm<?, ?> algorithm = Jwts.SIG.get().get(definition.algorithm());
+        if (algorithm == null) {
+            throw new IllegalStateException("JWT key '" + definition.kid() + "' has an unknown algorithm '"
+                    + definition.algorithm() + "'");
+        }
+
+        if (definition.algorithm().startsWith("HS")) {
+            if (definition.secret() == null || definition.secret().isBlank()) {
+                throw new IllegalStateException("JWT key '" + definition.kid() + "' has no secret");
+            }
+            SecretKey key = Keys.hmacShaKeyFor(definition.secret().getBytes(StandardCharsets.UTF_8));
+            return new SigningKey(definition.kid(), algorithm, key, key, null);
+        }
+
+        String keyFactoryAlgorithm = "EdDSA".equals(definition.algorithm()) ? "EdDSA" : "EC";
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(definition.publicKey())));
+            PrivateKey privateKey = definition.privateKey() == null || definition.privateKey().isBlank()
+                    ? null
+                    : keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Base64.getDecoder().decode(definition.privateKey())));
+
+            Jwk<?> jwk = Jwks.builder().key(publicKey).id(definition.kid()).build();
+            Map<String, Object> publicJwk = new LinkedHashMap<>();
+            jwk.forEach(publicJwk::put);
+            publicJwk.put("alg", definition.algorithm());
+            publicJwk.put("use", "sig");
+
+            return new SigningKey(definition.kid(), algorithm, privateKey, publicKey, Map.copyOf(publicJwk));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load JWT key '" + definition.kid() + "'", e);
+        }
+    }
+
+    private static Map<String, Object> jwkSet(List<Map<String, Object>> keys) {
+        return Map.of("keys", List.copyOf(keys));
+    }
+
+    private record Snapshot(SigningKey active, Map<String, SigningKey> byKid, Map<String, Object> jwks) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.yanis.auth_service.application.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Mints signed JWTs for the active key of the {@link SigningKeyRegistry}.
+ *
+ * <p>
+ * For HMAC keys ({@code HS256}, {@code HS384}, {@code HS512}) the token is
+ * assembled directly: the header segment is encoded once per active key, the
+ * small claim set is serialised straight to JSON and the signature is computed
+ * with a {@link Mac} initialised once per platform thread. Virtual threads are
+ * short-lived, so they clone an initialised prototype instead of paying for
+ * provider lookup and key setup on every call.
+ * </p>
+ *
+ * <p>
+ * Tokens carry the same header fields ({@code kid}, {@code alg}) and claims
+ * ({@code roles} or {@code rb}/{@code uid}, {@code sub}, {@code iat},
+ * {@code exp} in epoch seconds) as the JJWT builder, so every verifier keeps
+ * accepting them. Asymmetric keys, and HMAC keys too short for their declared
+ * algorithm, go through JJWT unchanged.
+ * </p>
+ *
+ * <p>
+ * Instances are thread-safe and follow key rotations of the registry.
+ * </p>
+ */
+@Component
+public class TokenMinter {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SigningKeyRegistry keyRegistry;
+    private final Clock clock;
+    private final ThreadLocal<ThreadMac> threadMacs = new ThreadLocal<>();
+
+    private volatile Prepared prepared;
+
+    public TokenMinter(SigningKeyRegistry keyRegistry, Clock clock) {
+        this.keyRegistry = keyRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Mints a token signed with the active key.
+     *
+     * @param subject      Token subject (user email).
+     * @param roles        Role names for the {@code roles} claim, or
+     *                     {@code null} to omit it.
+     * @param roleBits     Role bitmask for the {@code rb} claim, or
+     *                     {@code null} to omit it.
+     * @param userId       Numeric user id for the {@code uid} claim, or
+     *                     {@code null} to omit it.
+     * @param ttlMs        Token lifetime in milliseconds.
+     * @param withIssuedAt Whether to emit the {@code iat} claim.
+     * @return The compact JWS.
+     * @throws IllegalStateException if the active key cannot sign.
+     */
+    public String mint(String subject, Collection<String> roles, Long roleBits, Long userId, long ttlMs,
+            boolean withIssuedAt) {
+        long now = clock.millis();
+        Prepared current = prepare(keyRegistry.activeKey());
+        if (current.headerSegment() == null) {
+            return mintWithJjwt(current.source(), subject, roles, roleBits, userId, now, ttlMs, withIssuedAt);
+        }
+
+        StringBuilder json = new StringBuilder(96 + subject.length());
+        json.append('{');
+        if (roles != null) {
+            json.append("\"roles\":[");
+            boolean first = true;
+            for (String role : roles) {
+                if (!first) {
+                    json.append(',');
+                }
+                appendString(json, role);
+                first = false;
+            }
+            json.append("],");
+        }
+        if (roleBits != null) {
+            json.append("\"rb\":").append(roleBits.longValue()).append(',');
+        }
+        if (userId != null) {
+            json.append("\"uid\":").append(userId.longValue()).append(',');
+        }
+        json.append("\"sub\":");
+        appendString(json, subject);
+        if (withIssuedAt) {
+            json.append(",\"iat\":").append(now / 1000);
+        }
+        json.append(",\"exp\":").append((now + ttlMs) / 1000).append('}');
+
+        byte[] header = current.headerSegment();
+        byte[] payload = BASE64URL.encode(json.toString().getBytes(StandardCharsets.UTF_8));
+        Mac mac = macFor(current);
+        mac.update(header);
+        mac.update(payload);
+        byte[] signature = BASE64URL.encode(mac.doFinal());
+
+        byte[] token = new byte[header.length + payload.length + 1 + signature.length];
+        System.arraycopy(header, 0, token, 0, header.length);
+        System.arraycopy(payload, 0, token, header.length, payload.length);
+        token[header.length + payload.length] = '.';
+        System.arraycopy(signature, 0, token, header.length + payload.length + 1, signature.length);
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    private Prepared prepare(SigningKey active) {
+        Prepared current = prepared;
+        if (current == null || current.source() != active) {
+            current = Prepared.of(active);
+            prepared = current;
+        }
+        return current;
+    }
+
+    private Mac macFor(Prepared current) {
+        if (Thread.currentThread().isVirtual()) {
+            return current.newMac();
+        }
+        ThreadMac cached = threadMacs.get();
+        if (cached == null || cached.key() != current.source().signingKey()) {
+            cached = new ThreadMac(current.source().signingKey(), current.newMac());
+            threadMacs.set(cached);
+        }
+        return cached.mac();
+    }
+
+    private static String mintWithJjwt(SigningKey key, String subject, Collection<String> roles, Long roleBits,
+            Long userId, long now, long ttlMs, boolean withIssuedAt) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        if (roles != null) {
+            claims.put("roles", roles);
+        }
+        if (roleBits != null) {
+            claims.put("rb", roleBits);
+        }
+        if (userId != null) {
+            claims.put("uid", userId);
+        }
+        return key.sign(Jwts.builder()
+                .claims(claims)
+                .subject(subject)
+                .issuedAt(withIssuedAt ? new Date(now) : null)
+                .expiration(new Date(now + ttlMs)))
+                .compact();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Per-key state: the encoded header followed by {@code '.'}, and an
+     * initialised {@link Mac} to clone. {@code headerSegment} is {@code null}
+     * when the key must be signed through JJWT.
+     */
+    private record Prepared(SigningKey source, byte[] headerSegment, Mac prototype) {
+
+        static Prepared of(SigningKey key) {
+            String algorithm = hmacAlgorithm(key);
+            if (algorithm == null) {
+                return new Prepared(key, null, null);
+            }
+            String header = key.kid() == null
+                    ? "{\"alg\":\"" + algorithm + "\"}"
+                    : "{\"kid\":\"" + key.kid() + "\",\"alg\":\"" + algorithm + "\"}";
+            byte[] encoded = BASE64URL.encode(header.getBytes(StandardCharsets.UTF_8));
+            byte[] segment = new byte[encoded.length + 1];
+            System.arraycopy(encoded, 0, segment, 0, encoded.length);
+            segment[encoded.length] = '.';
+            try {
+                Mac mac = Mac.getInstance("HmacSHA" + algorithm.substring(2));
+                mac.init(key.signingKey());
+                return new Prepared(key, segment, mac);
+            } catch (GeneralSecurityException e) {
+                return new Prepared(key, null, null);
+            }
+        }
+
+        Mac newMac() {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                try {
+                    Mac mac = Mac.getInstance(prototype.getAlgorithm());
+                    mac.init(source.signingKey());
+                    return mac;
+                } catch (GeneralSecurityException ex) {
+                    throw new IllegalStateException(prototype.getAlgorithm() + " unavailable", ex);
+                }
+            }
+        }
+
+        /**
+         * Returns the JWA name JJWT would emit for this key, or {@code null}
+         * if it is not an HMAC key strong enough for that algorithm.
+         */
+        private static String hmacAlgorithm(SigningKey key) {
+            if (!(key.signingKey() instanceof SecretKey secret) || key.kid() != null && !isPlain(key.kid())) {
+                return null;
+            }
+            String algorithm = key.algorithm() != null ? key.algorithm().getId()
+                    : switch (secret.getAlgorithm()) {
+                        case "HmacSHA256" -> "HS256";
+                        case "HmacSHA384" -> "HS384";
+                        case "HmacSHA512" -> "HS512";
+                        default -> null;
+                    };
+            if (algorithm == null || !algorithm.matches("HS(256|384|512)")) {
+                return null;
+            }
+            byte[] encoded = secret.getEncoded();
+            int bits = Integer.parseInt(algorithm.substring(2));
+            return encoded != null && encoded.length * 8 >= bits ? algorithm : null;
+        }
+
+        private static boolean isPlain(String kid) {
+            return kid.chars().allMatch(c -> c >= 0x20 && c < 0x7F && c != '"' && c != '\\');
+        }
+    }
+
+    private record ThreadMac(Key key, Mac mac) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.yanis.auth_service.application.shutdown;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Takes the instance out of Eureka before the web server stops accepting
+ * requests.
+ *
+ * <p>
+ * Shutdown then proceeds in this order:
+ * </p>
+ * <ol>
+ * <li>this lifecycle (highest phase, stopped first) marks the instance
+ * {@code DOWN}, which Eureka clients drop from their registry copy, and
+ * keeps serving for {@code auth.shutdown.propagation-delay} while the
+ * gateway's registry fetch and load balancer cache catch up;</li>
+ * <li>the graceful web server shutdown ({@code server.shutdown=graceful})
+ * rejects new connections and waits for in-flight requests;</li>
+ * <li>the context closes the Hikari, Redis and Kafka clients.</li>
+ * </ol>
+ *
+ * <p>
+ * {@code spring.lifecycle.timeout-per-shutdown-phase} must exceed the
+ * propagation delay. Requests the gateway still sends to the instance
+ * after step 2 are refused, and the gateway retries them elsewhere.
+ * </p>
+ */
+@Component
+@Slf4j
+public class GracefulDrain implements SmartLifecycle {
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    @Value("${auth.shutdown.propagation-delay:15s}")
+    private Duration propagationDelay;
+
+    private volatile boolean running;
+
+    public GracefulDrain(ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.applicationInfoManager = applicationInfoManager;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (deregister()) {
+            pause();
+        }
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        running = false;
+        if (!deregister()) {
+            callback.run();
+            return;
+        }
+        Thread.ofVirtual().name("graceful-drain").start(() -> {
+            try {
+                pause();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    /**
+     * Marks the instance {@code DOWN}.
+     *
+     * @return false if there is nothing to wait for (no Eureka client or no
+     *         delay).
+     */
+    private boolean deregister() {
+        ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+        if (manager == null || propagationDelay.isZero() || propagationDelay.isNegative()) {
+            return false;
+        }
+        manager.setInstanceStatus(InstanceStatus.DOWN);
+        log.info("Instance marked DOWN in Eureka, serving for {} more before draining", propagationDelay);
+        return true;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(propagationDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Propagation delay elapsed, draining in-flight requests");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
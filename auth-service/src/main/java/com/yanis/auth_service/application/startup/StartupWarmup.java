@@ -0,0 +1,251 @@
+package com.yanis.auth_service.application.startup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.yanis.auth_service.adapter.in.web.dto.AuthResponse;
+import com.yanis.auth_service.adapter.in.web.dto.LoginRequest;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+import com.yanis.auth_service.domain.port.out.UserRepository;
+import com.yanis.auth_service.domain.service.AuthService;
+import com.yanis.auth_service.domain.service.JwtService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms the instance up before Eureka advertises it.
+ *
+ * <p>
+ * The instance registers as {@code STARTING} ({@code eureka.instance.initial-status}),
+ * so the gateway does not route to it yet. Once the context is ready, the
+ * following phases run on {@code concurrency} threads:
+ * </p>
+ * <ul>
+ * <li>{@code login}: full {@link AuthService#login} against an in-memory
+ * stand-in user (BCrypt, token signing), with no throttle, audit or outbox
+ * side effect;</li>
+ * <li>{@code token}: token signing, validation and parsing;</li>
+ * <li>{@code database}: user lookups, opening the connection pool;</li>
+ * <li>{@code redis}: login throttle reads, opening the Redis connection;</li>
+ * <li>{@code json}: request and response (de)serialisation.</li>
+ * </ul>
+ *
+ * <p>
+ * The instance is then set {@code UP}, even if a phase failed or the overall
+ * {@code timeout} elapsed, so a broken dependency delays but never blocks
+ * registration. Running in the {@link ApplicationReadyEvent} listener also
+ * keeps the readiness probe at {@code REFUSING_TRAFFIC} until it ends.
+ * Phase durations are recorded in {@code auth.startup.warmup{phase}} and the
+ * JVM uptime at {@code UP} in {@code auth.startup.time-to-ready}.
+ * </p>
+ */
+@Component
+@Slf4j
+public class StartupWarmup {
+
+    static final String STAND_IN_EMAIL = "warmup@startup.invalid";
+    private static final String STAND_IN_PASSWORD = "Warmup-Passw0rd!";
+
+    private final PasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final UserRepository userRepository;
+    private final LoginThrottle loginThrottle;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final AtomicReference<Double> timeToReady = new AtomicReference<>(Double.NaN);
+
+    @Value("${auth.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.warmup.iterations:200}")
+    private int iterations;
+
+    @Value("${auth.warmup.login-iterations:20}")
+    private int loginIterations;
+
+    @Value("${auth.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${auth.warmup.timeout:60s}")
+    private Duration timeout;
+
+    public StartupWarmup(PasswordEncoder passwordEncoder, JwtService jwtService, UserRepository userRepository,
+            LoginThrottle loginThrottle, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.passwordEncoder = passwordEncoder;
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.loginThrottle = loginThrottle;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.applicationInfoManager = applicationInfoManager;
+        Gauge.builder("auth.startup.time-to-ready", timeToReady, AtomicReference::get)
+                .description("JVM uptime when the instance was marked UP")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+            try {
+                warmUp(executor, deadline);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        markUp();
+    }
+
+    private void warmUp(ExecutorService executor, long deadline) {
+        User standIn = User.builder()
+                .id(0L)
+                .email(STAND_IN_EMAIL)
+                .passwordHash(passwordEncoder.encode(STAND_IN_PASSWORD))
+                .createdAt(LocalDateTime.now())
+                .build();
+        standIn.addRole("USER");
+        AuthService standInService = new AuthService(new StandInUserRepository(standIn), passwordEncoder,
+                jwtService, new NoThrottle(), event -> {
+                }, event -> {
+                }, LatencyProfiler.noop());
+        String token = jwtService.generateAccessToken(standIn);
+
+        run("login", loginIterations, executor, deadline,
+                () -> standInService.login(STAND_IN_EMAIL, STAND_IN_PASSWORD, "127.0.0.1"));
+        run("token", iterations, executor, deadline, () -> {
+            jwtService.generateAccessToken(standIn);
+            jwtService.generateRefreshToken(standIn);
+            jwtService.validateToken(token);
+            return jwtService.extractEmail(token);
+        });
+        run("database", iterations, executor, deadline, () -> userRepository.findByEmail(STAND_IN_EMAIL));
+        run("redis", iterations, executor, deadline, () -> loginThrottle.lockedFor(STAND_IN_EMAIL, "127.0.0.1"));
+        run("json", iterations, executor, deadline, () -> {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(new LoginRequest(STAND_IN_EMAIL,
+                    STAND_IN_PASSWORD)), LoginRequest.class);
+            return objectMapper.writeValueAsBytes(new AuthResponse(token, token));
+        });
+    }
+
+    /**
+     * Runs one phase; failures are logged once and do not stop the warm-up.
+     */
+    private void run(String phase, int count, ExecutorService executor, long deadline, Warmable task) {
+        long start = System.nanoTime();
+        List<Future<Object>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(task::call));
+        }
+        int failures = 0;
+        Exception firstFailure = null;
+        for (Future<Object> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                log.warn("Warm-up timed out during phase {}", phase);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failures++;
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("auth.startup.warmup")
+                .description("Duration of each startup warm-up phase")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (failures > 0) {
+            log.warn("Warm-up phase {}: {}/{} iterations failed", phase, failures, count, firstFailure);
+        } else {
+            log.info("Warm-up phase {}: {} iterations in {}ms", phase, count, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void markUp() {
+        double uptimeSeconds = ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0;
+        timeToReady.set(uptimeSeconds);
+        ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+        if (manager != null) {
+            manager.setInstanceStatus(InstanceStatus.UP);
+        }
+        log.info("Instance marked UP {}s after JVM start", uptimeSeconds);
+    }
+
+    @FunctionalInterface
+    private interface Warmable {
+        Object call() throws Exception;
+    }
+
+    private record StandInUserRepository(User user) implements UserRepository {
+
+        @Override
+        public User save(User toSave) {
+            return toSave;
+        }
+
+        @Override
+        public Optional<User> insertIfAbsent(User toInsert) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return STAND_IN_EMAIL.equals(email) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return STAND_IN_EMAIL.equals(email);
+        }
+    }
+
+    private static final class NoThrottle implements LoginThrottle {
+
+        @Override
+        public Optional<Duration> lockedFor(String email, String clientIp) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void recordFailure(String email, String clientIp) {
+        }
+
+        @Override
+        public void recordSuccess(String email) {
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.yanis.auth_service.domain.event;
+
+/**
+ * Event recorded by the domain and published to other services.
+ */
+public interface DomainEvent {
+
+    /**
+     * Returns the id of the aggregate the event is about (also the message
+     * key, so events of one aggregate stay ordered).
+     */
+    String aggregateId();
+
+    /**
+     * Returns the event type name (e.g. {@code UserRegistered}).
+     */
+    String eventType();
+}
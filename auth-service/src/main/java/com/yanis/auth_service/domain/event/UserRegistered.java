@@ -0,0 +1,38 @@
+package com.yanis.auth_service.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.yanis.auth_service.domain.model.User;
+
+/**
+ * Published when a user account has been created.
+ *
+ * @param userId    Generated user id.
+ * @param email     User email.
+ * @param roles     Granted roles.
+ * @param createdAt Account creation time.
+ */
+public record UserRegistered(long userId, String email, Set<String> roles, LocalDateTime createdAt)
+        implements DomainEvent {
+
+    /**
+     * Creates the event for a persisted user.
+     *
+     * @param user Saved user (with its id).
+     * @return The event.
+     */
+    public static UserRegistered of(User user) {
+        return new UserRegistered(user.getId(), user.getEmail(), Set.copyOf(user.getRoles()), user.getCreatedAt());
+    }
+
+    @Override
+    public String aggregateId() {
+        return Long.toString(userId);
+    }
+
+    @Override
+    public String eventType() {
+        return "UserRegistered";
+    }
+}
@@ -0,0 +1,17 @@
+package com.yanis.auth_service.domain.exception;
+
+import java.time.Duration;
+
+public class AccountLockedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AccountLockedException(Duration retryAfter) {
+        super("Too many failed login attempts, retry in " + retryAfter.toSeconds() + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
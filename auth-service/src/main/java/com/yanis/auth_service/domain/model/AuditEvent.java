@@ -0,0 +1,24 @@
+package com.yanis.auth_service.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Authentication audit record.
+ *
+ * @param type       Event kind.
+ * @param userId     User id, {@code null} when unknown (e.g. failed login).
+ * @param email      Email the attempt was made for.
+ * @param clientIp   Client IP, {@code null} when unknown.
+ * @param detail     Short machine-readable detail (e.g. failure reason).
+ * @param occurredAt Event time.
+ */
+public record AuditEvent(AuditEventType type, Long userId, String email, String clientIp, String detail,
+        Instant occurredAt) {
+
+    /**
+     * Creates an event occurring now.
+     */
+    public static AuditEvent of(AuditEventType type, Long userId, String email, String clientIp, String detail) {
+        return new AuditEvent(type, userId, email, clientIp, detail, Instant.now());
+    }
+}
@@ -0,0 +1,25 @@
+package com.yanis.auth_service.domain.model;
+
+/**
+ * Kinds of authentication events recorded in the audit log.
+ */
+public enum AuditEventType {
+
+    REGISTERED(false),
+    LOGIN_SUCCEEDED(false),
+    LOGIN_FAILED(true),
+    TOKEN_ISSUED(false);
+
+    private final boolean failure;
+
+    AuditEventType(boolean failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Returns whether the event records a rejected attempt.
+     */
+    public boolean isFailure() {
+        return failure;
+    }
+}
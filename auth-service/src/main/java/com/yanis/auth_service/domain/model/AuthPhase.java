@@ -0,0 +1,35 @@
+package com.yanis.auth_service.domain.model;
+
+/**
+ * Timed steps of the login and registration flows.
+ */
+public enum AuthPhase {
+
+    /** Failed-login throttle check. */
+    THROTTLE,
+
+    /** User lookup by email (includes connection pool wait). */
+    LOOKUP,
+
+    /** BCrypt hash or verification. */
+    PASSWORD,
+
+    /** Access token signing. */
+    ACCESS_TOKEN,
+
+    /** Refresh token signing. */
+    REFRESH_TOKEN,
+
+    /** User insert. */
+    INSERT,
+
+    /** Outbox event append. */
+    OUTBOX;
+
+    /**
+     * Returns the metric tag value ({@code access_token}, ...).
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,76 @@
+package com.yanis.auth_service.domain.port.in;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Use case for bulk-loading users with pre-hashed passwords (bank
+ * migrations).
+ *
+ * <p>
+ * The input is streamed line by line, validated in parallel and written in
+ * batches, so memory does not grow with the file size. Each batch is
+ * committed on its own; the report tells how far the import got so a failed
+ * run can be resumed.
+ * </p>
+ *
+ * @see com.yanis.auth_service.domain.service.UserImportService
+ */
+public interface ImportUsersUseCase {
+
+    /**
+     * Imports users from a stream.
+     *
+     * @param input           NDJSON or CSV content (UTF-8).
+     * @param format          Input format.
+     * @param resumeAfterLine Lines up to this number (1-based) are skipped;
+     *                        pass {@code committedThroughLine} of a previous
+     *                        report to resume, or {@code 0}.
+     * @return Import report.
+     */
+    ImportReport importUsers(InputStream input, Format format, long resumeAfterLine);
+
+    /**
+     * Supported input formats.
+     *
+     * <ul>
+     * <li>{@code NDJSON}: one object per line,
+     * {@code {"email":"...","passwordHash":"$2a$...","roles":["USER"]}}</li>
+     * <li>{@code CSV}: {@code email,passwordHash,roles} with roles separated by
+     * {@code ;} and an optional header line</li>
+     * </ul>
+     */
+    enum Format {
+        NDJSON, CSV
+    }
+
+    /**
+     * Result of an import run.
+     *
+     * @param linesRead            Lines read after the resume point.
+     * @param imported             Users inserted.
+     * @param duplicates           Valid rows skipped because the email exists.
+     * @param rejected             Rows failing validation.
+     * @param committedThroughLine Last line whose batch is committed; resume
+     *                             from here.
+     * @param errors               First rejected rows (capped).
+     * @param abortedReason        Why the run stopped early, or {@code null} if
+     *                             it completed.
+     */
+    record ImportReport(long linesRead, long imported, long duplicates, long rejected,
+            long committedThroughLine, List<RowError> errors, String abortedReason) {
+
+        public boolean completed() {
+            return abortedReason == null;
+        }
+    }
+
+    /**
+     * A rejected input row.
+     *
+     * @param line   Line number (1-based).
+     * @param reason Validation failure.
+     */
+    record RowError(long line, String reason) {
+    }
+}
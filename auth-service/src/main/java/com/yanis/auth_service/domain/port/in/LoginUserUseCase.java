@@ -35,7 +35,26 @@ public interface LoginUserUseCase {
      *                                                                             doesn't
      *                                                                             match.
      */
-    AuthTokens login(String email, String password);
+    default AuthTokens login(String email, String password) {
+        return login(email, password, null);
+    }
+
+    /**
+     * Authenticates a user, applying failed-login throttling per account and
+     * per client IP.
+     *
+     * @param email    The user's email address.
+     * @param password The user's password in plain text.
+     * @param clientIp The client IP, or {@code null} if unknown.
+     * @return AuthTokens containing access and refresh JWT tokens.
+     * @throws com.yanis.auth_service.domain.exception.AccountLockedException
+     *                                                                         if the
+     *                                                                         account
+     *                                                                         or IP is
+     *                                                                         locked
+     *                                                                         out.
+     */
+    AuthTokens login(String email, String password, String clientIp);
 
     /**
      * Container for JWT authentication tokens.
@@ -0,0 +1,27 @@
+package com.yanis.auth_service.domain.port.in;
+
+import com.yanis.auth_service.domain.port.in.LoginUserUseCase.AuthTokens;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link LoginUserUseCase} (profile
+ * {@code reactive}).
+ *
+ * @see com.yanis.auth_service.domain.service.ReactiveAuthService
+ */
+public interface ReactiveLoginUserUseCase {
+
+    /**
+     * Authenticates a user and returns JWT tokens.
+     *
+     * @param email    The user's email address.
+     * @param password The user's password in plain text.
+     * @param clientIp The client IP, or {@code null} if unknown.
+     * @return The tokens, or an error signal with
+     *         {@link com.yanis.auth_service.domain.exception.InvalidCredentialsException}
+     *         or
+     *         {@link com.yanis.auth_service.domain.exception.AccountLockedException}.
+     */
+    Mono<AuthTokens> login(String email, String password, String clientIp);
+}
@@ -0,0 +1,24 @@
+package com.yanis.auth_service.domain.port.in;
+
+import com.yanis.auth_service.domain.model.User;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link RegisterUserUseCase} (profile
+ * {@code reactive}).
+ *
+ * @see com.yanis.auth_service.domain.service.ReactiveAuthService
+ */
+public interface ReactiveRegisterUserUseCase {
+
+    /**
+     * Registers a new user with the provided credentials.
+     *
+     * @param email    The user's email address (must be unique).
+     * @param password The user's password in plain text.
+     * @return The created user, or an error signal with
+     *         {@link com.yanis.auth_service.domain.exception.UserAlreadyExistsException}.
+     */
+    Mono<User> register(String email, String password);
+}
@@ -0,0 +1,22 @@
+package com.yanis.auth_service.domain.port.out;
+
+import com.yanis.auth_service.domain.model.AuditEvent;
+
+/**
+ * Output port for the authentication audit trail.
+ *
+ * <p>
+ * Implementations decide how durable a record is when this method returns;
+ * recording must never make the audited operation fail.
+ * </p>
+ */
+public interface AuditLog {
+
+    /**
+     * Records an audit event. Inside a transaction, the event is recorded only
+     * once the transaction commits.
+     *
+     * @param event Event to record.
+     */
+    void record(AuditEvent event);
+}
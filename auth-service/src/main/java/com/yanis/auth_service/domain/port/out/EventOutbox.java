@@ -0,0 +1,33 @@
+package com.yanis.auth_service.domain.port.out;
+
+import java.util.List;
+
+import com.yanis.auth_service.domain.event.DomainEvent;
+
+/**
+ * Output port recording domain events for asynchronous publication.
+ *
+ * <p>
+ * {@link #append(DomainEvent)} must join the caller's transaction: the event
+ * is published if and only if the state change it describes commits.
+ * </p>
+ */
+public interface EventOutbox {
+
+    /**
+     * Records an event in the current transaction.
+     *
+     * @param event Event to publish.
+     */
+    void append(DomainEvent event);
+
+    /**
+     * Records several events in the current transaction, in list order.
+     * Adapters may override it with a single statement.
+     *
+     * @param events Events to publish.
+     */
+    default void appendAll(List<? extends DomainEvent> events) {
+        events.forEach(this::append);
+    }
+}
@@ -0,0 +1,74 @@
+package com.yanis.auth_service.domain.port.out;
+
+import java.util.function.Supplier;
+
+import com.yanis.auth_service.domain.model.AuthPhase;
+
+/**
+ * Output port timing the phases of an authentication operation.
+ *
+ * <p>
+ * A {@link Profile} is opened per operation on the calling thread, each step
+ * is wrapped in {@link Profile#time(AuthPhase, Supplier)}, and closing the
+ * profile records the whole operation with its outcome.
+ * </p>
+ */
+public interface LatencyProfiler {
+
+    /**
+     * Opens a profile for one operation on the current thread.
+     *
+     * @param operation Operation name ({@code login}, {@code register}).
+     * @return The profile, to be closed when the operation ends.
+     */
+    Profile start(String operation);
+
+    /**
+     * Returns a profiler that only runs the steps.
+     */
+    static LatencyProfiler noop() {
+        return operation -> new Profile() {
+            @Override
+            public <T> T time(AuthPhase phase, Supplier<T> step) {
+                return step.get();
+            }
+
+            @Override
+            public void outcome(String outcome) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Timing of one operation in progress.
+     */
+    interface Profile extends AutoCloseable {
+
+        /**
+         * Runs and times a step.
+         *
+         * @param phase Phase the step belongs to.
+         * @param step  Step to run.
+         * @return The step result.
+         */
+        <T> T time(AuthPhase phase, Supplier<T> step);
+
+        /**
+         * Sets the outcome tag. A profile closed without an outcome is
+         * recorded as {@code error}.
+         *
+         * @param outcome Outcome name.
+         */
+        void outcome(String outcome);
+
+        /**
+         * Records the operation.
+         */
+        @Override
+        void close();
+    }
+}
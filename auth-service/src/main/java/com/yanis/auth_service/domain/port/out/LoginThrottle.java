@@ -0,0 +1,43 @@
+package com.yanis.auth_service.domain.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Throttle port tracking failed logins per account and per client IP.
+ *
+ * <p>
+ * Consulted before any user lookup or password hash verification, so that
+ * attempts against a locked account or from a locked IP cost no database
+ * round trip and no BCrypt work.
+ * </p>
+ *
+ * @see com.yanis.auth_service.adapter.out.throttle.RedisLoginThrottle
+ */
+public interface LoginThrottle {
+
+    /**
+     * Checks whether the account or the client IP is currently locked out.
+     *
+     * @param email    The login email.
+     * @param clientIp The client IP, or {@code null} if unknown.
+     * @return Remaining lockout, or empty if the attempt may proceed.
+     */
+    Optional<Duration> lockedFor(String email, String clientIp);
+
+    /**
+     * Records a failed attempt, locking the account or IP once its threshold
+     * is reached. Each further failure doubles the lockout.
+     *
+     * @param email    The login email.
+     * @param clientIp The client IP, or {@code null} if unknown.
+     */
+    void recordFailure(String email, String clientIp);
+
+    /**
+     * Clears the account failure counter after a successful login.
+     *
+     * @param email The login email.
+     */
+    void recordSuccess(String email);
+}
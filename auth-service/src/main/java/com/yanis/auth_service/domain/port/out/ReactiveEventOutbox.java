@@ -0,0 +1,28 @@
+package com.yanis.auth_service.domain.port.out;
+
+import com.yanis.auth_service.domain.event.DomainEvent;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EventOutbox} for the reactive adapter
+ * set.
+ *
+ * <p>
+ * {@link #append(DomainEvent)} must join the caller's reactive transaction,
+ * with the same guarantee: the event is published if and only if the state
+ * change it describes commits.
+ * </p>
+ *
+ * @see com.yanis.auth_service.adapter.out.outbox.R2dbcEventOutbox
+ */
+public interface ReactiveEventOutbox {
+
+    /**
+     * Records an event in the current reactive transaction.
+     *
+     * @param event Event to publish.
+     * @return Completes once the row is written.
+     */
+    Mono<Void> append(DomainEvent event);
+}
@@ -0,0 +1,30 @@
+package com.yanis.auth_service.domain.port.out;
+
+import com.yanis.auth_service.domain.model.User;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository port for the reactive adapter set.
+ *
+ * @see com.yanis.auth_service.adapter.out.persistence.R2dbcUserRepository
+ */
+public interface ReactiveUserRepository {
+
+    /**
+     * Finds a user by email address, ignoring case.
+     *
+     * @param email The email to search for.
+     * @return The user, or empty if not found.
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Inserts a new user unless the email (case-insensitive) is taken.
+     *
+     * @param user The user to insert (without ID).
+     * @return The inserted user with its generated ID, or empty if the email
+     *         is already registered.
+     */
+    Mono<User> insertIfAbsent(User user);
+}
@@ -0,0 +1,22 @@
+package com.yanis.auth_service.domain.port.out;
+
+import java.util.List;
+
+import com.yanis.auth_service.domain.model.User;
+
+/**
+ * Output port for batched user inserts.
+ *
+ * @see com.yanis.auth_service.adapter.out.persistence.JdbcUserBulkWriter
+ */
+public interface UserBulkWriter {
+
+    /**
+     * Inserts a batch of new users atomically, skipping emails that already
+     * exist (case-insensitive).
+     *
+     * @param users Users to insert (without ID).
+     * @return Number of users actually inserted.
+     */
+    int insertBatch(List<User> users);
+}
@@ -25,7 +25,21 @@ public interface UserRepository {
     User save(User user);
 
     /**
-     * Finds a user by email address.
+     * Inserts a new user unless the email (case-insensitive) is taken.
+     *
+     * <p>
+     * Single round trip: duplicates are detected by the database, not by a
+     * prior existence check, so concurrent registrations cannot race.
+     * </p>
+     *
+     * @param user The user to insert (without ID).
+     * @return The inserted user with its generated ID, or empty if the email
+     *         is already registered.
+     */
+    Optional<User> insertIfAbsent(User user);
+
+    /**
+     * Finds a user by email address, ignoring case.
      *
      * @param email The email to search for.
      * @return Optional containing the user if found, empty otherwise.
@@ -33,7 +47,7 @@ public interface UserRepository {
     Optional<User> findByEmail(String email);
 
     /**
-     * Checks if a user with the given email exists.
+     * Checks if a user with the given email exists, ignoring case.
      *
      * @param email The email to check.
      * @return true if user exists, false otherwise.
@@ -0,0 +1,127 @@
+package com.yanis.auth_service.domain.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.yanis.auth_service.domain.exception.AccountLockedException;
+import com.yanis.auth_service.domain.exception.InvalidCredentialsException;
+import com.yanis.auth_service.domain.model.AuditEvent;
+import com.yanis.auth_service.domain.model.AuditEventType;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registration and login steps of {@link ReactiveAuthService}.
+ *
+ * <p>
+ * The same rules as {@link AuthService}, split into plain blocking calls so
+ * the reactive service can compose them on its hashing scheduler;
+ * {@link AuthService} keeps its own inline implementation. The sequencing:
+ * </p>
+ * <ol>
+ * <li>login: {@link #lockedFor} before any lookup or hashing, then
+ * {@link #passwordMatches}, then {@link #invalidCredentials} or
+ * {@link #loginSucceeded}, and {@link #tokensIssued} once signed;</li>
+ * <li>registration: {@link #newUser}, insert, then {@link #registered}.</li>
+ * </ol>
+ */
+@RequiredArgsConstructor
+class AuthRules {
+
+    static final String DEFAULT_ROLE = "USER";
+
+    private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
+    private final AuditLog auditLog;
+
+    /**
+     * Builds a new account with the default role.
+     *
+     * @param email    Account email.
+     * @param password Raw password, hashed here.
+     * @return The user to insert (without ID).
+     */
+    User newUser(String email, String password) {
+        User user = User.builder()
+                .email(email)
+                .passwordHash(passwordEncoder.encode(password))
+                .createdAt(LocalDateTime.now())
+                .build();
+        user.addRole(DEFAULT_ROLE);
+        return user;
+    }
+
+    /**
+     * Records a completed registration.
+     *
+     * @param saved The inserted user.
+     */
+    void registered(User saved) {
+        auditLog.record(AuditEvent.of(AuditEventType.REGISTERED, saved.getId(), saved.getEmail(), null, null));
+    }
+
+    /**
+     * Tells whether the account or client is locked out.
+     *
+     * @return The remaining lockout, or empty.
+     */
+    Optional<Duration> lockedFor(String email, String clientIp) {
+        return loginThrottle.lockedFor(email, clientIp);
+    }
+
+    /**
+     * Audits a rejected attempt on a locked account.
+     *
+     * @return The exception to throw.
+     */
+    AccountLockedException locked(String email, String clientIp, Duration remaining) {
+        auditLog.record(AuditEvent.of(AuditEventType.LOGIN_FAILED, null, email, clientIp, "locked"));
+        return new AccountLockedException(remaining);
+    }
+
+    /**
+     * Verifies a password against a looked-up account.
+     *
+     * @param user     The account, {@code null} if unknown.
+     * @param password Raw password.
+     * @return Whether the credentials are valid.
+     */
+    boolean passwordMatches(User user, String password) {
+        return user != null && passwordEncoder.matches(password, user.getPasswordHash());
+    }
+
+    /**
+     * Counts and audits a failed login.
+     *
+     * @param user The account, {@code null} if unknown.
+     * @return The exception to throw.
+     */
+    InvalidCredentialsException invalidCredentials(User user, String email, String clientIp) {
+        loginThrottle.recordFailure(email, clientIp);
+        auditLog.record(AuditEvent.of(AuditEventType.LOGIN_FAILED, user == null ? null : user.getId(), email,
+                clientIp, user == null ? "unknown_user" : "bad_password"));
+        return new InvalidCredentialsException();
+    }
+
+    /**
+     * Resets the failure count and audits a successful login.
+     */
+    void loginSucceeded(User user, String email, String clientIp) {
+        loginThrottle.recordSuccess(email);
+        auditLog.record(AuditEvent.of(AuditEventType.LOGIN_SUCCEEDED, user.getId(), email, clientIp, null));
+    }
+
+    /**
+     * Audits the access and refresh tokens issued by a login.
+     */
+    void tokensIssued(User user, String email, String clientIp) {
+        auditLog.record(AuditEvent.of(AuditEventType.TOKEN_ISSUED, user.getId(), email, clientIp,
+                "access,refresh"));
+    }
+}
@@ -1,16 +1,27 @@
 package com.yanis.auth_service.domain.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.yanis.auth_service.domain.event.UserRegistered;
+import com.yanis.auth_service.domain.exception.AccountLockedException;
 import com.yanis.auth_service.domain.exception.InvalidCredentialsException;
 import com.yanis.auth_service.domain.exception.UserAlreadyExistsException;
+import com.yanis.auth_service.domain.model.AuditEvent;
+import com.yanis.auth_service.domain.model.AuditEventType;
+import com.yanis.auth_service.domain.model.AuthPhase;
 import com.yanis.auth_service.domain.model.User;
 import com.yanis.auth_service.domain.port.in.LoginUserUseCase;
 import com.yanis.auth_service.domain.port.in.RegisterUserUseCase;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.EventOutbox;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
 import com.yanis.auth_service.domain.port.out.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -22,10 +33,16 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * This service handles:
  * <ul>
- * <li>User registration with email uniqueness validation</li>
+ * <li>User registration with case-insensitive email uniqueness, enforced
+ * in a single insert</li>
+ * <li>{@link UserRegistered} events written to the outbox in the
+ * registration transaction</li>
  * <li>Password hashing using BCrypt</li>
  * <li>User authentication with credential verification</li>
+ * <li>Failed-login throttling checked before any lookup or hashing</li>
  * <li>JWT token generation for authenticated users</li>
+ * <li>Audit records for registrations, logins and issued tokens</li>
+ * <li>Per-phase latency profiling (throttle, lookup, BCrypt, signing)</li>
  * </ul>
  *
  * @see RegisterUserUseCase
@@ -40,46 +57,78 @@ public class AuthService implements RegisterUserUseCase, LoginUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final LoginThrottle loginThrottle;
+    private final EventOutbox eventOutbox;
+    private final AuditLog auditLog;
+    private final LatencyProfiler latencyProfiler;
 
     @Override
     @Transactional
     public User register(String email, String password, String firstName, String lastName) {
         log.info("Attempting to register user with email: {}", email);
 
-        if (userRepository.existsByEmail(email)) {
-            throw new UserAlreadyExistsException(email);
+        try (LatencyProfiler.Profile profile = latencyProfiler.start("register")) {
+            User user = User.builder()
+                    .email(email)
+                    .passwordHash(profile.time(AuthPhase.PASSWORD, () -> passwordEncoder.encode(password)))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            user.addRole("USER");
+
+            Optional<User> inserted = profile.time(AuthPhase.INSERT, () -> userRepository.insertIfAbsent(user));
+            if (inserted.isEmpty()) {
+                profile.outcome("conflict");
+                throw new UserAlreadyExistsException(email);
+            }
+            User savedUser = inserted.get();
+            profile.time(AuthPhase.OUTBOX, () -> {
+                eventOutbox.append(UserRegistered.of(savedUser));
+                return null;
+            });
+            auditLog.record(AuditEvent.of(AuditEventType.REGISTERED, savedUser.getId(), email, null, null));
+            profile.outcome("success");
+            log.info("User registered successfully with id: {}", savedUser.getId());
+
+            return savedUser;
         }
-
-        User user = User.builder()
-                .email(email)
-                .passwordHash(passwordEncoder.encode(password))
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        user.addRole("USER");
-
-        User savedUser = userRepository.save(user);
-        log.info("User registered successfully with id: {}", savedUser.getId());
-
-        return savedUser;
     }
 
     @Override
-    public AuthTokens login(String email, String password) {
+    public AuthTokens login(String email, String password, String clientIp) {
         log.info("Attempting login for email: {}", email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
-
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
-            throw new InvalidCredentialsException();
+        try (LatencyProfiler.Profile profile = latencyProfiler.start("login")) {
+            Optional<Duration> lock = profile.time(AuthPhase.THROTTLE, () -> loginThrottle.lockedFor(email, clientIp));
+            if (lock.isPresent()) {
+                profile.outcome("locked");
+                auditLog.record(AuditEvent.of(AuditEventType.LOGIN_FAILED, null, email, clientIp, "locked"));
+                throw new AccountLockedException(lock.get());
+            }
+
+            User user = profile.time(AuthPhase.LOOKUP, () -> userRepository.findByEmail(email).orElse(null));
+
+            if (user == null || !profile.time(AuthPhase.PASSWORD,
+                    () -> passwordEncoder.matches(password, user.getPasswordHash()))) {
+                profile.outcome("invalid_credentials");
+                loginThrottle.recordFailure(email, clientIp);
+                auditLog.record(AuditEvent.of(AuditEventType.LOGIN_FAILED, user == null ? null : user.getId(), email,
+                        clientIp, user == null ? "unknown_user" : "bad_password"));
+                throw new InvalidCredentialsException();
+            }
+
+            loginThrottle.recordSuccess(email);
+            auditLog.record(AuditEvent.of(AuditEventType.LOGIN_SUCCEEDED, user.getId(), email, clientIp, null));
+
+            String accessToken = profile.time(AuthPhase.ACCESS_TOKEN, () -> jwtService.generateAccessToken(user));
+            String refreshToken = profile.time(AuthPhase.REFRESH_TOKEN, () -> jwtService.generateRefreshToken(user));
+            auditLog.record(AuditEvent.of(AuditEventType.TOKEN_ISSUED, user.getId(), email, clientIp,
+                    "access,refresh"));
+            profile.outcome("success");
+
+            log.info("User logged in successfully: {}", email);
+
+            return new AuthTokens(accessToken, refreshToken);
         }
-
-        String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
-
-        log.info("User logged in successfully: {}", email);
-
-        return new AuthTokens(accessToken, refreshToken);
     }
 }
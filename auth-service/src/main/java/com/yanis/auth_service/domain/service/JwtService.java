@@ -1,28 +1,34 @@
 package com.yanis.auth_service.domain.service;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.crypto.SecretKey;
-
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.yanis.auth_service.application.security.SigningKeyRegistry;
+import com.yanis.auth_service.application.security.TokenMinter;
 import com.yanis.auth_service.domain.model.User;
+import com.yanis.platform_security.RoleTable;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service for JWT token generation and validation.
  *
  * <p>
- * Uses JJWT library with HMAC-SHA256 signing algorithm.
- * Tokens include user email as subject and roles as claims.
+ * Tokens are minted by {@link TokenMinter} with the active key of the
+ * {@link SigningKeyRegistry} (HMAC, ES256 or EdDSA, selected by {@code kid})
+ * and verified with JJWT. Tokens include user email as subject and roles as
+ * claims.
+ * </p>
+ *
+ * <p>
+ * When {@code jwt.compact-claims.enabled} is set, access tokens use the
+ * compact claim profile: roles as a bitmask against the shared
+ * {@link RoleTable} ({@code rb}), the numeric user id ({@code uid}) and no
+ * {@code iat}. Users holding a role missing from the table fall back to the
+ * full {@code roles} array.
  * </p>
  *
  * <p>
@@ -38,14 +44,27 @@ import lombok.extern.slf4j.Slf4j;
  * </ul>
  *
  * @see io.jsonwebtoken.Jwts
+ * @see SigningKeyRegistry
+ * @see TokenMinter
  * @see com.yanis.auth_service.domain.model.User
  */
 @Service
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    /**
+     * Compact profile claim holding the role bitmask.
+     */
+    public static final String ROLE_BITS_CLAIM = "rb";
+
+    /**
+     * Compact profile claim holding the numeric user id.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    private final RoleTable roleTable;
+    private final TokenMinter tokenMinter;
+    private final JwtParser parser;
 
     @Value("${jwt.expiration-ms}")
     private long expirationMs;
@@ -53,6 +72,17 @@ public class JwtService {
     @Value("${jwt.refresh-expiration-ms:604800000}")
     private long refreshExpirationMs;
 
+    @Value("${jwt.compact-claims.enabled:false}")
+    private boolean compactClaims;
+
+    public JwtService(SigningKeyRegistry keyRegistry, RoleTable roleTable, TokenMinter tokenMinter) {
+        this.roleTable = roleTable;
+        this.tokenMinter = tokenMinter;
+        this.parser = Jwts.parser()
+                .keyLocator(keyRegistry.verificationKeyLocator())
+                .build();
+    }
+
     /**
      * Generates a short-lived access token for API authentication.
      *
@@ -64,9 +94,11 @@ public class JwtService {
      * @return JWT access token valid for 30 minutes.
      */
     public String generateAccessToken(User user) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", user.getRoles());
-        return generateToken(claims, user.getEmail(), expirationMs);
+        if (compactClaims && roleTable.canEncode(user.getRoles())) {
+            return tokenMinter.mint(user.getEmail(), null, roleTable.encode(user.getRoles()), user.getId(),
+                    expirationMs, false);
+        }
+        return tokenMinter.mint(user.getEmail(), user.getRoles(), null, null, expirationMs, true);
     }
 
     /**
@@ -80,17 +112,7 @@ public class JwtService {
      * @return JWT refresh token valid for 7 days.
      */
     public String generateRefreshToken(User user) {
-        return generateToken(new HashMap<>(), user.getEmail(), refreshExpirationMs);
-    }
-
-    private String generateToken(Map<String, Object> claims, String subject, long expiration) {
-        return Jwts.builder()
-                .claims(claims)
-                .subject(subject)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
+        return tokenMinter.mint(user.getEmail(), null, null, null, refreshExpirationMs, true);
     }
 
     /**
@@ -101,10 +123,7 @@ public class JwtService {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
@@ -123,15 +142,6 @@ public class JwtService {
     }
 
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,104 @@
+package com.yanis.auth_service.domain.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.yanis.auth_service.domain.event.UserRegistered;
+import com.yanis.auth_service.domain.exception.UserAlreadyExistsException;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.in.LoginUserUseCase.AuthTokens;
+import com.yanis.auth_service.domain.port.in.ReactiveLoginUserUseCase;
+import com.yanis.auth_service.domain.port.in.ReactiveRegisterUserUseCase;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+import com.yanis.auth_service.domain.port.out.ReactiveEventOutbox;
+import com.yanis.auth_service.domain.port.out.ReactiveUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Non-blocking authentication service (profile {@code reactive}).
+ *
+ * <p>
+ * Same rules as {@link AuthService}, which is left as is: this service
+ * composes its own steps ({@link AuthRules}) as a reactive pipeline. User
+ * lookups and inserts go through R2DBC without holding a thread (a new user
+ * and its {@link UserRegistered} outbox row in one transaction), while
+ * BCrypt and the (Redis) login throttle run on a bounded scheduler so a
+ * burst of logins queues there instead of starving the event loop. Audit
+ * records are also written from that scheduler, since a synchronous failure
+ * audit may block. {@link JwtService} signing is cheap enough to run inline.
+ * </p>
+ *
+ * @see AuthService
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveAuthService implements ReactiveRegisterUserUseCase, ReactiveLoginUserUseCase {
+
+    private final ReactiveUserRepository userRepository;
+    private final JwtService jwtService;
+    private final AuthRules authRules;
+    private final ReactiveEventOutbox eventOutbox;
+    private final TransactionalOperator transactionalOperator;
+    private final Scheduler hashingScheduler;
+
+    public ReactiveAuthService(ReactiveUserRepository userRepository, PasswordEncoder passwordEncoder,
+            JwtService jwtService, LoginThrottle loginThrottle, AuditLog auditLog,
+            ReactiveEventOutbox eventOutbox, TransactionalOperator transactionalOperator,
+            @Qualifier("passwordHashingScheduler") Scheduler hashingScheduler) {
+        this.userRepository = userRepository;
+        this.jwtService = jwtService;
+        this.authRules = new AuthRules(passwordEncoder, loginThrottle, auditLog);
+        this.eventOutbox = eventOutbox;
+        this.transactionalOperator = transactionalOperator;
+        this.hashingScheduler = hashingScheduler;
+    }
+
+    @Override
+    public Mono<User> register(String email, String password) {
+        return Mono.fromCallable(() -> authRules.newUser(email, password))
+                .subscribeOn(hashingScheduler)
+                .flatMap(user -> userRepository.insertIfAbsent(user)
+                        .flatMap(saved -> eventOutbox.append(UserRegistered.of(saved)).thenReturn(saved))
+                        .as(transactionalOperator::transactional))
+                .switchIfEmpty(Mono.error(() -> new UserAlreadyExistsException(email)))
+                .publishOn(hashingScheduler)
+                .doOnNext(saved -> {
+                    authRules.registered(saved);
+                    log.info("User registered successfully with id: {}", saved.getId());
+                });
+    }
+
+    @Override
+    public Mono<AuthTokens> login(String email, String password, String clientIp) {
+        return Mono.fromCallable(() -> authRules.lockedFor(email, clientIp))
+                .subscribeOn(hashingScheduler)
+                .flatMap(lock -> {
+                    if (lock.isPresent()) {
+                        return Mono.<Optional<User>>error(authRules.locked(email, clientIp, lock.get()));
+                    }
+                    return userRepository.findByEmail(email).map(Optional::of).defaultIfEmpty(Optional.empty());
+                })
+                .publishOn(hashingScheduler)
+                .map(found -> {
+                    User user = found.orElse(null);
+                    if (!authRules.passwordMatches(user, password)) {
+                        throw authRules.invalidCredentials(user, email, clientIp);
+                    }
+                    authRules.loginSucceeded(user, email, clientIp);
+                    AuthTokens tokens = new AuthTokens(jwtService.generateAccessToken(user),
+                            jwtService.generateRefreshToken(user));
+                    authRules.tokensIssued(user, email, clientIp);
+                    return tokens;
+                });
+    }
+}
@@ -0,0 +1,220 @@
+package com.yanis.auth_service.domain.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase;
+import com.yanis.auth_service.domain.port.out.UserBulkWriter;
+import com.yanis.platform_security.RoleTable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk user import for partner bank migrations.
+ *
+ * <p>
+ * Reads the input one chunk of {@code batch-size} lines at a time, parses and
+ * validates the chunk in parallel, then hands the valid rows to
+ * {@link UserBulkWriter} as one batch. Passwords arrive already hashed: no
+ * BCrypt work is done, only the hash format is checked.
+ * </p>
+ *
+ * <p>
+ * A batch is either fully committed or not at all, so
+ * {@code committedThroughLine} in the report is always a safe resume point.
+ * A write failure stops the run; validation failures only reject their row.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService implements ImportUsersUseCase {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final UserBulkWriter userBulkWriter;
+    private final RoleTable roleTable;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auth.import.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${auth.import.max-reported-errors:1000}")
+    private int maxReportedErrors = 1000;
+
+    @Override
+    public ImportReport importUsers(InputStream input, Format format, long resumeAfterLine) {
+        log.info("Starting {} user import, resuming after line {}", format, resumeAfterLine);
+
+        Progress progress = new Progress(resumeAfterLine);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            List<Line> chunk = new ArrayList<>(batchSize);
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= resumeAfterLine || text.isBlank() || isCsvHeader(format, lineNumber, text)) {
+                    continue;
+                }
+                chunk.add(new Line(lineNumber, text));
+                if (chunk.size() == batchSize) {
+                    writeChunk(chunk, format, progress, lineNumber);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, format, progress, lineNumber);
+            }
+            progress.committedThroughLine = lineNumber;
+        } catch (IOException | UncheckedIOException e) {
+            progress.abortedReason = "Read failed: " + e.getMessage();
+        } catch (RuntimeException e) {
+            log.error("User import aborted after line {}", progress.committedThroughLine, e);
+            progress.abortedReason = "Write failed: " + e.getMessage();
+        }
+
+        ImportReport report = progress.toReport();
+        log.info("User import {}: {} imported, {} duplicates, {} rejected, committed through line {}",
+                report.completed() ? "completed" : "aborted", report.imported(), report.duplicates(),
+                report.rejected(), report.committedThroughLine());
+        return report;
+    }
+
+    private void writeChunk(List<Line> chunk, Format format, Progress progress, long lastLine) {
+        List<ParsedRow> rows = chunk.parallelStream()
+                .map(line -> parse(line, format))
+                .toList();
+
+        List<User> users = new ArrayList<>(rows.size());
+        for (ParsedRow row : rows) {
+            if (row.user() != null) {
+                users.add(row.user());
+            }
+        }
+
+        int inserted = users.isEmpty() ? 0 : userBulkWriter.insertBatch(users);
+
+        // Count rejections only once the batch is committed, so a resumed run
+        // does not report them twice
+        for (ParsedRow row : rows) {
+            if (row.user() == null) {
+                progress.reject(row.line(), row.error(), maxReportedErrors);
+            }
+        }
+        progress.linesRead += chunk.size();
+        progress.imported += inserted;
+        progress.duplicates += users.size() - inserted;
+        progress.committedThroughLine = lastLine;
+    }
+
+    private ParsedRow parse(Line line, Format format) {
+        try {
+            String email;
+            String passwordHash;
+            Set<String> roles = new HashSet<>();
+            if (format == Format.NDJSON) {
+                JsonNode node = objectMapper.readTree(line.text());
+                email = node.path("email").asText(null);
+                passwordHash = node.path("passwordHash").asText(null);
+                node.path("roles").forEach(role -> roles.add(role.asText()));
+            } else {
+                String[] fields = line.text().split(",", -1);
+                if (fields.length < 2 || fields.length > 3) {
+                    return ParsedRow.rejected(line.number(), "Expected email,passwordHash[,roles]");
+                }
+                email = fields[0].trim();
+                passwordHash = fields[1].trim();
+                if (fields.length == 3) {
+                    for (String role : fields[2].split(";")) {
+                        if (!role.isBlank()) {
+                            roles.add(role.trim());
+                        }
+                    }
+                }
+            }
+
+            if (email == null || email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+                return ParsedRow.rejected(line.number(), "Invalid email");
+            }
+            if (passwordHash == null || !BCRYPT_HASH.matcher(passwordHash).matches()) {
+                return ParsedRow.rejected(line.number(), "passwordHash is not a BCrypt hash");
+            }
+            if (roles.isEmpty()) {
+                roles.add(DEFAULT_ROLE);
+            }
+            if (!roleTable.canEncode(roles)) {
+                return ParsedRow.rejected(line.number(), "Unknown role in " + roles);
+            }
+
+            return new ParsedRow(line.number(), User.builder()
+                    .email(email)
+                    .passwordHash(passwordHash)
+                    .roles(roles)
+                    .createdAt(LocalDateTime.now())
+                    .build(), null);
+        } catch (IOException e) {
+            return ParsedRow.rejected(line.number(), "Malformed JSON");
+        }
+    }
+
+    private static boolean isCsvHeader(Format format, long lineNumber, String text) {
+        return format == Format.CSV && lineNumber == 1 && text.regionMatches(true, 0, "email,", 0, 6);
+    }
+
+    private record Line(long number, String text) {
+    }
+
+    private record ParsedRow(long line, User user, String error) {
+
+        static ParsedRow rejected(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    private static final class Progress {
+
+        private final List<RowError> errors = new ArrayList<>();
+        private long linesRead;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+        private long committedThroughLine;
+        private String abortedReason;
+
+        private Progress(long resumeAfterLine) {
+            this.committedThroughLine = resumeAfterLine;
+        }
+
+        private void reject(long line, String reason, int maxErrors) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, reason));
+            }
+        }
+
+        private ImportReport toReport() {
+            return new ImportReport(linesRead, imported, duplicates, rejected, committedThroughLine,
+                    List.copyOf(errors), abortedReason);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- Replace the two B-trees on email (UNIQUE constraint + idx_users_email)
+-- with a single case-insensitive unique index.
+-- Fails if existing rows differ only by email case: merge them first.
+DROP INDEX IF EXISTS idx_users_email;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+
+CREATE UNIQUE INDEX ux_users_email_lower ON users (lower(email));
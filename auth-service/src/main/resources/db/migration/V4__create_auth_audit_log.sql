@@ -0,0 +1,28 @@
+-- Append-only authentication audit trail, partitioned by month (UTC).
+-- Monthly partitions are created ahead of time (and optionally dropped after
+-- the retention period) by AuditPartitionMaintainer.
+CREATE TABLE auth_audit_log (
+    id BIGSERIAL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    user_id BIGINT,
+    email VARCHAR(255),
+    client_ip VARCHAR(64),
+    detail VARCHAR(255)
+) PARTITION BY RANGE (occurred_at);
+
+-- Safety net for rows outside the pre-created months; should stay empty.
+CREATE TABLE auth_audit_log_default PARTITION OF auth_audit_log DEFAULT;
+
+CREATE INDEX idx_auth_audit_log_email_time ON auth_audit_log (email, occurred_at);
+
+-- Rows can be inserted, never changed; whole months are retired with DROP TABLE.
+CREATE FUNCTION auth_audit_log_append_only() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'auth_audit_log is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER auth_audit_log_no_update_delete
+    BEFORE UPDATE OR DELETE ON auth_audit_log
+    FOR EACH ROW EXECUTE FUNCTION auth_audit_log_append_only();
@@ -1,5 +1,6 @@
 package com.yanis.auth_service.adapter.in.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,11 +49,19 @@ class AuthControllerIntegrationTest {
                 registry.add("spring.datasource.url", postgres::getJdbcUrl);
                 registry.add("spring.datasource.username", postgres::getUsername);
                 registry.add("spring.datasource.password", postgres::getPassword);
+                registry.add("auth.login-throttle.enabled", () -> "false");
+                registry.add("auth.user-cache.enabled", () -> "false");
+                registry.add("auth.outbox.relay.enabled", () -> "false");
+                registry.add("auth.warmup.enabled", () -> "false");
+                registry.add("auth.shutdown.propagation-delay", () -> "0s");
         }
 
         @Autowired
         private MockMvc mockMvc;
 
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
         @BeforeEach
         void setUp() {
                 // Database is automatically cleaned between tests due to @Transactional
@@ -81,6 +91,29 @@ class AuthControllerIntegrationTest {
                                 .andExpect(jsonPath("$.tokenType").value("Bearer"));
         }
 
+        @Test
+        @DisplayName("POST /auth/register - Valid request - Writes UserRegistered to the outbox")
+        void register_ValidRequest_WritesOutboxEvent() throws Exception {
+                mockMvc.perform(post("/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                                {
+                                                    "email": "outbox@example.com",
+                                                    "password": "password123",
+                                                    "firstName": "John",
+                                                    "lastName": "Doe"
+                                                }
+                                                """))
+                                .andExpect(status().isCreated());
+
+                assertThat(jdbcTemplate.queryForList(
+                                "SELECT payload FROM outbox_events WHERE event_type = 'UserRegistered'",
+                                String.class))
+                                .singleElement()
+                                .asString()
+                                .contains("\"email\":\"outbox@example.com\"");
+        }
+
         @Test
         @DisplayName("POST /auth/register - Duplicate email - Returns 409 Conflict")
         void register_DuplicateEmail_Returns409Conflict() throws Exception {
@@ -115,6 +148,34 @@ class AuthControllerIntegrationTest {
                                 .andExpect(jsonPath("$.timestamp").exists());
         }
 
+        @Test
+        @DisplayName("POST /auth/register - Same email with different case - Returns 409 Conflict")
+        void register_DuplicateEmailDifferentCase_Returns409Conflict() throws Exception {
+                mockMvc.perform(post("/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                                {
+                                                    "email": "casing@example.com",
+                                                    "password": "password123",
+                                                    "firstName": "John",
+                                                    "lastName": "Doe"
+                                                }
+                                                """))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(post("/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                                {
+                                                    "email": "Casing@Example.com",
+                                                    "password": "password456",
+                                                    "firstName": "Jane",
+                                                    "lastName": "Smith"
+                                                }
+                                                """))
+                                .andExpect(status().isConflict());
+        }
+
         @Test
         @DisplayName("POST /auth/register - Invalid email - Returns 400 Bad Request")
         void register_InvalidEmail_Returns400BadRequest() throws Exception {
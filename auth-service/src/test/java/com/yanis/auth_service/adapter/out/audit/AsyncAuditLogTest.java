@@ -0,0 +1,118 @@
+package com.yanis.auth_service.adapter.out.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.yanis.auth_service.domain.model.AuditEvent;
+import com.yanis.auth_service.domain.model.AuditEventType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for AsyncAuditLog and the audit partition naming.
+ */
+@DisplayName("AsyncAuditLog Unit Tests")
+class AsyncAuditLogTest {
+
+    private final JdbcAuditWriter writer = mock(JdbcAuditWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AsyncAuditLog auditLog;
+
+    @AfterEach
+    void tearDown() {
+        if (auditLog != null && auditLog.isRunning()) {
+            auditLog.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("record() - Burst while writing - Coalesced into one multi-row batch")
+    void record_Burst_CoalescedIntoBatch() throws InterruptedException {
+        // Arrange
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstWriteStarted.countDown();
+            releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(writer).write(anyList());
+        auditLog = start(AuditDurability.FIRE_AND_FORGET);
+
+        // Act
+        auditLog.record(event(AuditEventType.LOGIN_SUCCEEDED));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            auditLog.record(event(AuditEventType.TOKEN_ISSUED));
+        }
+        releaseFirstWrite.countDown();
+
+        // Assert
+        verify(writer, timeout(5000)).write(argThat(events -> events.size() == 3));
+    }
+
+    @Test
+    @DisplayName("record() - SYNC_ON_FAILURE - Failure event persisted before returning")
+    void record_SyncOnFailure_PersistedBeforeReturn() {
+        // Arrange
+        auditLog = start(AuditDurability.SYNC_ON_FAILURE);
+
+        // Act
+        auditLog.record(event(AuditEventType.LOGIN_FAILED));
+
+        // Assert
+        verify(writer).write(argThat(events -> events.size() == 1
+                && events.get(0).type() == AuditEventType.LOGIN_FAILED));
+        assertThat(meterRegistry.get("auth.audit.written").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("record() - Database down - Event goes to the fallback log")
+    void record_DatabaseDown_FallsBack() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("down")).when(writer).write(anyList());
+        auditLog = start(AuditDurability.SYNC_ON_FAILURE);
+
+        // Act
+        auditLog.record(event(AuditEventType.LOGIN_FAILED));
+
+        // Assert
+        assertThat(meterRegistry.get("auth.audit.fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("partitionName()/monthOf() - Round trip")
+    void partitionName_RoundTrip() {
+        String name = AuditPartitionMaintainer.partitionName(YearMonth.of(2026, 3));
+
+        assertThat(name).isEqualTo("auth_audit_log_y2026m03");
+        assertThat(AuditPartitionMaintainer.monthOf(name)).isEqualTo(YearMonth.of(2026, 3));
+        assertThat(AuditPartitionMaintainer.monthOf("auth_audit_log_default")).isNull();
+    }
+
+    private AsyncAuditLog start(AuditDurability durability) {
+        AsyncAuditLog log = new AsyncAuditLog(writer, meterRegistry, 100, 500, 2, durability,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        log.start();
+        return log;
+    }
+
+    private static AuditEvent event(AuditEventType type) {
+        return AuditEvent.of(type, 1L, "test@example.com", "10.0.0.1", null);
+    }
+}
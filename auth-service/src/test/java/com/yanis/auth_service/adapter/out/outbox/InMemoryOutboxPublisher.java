@@ -0,0 +1,37 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory stand-in for {@link KafkaOutboxPublisher} in tests.
+ */
+class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final List<List<OutboxMessage>> batches = new CopyOnWriteArrayList<>();
+    private volatile RuntimeException failure;
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        if (failure != null) {
+            throw failure;
+        }
+        batches.add(List.copyOf(batch));
+    }
+
+    /**
+     * Makes the next publications fail with the given exception, or succeed
+     * again when {@code null}.
+     */
+    void failWith(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    List<List<OutboxMessage>> batches() {
+        return batches;
+    }
+
+    List<OutboxMessage> messages() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+}
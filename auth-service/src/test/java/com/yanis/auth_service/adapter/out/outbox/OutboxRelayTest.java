@@ -0,0 +1,91 @@
+package com.yanis.auth_service.adapter.out.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for OutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private JdbcEventOutbox outbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outbox, publisher, transactionManager, meterRegistry, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("drain() - Full batch - Keeps polling until a partial batch")
+    void drain_FullBatch_KeepsPolling() {
+        // Arrange
+        List<OutboxMessage> first = messages(1, 2);
+        List<OutboxMessage> second = messages(3, 3);
+        when(outbox.lockNextBatch(BATCH_SIZE)).thenReturn(first, second);
+
+        // Act
+        relay.drain();
+
+        // Assert
+        assertThat(publisher.batches()).containsExactly(first, second);
+        assertThat(publisher.messages()).extracting(OutboxMessage::aggregateId).containsExactly("1", "2", "3");
+        verify(outbox).delete(first);
+        verify(outbox).delete(second);
+        assertThat(meterRegistry.get("auth.outbox.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.outbox.oldest.age").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("drain() - Publish fails - Keeps rows and counts the failure")
+    void drain_PublishFails_KeepsRows() {
+        // Arrange
+        when(outbox.lockNextBatch(BATCH_SIZE)).thenReturn(messages(1, 1));
+        publisher.failWith(new IllegalStateException("broker down"));
+
+        // Act
+        relay.drain();
+
+        // Assert
+        verify(outbox, never()).delete(any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get("auth.outbox.publish.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.outbox.oldest.age").gauge().value()).isPositive();
+    }
+
+    private static List<OutboxMessage> messages(long fromId, long toId) {
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(1);
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new OutboxMessage(id, Long.toString(id), "UserRegistered",
+                        "{\"userId\":" + id + "}", createdAt))
+                .toList();
+    }
+}
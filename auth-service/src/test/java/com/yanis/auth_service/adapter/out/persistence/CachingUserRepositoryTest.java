@@ -0,0 +1,95 @@
+package com.yanis.auth_service.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.platform_security.RoleTable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for CachingUserRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepository Unit Tests")
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepositoryImpl delegate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private CachingUserRepository repository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, RoleTable.parse("USER,ADMIN"), redisTemplate,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .roles(Set.of("USER"))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("findByEmail() - Repeat lookup - Served from cache")
+    void findByEmail_RepeatLookup_ServedFromCache() {
+        when(delegate.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        repository.findByEmail("test@example.com");
+        User cached = repository.findByEmail("test@example.com").orElseThrow();
+
+        verify(delegate, times(1)).findByEmail("test@example.com");
+        assertThat(cached).isNotSameAs(testUser);
+        assertThat(cached.getRoles()).containsExactly("USER");
+        assertThat(cached.getPasswordHash()).isEqualTo("$2a$10$hashedPassword");
+    }
+
+    @Test
+    @DisplayName("save() - Evicts entry and publishes invalidation")
+    void save_EvictsAndPublishes() {
+        when(delegate.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(delegate.save(testUser)).thenReturn(testUser);
+
+        repository.findByEmail("test@example.com");
+        repository.save(testUser);
+        repository.findByEmail("test@example.com");
+
+        verify(delegate, times(2)).findByEmail("test@example.com");
+        verify(redisTemplate).convertAndSend(CachingUserRepository.INVALIDATION_CHANNEL, "test@example.com");
+    }
+
+    @Test
+    @DisplayName("evictLocal() - Invalidation message - Next lookup hits the database")
+    void evictLocal_NextLookupHitsDatabase() {
+        when(delegate.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        repository.findByEmail("test@example.com");
+        repository.evictLocal("Test@Example.com");
+        repository.findByEmail("test@example.com");
+
+        verify(delegate, times(2)).findByEmail("test@example.com");
+    }
+}
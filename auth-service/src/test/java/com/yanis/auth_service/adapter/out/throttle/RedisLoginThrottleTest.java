@@ -0,0 +1,78 @@
+package com.yanis.auth_service.adapter.out.throttle;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for RedisLoginThrottle.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisLoginThrottle Unit Tests")
+class RedisLoginThrottleTest {
+
+    private static final String FAILURES_KEY = "login:failures:email:test@example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisLoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new RedisLoginThrottle(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerEmail", 5);
+        ReflectionTestUtils.setField(throttle, "maxFailuresPerIp", 20);
+        ReflectionTestUtils.setField(throttle, "failureWindow", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(throttle, "baseLockout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(throttle, "maxLockout", Duration.ofHours(1));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("recordFailure() - Below threshold - Counter expires after the failure window")
+    void recordFailure_BelowThreshold_ExpiresAfterWindow() {
+        // Arrange
+        when(valueOperations.increment(FAILURES_KEY)).thenReturn(2L);
+
+        // Act
+        throttle.recordFailure("test@example.com", null);
+
+        // Assert
+        verify(redisTemplate).expire(FAILURES_KEY, Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("recordFailure() - Long lockout - Counter outlives the lock so escalation reaches the cap")
+    void recordFailure_LongLockout_CounterOutlivesLock() {
+        // Arrange: 7th failure over the threshold, 30s << 6 = 32 minutes
+        when(valueOperations.increment(FAILURES_KEY)).thenReturn(11L);
+
+        // Act
+        throttle.recordFailure("test@example.com", null);
+
+        // Assert
+        Duration lockout = Duration.ofSeconds(30L << 6);
+        verify(valueOperations).set(eq("login:lock:email:test@example.com"), anyString(), eq(lockout));
+        verify(redisTemplate).expire(FAILURES_KEY, Duration.ofMinutes(15).plus(lockout));
+    }
+}
@@ -0,0 +1,76 @@
+package com.yanis.auth_service.application.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ConcurrencyLimitingDataSource.
+ */
+@DisplayName("ConcurrencyLimitingDataSource Unit Tests")
+class ConcurrencyLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1,
+            Duration.ofMillis(50));
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("getConnection() - All permits held - Times out")
+    void getConnection_PermitsExhausted_TimesOut() throws SQLException {
+        // Arrange
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("close() - Called twice - Releases the permit once")
+    void close_CalledTwice_ReleasesOnce() throws SQLException {
+        // Arrange
+        Connection first = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertThat(dataSource.getActive()).isZero();
+        dataSource.getConnection();
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("getConnection() - Pool fails - Releases the permit")
+    void getConnection_PoolFails_ReleasesPermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool down");
+        assertThat(dataSource.getActive()).isZero();
+    }
+}
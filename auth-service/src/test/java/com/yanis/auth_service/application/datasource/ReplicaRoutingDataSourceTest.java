@@ -0,0 +1,116 @@
+package com.yanis.auth_service.application.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource and ReplicaLagGuard.
+ */
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            mock(DataSource.class), mock(DataSource.class), meterRegistry);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ReplicaLagGuard lagGuard = new ReplicaLagGuard(redisTemplate, Duration.ofSeconds(5), true);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey() - Read-write - Routes to primary")
+    void readWrite_RoutesToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceTarget.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey() - Read-only - Routes to replica")
+    void readOnly_RoutesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object target = lagGuard.read("user@example.com", routing::determineCurrentLookupKey);
+
+        assertThat(target).isEqualTo(DataSourceTarget.REPLICA);
+        assertThat(meterRegistry.get("auth.datasource.routed").tag("target", "replica").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey() - Read-only after recent write - Pinned to primary")
+    void readOnlyAfterWrite_PinnedToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        lagGuard.recordWrite("User@Example.com");
+
+        Object target = lagGuard.read("user@example.com", routing::determineCurrentLookupKey);
+
+        assertThat(target).isEqualTo(DataSourceTarget.PRIMARY);
+        assertThat(ReplicaLagGuard.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("recordWrite() - Inside a transaction - Marked and shared only after commit")
+    void recordWriteInTransaction_MarkedAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        lagGuard.recordWrite("user@example.com");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertThat(lagGuard.read("user@example.com", routing::determineCurrentLookupKey))
+                .isEqualTo(DataSourceTarget.REPLICA);
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(lagGuard.read("user@example.com", routing::determineCurrentLookupKey))
+                .isEqualTo(DataSourceTarget.PRIMARY);
+        verify(valueOperations).set(eq("auth:recent-write:user@example.com"), eq("1"), eq(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("read() - Write recorded by another instance - Pinned to primary")
+    void readAfterWriteOnOtherInstance_PinnedToPrimary() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(redisTemplate.hasKey("auth:recent-write:user@example.com")).thenReturn(true);
+
+        // Act
+        Object target = lagGuard.read("User@Example.com", routing::determineCurrentLookupKey);
+
+        // Assert
+        assertThat(target).isEqualTo(DataSourceTarget.PRIMARY);
+    }
+}
@@ -0,0 +1,76 @@
+package com.yanis.auth_service.application.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yanis.auth_service.domain.model.AuthPhase;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for MicrometerLatencyProfiler and SlowOperationTracker.
+ */
+@DisplayName("MicrometerLatencyProfiler Unit Tests")
+class MicrometerLatencyProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerLatencyProfiler profiler = new MicrometerLatencyProfiler(meterRegistry, 2,
+            Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("close() - Phases and pool wait - Recorded per phase and in the slowest list")
+    void close_RecordsPhasesAndPoolWait() {
+        // Act
+        try (LatencyProfiler.Profile profile = profiler.start("login")) {
+            profile.time(AuthPhase.LOOKUP, () -> {
+                MicrometerLatencyProfiler.recordPoolWait(TimeUnit.MILLISECONDS.toNanos(7));
+                return null;
+            });
+            profile.outcome("success");
+        }
+        MicrometerLatencyProfiler.recordPoolWait(TimeUnit.MILLISECONDS.toNanos(50));
+
+        // Assert
+        assertThat(meterRegistry.get("auth.phase").tag("phase", "lookup").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.phase").tag("phase", MicrometerLatencyProfiler.POOL_WAIT).timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7);
+        assertThat(meterRegistry.get("auth.operation").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(profiler.slowOperations().slowest())
+                .singleElement()
+                .satisfies(sample -> {
+                    assertThat(sample.operation()).isEqualTo("login");
+                    assertThat(sample.phaseMillis()).containsEntry(MicrometerLatencyProfiler.POOL_WAIT, 7L);
+                });
+    }
+
+    @Test
+    @DisplayName("close() - No outcome set - Recorded as error")
+    void close_NoOutcome_RecordedAsError() {
+        profiler.start("register").close();
+
+        assertThat(meterRegistry.get("auth.operation").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("slowest() - More samples than capacity - Keeps the slowest, slowest first")
+    void slowest_KeepsSlowest() {
+        SlowOperationTracker tracker = new SlowOperationTracker(2, Duration.ofMinutes(5));
+        Instant now = Instant.now();
+
+        tracker.offer("login", "success", 10, Map.of(), now);
+        tracker.offer("login", "success", 30, Map.of(), now);
+        tracker.offer("login", "success", 20, Map.of(), now);
+        tracker.offer("login", "success", 5, Map.of(), now);
+
+        assertThat(tracker.slowest()).extracting(SlowOperationTracker.SlowOperation::totalNanos)
+                .containsExactly(30L, 20L);
+    }
+}
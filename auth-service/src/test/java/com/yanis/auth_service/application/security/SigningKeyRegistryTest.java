@@ -0,0 +1,171 @@
+package com.yanis.auth_service.application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.service.JwtService;
+import com.yanis.platform_security.RoleTable;
+
+/**
+ * Unit tests for SigningKeyRegistry.
+ *
+ * <p>
+ * Covers kid-indexed signing, JWKS publication and hot rotation through
+ * an {@link EnvironmentChangeEvent}.
+ * </p>
+ */
+@DisplayName("SigningKeyRegistry Unit Tests")
+class SigningKeyRegistryTest {
+
+    private static final String HMAC_SECRET = "test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256-algorithm";
+
+    private MockEnvironment environment;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        environment = new MockEnvironment()
+                .withProperty("jwt.secret", HMAC_SECRET)
+                .withProperty("jwt.signing.active-kid", "hs-1")
+                .withProperty("jwt.signing.keys[0].kid", "hs-1")
+                .withProperty("jwt.signing.keys[0].algorithm", "HS256")
+                .withProperty("jwt.signing.keys[0].secret", HMAC_SECRET)
+                .withProperty("jwt.signing.keys[1].kid", "es-2")
+                .withProperty("jwt.signing.keys[1].algorithm", "ES256")
+                .withProperty("jwt.signing.keys[1].private-key",
+                        Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .withProperty("jwt.signing.keys[1].public-key",
+                        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .createdAt(LocalDateTime.now())
+                .build();
+        testUser.addRole("USER");
+    }
+
+    @Test
+    @DisplayName("activeKey() - Signs with the configured kid")
+    void activeKey_SignsWithConfiguredKid() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(environment);
+
+        String token = newJwtService(registry).generateAccessToken(testUser);
+
+        assertThat(kidOf(token)).isEqualTo("hs-1");
+    }
+
+    @Test
+    @DisplayName("jwks() - Publishes only asymmetric public keys")
+    @SuppressWarnings("unchecked")
+    void jwks_PublishesOnlyPublicKeys() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(environment);
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) registry.jwks().get("keys");
+
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0))
+                .containsEntry("kid", "es-2")
+                .containsEntry("kty", "EC")
+                .containsEntry("alg", "ES256")
+                .doesNotContainKey("d")
+                .doesNotContainKey("k");
+    }
+
+    @Test
+    @DisplayName("onEnvironmentChange() - Rotation keeps previously issued tokens valid")
+    void onEnvironmentChange_RotationKeepsOldTokensValid() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(environment);
+        JwtService jwtService = newJwtService(registry);
+        String beforeRotation = jwtService.generateAccessToken(testUser);
+
+        environment.setProperty("jwt.signing.active-kid", "es-2");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.signing.active-kid")));
+        String afterRotation = jwtService.generateAccessToken(testUser);
+
+        assertThat(kidOf(afterRotation)).isEqualTo("es-2");
+        assertThat(jwtService.validateToken(beforeRotation)).isTrue();
+        assertThat(jwtService.validateToken(afterRotation)).isTrue();
+    }
+
+    @Test
+    @DisplayName("onEnvironmentChange() - Invalid configuration keeps previous keys")
+    void onEnvironmentChange_InvalidConfigurationKeepsPreviousKeys() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(environment);
+
+        environment.setProperty("jwt.signing.active-kid", "unknown");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.signing.active-kid")));
+
+        assertThat(registry.activeKey().kid()).isEqualTo("hs-1");
+    }
+
+    @Test
+    @DisplayName("find() - Legacy secret is resolved without kid")
+    void find_LegacySecretResolvedWithoutKid() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(
+                new MockEnvironment().withProperty("jwt.secret", HMAC_SECRET));
+
+        assertThat(registry.activeKey().kid()).isNull();
+        assertThat(registry.find(null)).isSameAs(registry.activeKey());
+    }
+
+    @Test
+    @DisplayName("find() - Legacy secret stays verify-only once kid keys are configured")
+    void find_LegacySecretVerifyOnlyWithKidKeys() {
+        JwtService legacyService = newJwtService(new SigningKeyRegistry(
+                new MockEnvironment().withProperty("jwt.secret", HMAC_SECRET)));
+        String legacyToken = legacyService.generateRefreshToken(testUser);
+
+        SigningKeyRegistry registry = new SigningKeyRegistry(environment);
+
+        assertThat(kidOf(legacyToken)).isNull();
+        assertThat(registry.find(null)).isNotNull();
+        assertThat(registry.find(null).signingKey()).isNull();
+        assertThat(newJwtService(registry).validateToken(legacyToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("SigningKeyRegistry() - Missing algorithm fails with the kid")
+    void constructor_MissingAlgorithmNamesKid() {
+        environment.setProperty("jwt.signing.keys[1].algorithm", "");
+
+        assertThatThrownBy(() -> new SigningKeyRegistry(environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("es-2");
+    }
+
+    private JwtService newJwtService(SigningKeyRegistry registry) {
+        JwtService jwtService = new JwtService(registry, RoleTable.parse("USER,ADMIN"),
+                new TokenMinter(registry, Clock.systemUTC()));
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 1800000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpirationMs", 604800000L);
+        return jwtService;
+    }
+
+    private String kidOf(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        return header.contains("\"kid\":\"") ? header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1") : null;
+    }
+}
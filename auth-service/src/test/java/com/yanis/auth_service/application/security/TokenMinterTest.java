@@ -0,0 +1,153 @@
+package com.yanis.auth_service.application.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Unit tests for TokenMinter.
+ *
+ * <p>
+ * Every minted token is parsed back with JJWT, the library the verifiers
+ * use, so the hand-assembled path cannot drift from the JJWT format.
+ * </p>
+ */
+@DisplayName("TokenMinter Unit Tests")
+class TokenMinterTest {
+
+    private static final String HMAC_SECRET = "test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256-algorithm";
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("mint() - Legacy secret - Parsed by JJWT with the same claims")
+    void mint_LegacySecret_ParsedByJjwt() {
+        // Arrange
+        SigningKeyRegistry registry = new SigningKeyRegistry(
+                new MockEnvironment().withProperty("jwt.secret", HMAC_SECRET));
+        TokenMinter minter = new TokenMinter(registry, clock);
+
+        // Act
+        String token = minter.mint("test@example.com", List.of("USER", "ADMIN"), null, null, 1800000L, true);
+
+        // Assert
+        Jws<Claims> jws = parser(registry).parseSignedClaims(token);
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("HS512");
+        assertThat(jws.getHeader().getKeyId()).isNull();
+        assertThat(jws.getPayload().getSubject()).isEqualTo("test@example.com");
+        assertThat(jws.getPayload().get("roles", List.class)).containsExactly("USER", "ADMIN");
+        assertThat(jws.getPayload().getIssuedAt().toInstant()).isEqualTo(NOW);
+        assertThat(jws.getPayload().getExpiration().toInstant()).isEqualTo(NOW.plusSeconds(1800));
+    }
+
+    @Test
+    @DisplayName("mint() - Compact claims with kid - Header and numeric claims preserved")
+    void mint_CompactClaimsWithKid_HeaderAndClaimsPreserved() {
+        // Arrange
+        SigningKeyRegistry registry = new SigningKeyRegistry(new MockEnvironment()
+                .withProperty("jwt.secret", HMAC_SECRET)
+                .withProperty("jwt.signing.active-kid", "hs-1")
+                .withProperty("jwt.signing.keys[0].kid", "hs-1")
+                .withProperty("jwt.signing.keys[0].algorithm", "HS256")
+                .withProperty("jwt.signing.keys[0].secret", HMAC_SECRET));
+        TokenMinter minter = new TokenMinter(registry, clock);
+
+        // Act
+        String token = minter.mint("test@example.com", null, 0b11L, 42L, 1800000L, false);
+
+        // Assert
+        Jws<Claims> jws = parser(registry).parseSignedClaims(token);
+        assertThat(jws.getHeader().getKeyId()).isEqualTo("hs-1");
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("HS256");
+        assertThat(jws.getPayload().get("rb", Long.class)).isEqualTo(3L);
+        assertThat(jws.getPayload().get("uid", Long.class)).isEqualTo(42L);
+        assertThat(jws.getPayload().getIssuedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("mint() - Subject needing JSON escapes - Round trips")
+    void mint_SubjectNeedingEscapes_RoundTrips() {
+        // Arrange
+        SigningKeyRegistry registry = new SigningKeyRegistry(
+                new MockEnvironment().withProperty("jwt.secret", HMAC_SECRET));
+        TokenMinter minter = new TokenMinter(registry, clock);
+        String subject = "\"quoted\\user\"\t@exämple.com";
+
+        // Act
+        String token = minter.mint(subject, null, null, null, 60000L, true);
+
+        // Assert
+        assertThat(parser(registry).parseSignedClaims(token).getPayload().getSubject()).isEqualTo(subject);
+    }
+
+    @Test
+    @DisplayName("mint() - Virtual thread - Signs with a cloned Mac")
+    void mint_VirtualThread_SignsWithClonedMac() throws InterruptedException {
+        // Arrange
+        SigningKeyRegistry registry = new SigningKeyRegistry(
+                new MockEnvironment().withProperty("jwt.secret", HMAC_SECRET));
+        TokenMinter minter = new TokenMinter(registry, clock);
+        AtomicReference<String> token = new AtomicReference<>();
+
+        // Act
+        Thread.ofVirtual().start(() -> token.set(minter.mint("test@example.com", null, null, null, 60000L, true)))
+                .join();
+
+        // Assert
+        assertThat(token.get()).isEqualTo(minter.mint("test@example.com", null, null, null, 60000L, true));
+        assertThat(parser(registry).parseSignedClaims(token.get()).getPayload().getSubject())
+                .isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("mint() - ES256 active key - Falls back to JJWT")
+    void mint_AsymmetricKey_FallsBackToJjwt() throws Exception {
+        // Arrange
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        SigningKeyRegistry registry = new SigningKeyRegistry(new MockEnvironment()
+                .withProperty("jwt.secret", HMAC_SECRET)
+                .withProperty("jwt.signing.active-kid", "es-1")
+                .withProperty("jwt.signing.keys[0].kid", "es-1")
+                .withProperty("jwt.signing.keys[0].algorithm", "ES256")
+                .withProperty("jwt.signing.keys[0].private-key",
+                        Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .withProperty("jwt.signing.keys[0].public-key",
+                        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded())));
+        TokenMinter minter = new TokenMinter(registry, clock);
+
+        // Act
+        String token = minter.mint("test@example.com", List.of("USER"), null, null, 60000L, true);
+
+        // Assert
+        Jws<Claims> jws = parser(registry).parseSignedClaims(token);
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("ES256");
+        assertThat(jws.getPayload().get("roles", List.class)).containsExactly("USER");
+    }
+
+    private JwtParser parser(SigningKeyRegistry registry) {
+        return Jwts.parser()
+                .keyLocator(registry.verificationKeyLocator())
+                .clock(() -> Date.from(NOW))
+                .build();
+    }
+}
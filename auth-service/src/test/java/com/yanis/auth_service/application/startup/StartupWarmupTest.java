@@ -0,0 +1,147 @@
+package com.yanis.auth_service.application.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.EventOutbox;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+import com.yanis.auth_service.domain.port.out.UserRepository;
+import com.yanis.auth_service.domain.service.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for StartupWarmup.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartupWarmup Unit Tests")
+class StartupWarmupTest {
+
+    private static final int LOGIN_ITERATIONS = 3;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider;
+
+    @Mock
+    private ApplicationInfoManager applicationInfoManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmup = new StartupWarmup(passwordEncoder, jwtService, userRepository, loginThrottle, new ObjectMapper(),
+                meterRegistry, applicationInfoManagerProvider);
+        ReflectionTestUtils.setField(warmup, "enabled", true);
+        ReflectionTestUtils.setField(warmup, "iterations", 5);
+        ReflectionTestUtils.setField(warmup, "loginIterations", LOGIN_ITERATIONS);
+        ReflectionTestUtils.setField(warmup, "concurrency", 2);
+        ReflectionTestUtils.setField(warmup, "timeout", Duration.ofSeconds(10));
+
+        when(applicationInfoManagerProvider.getIfAvailable()).thenReturn(applicationInfoManager);
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed");
+        lenient().when(passwordEncoder.matches(anyString(), eq("hashed"))).thenReturn(true);
+        lenient().when(jwtService.generateAccessToken(any(User.class))).thenReturn("token");
+        lenient().when(jwtService.generateRefreshToken(any(User.class))).thenReturn("token");
+        lenient().when(loginThrottle.lockedFor(anyString(), anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("onReady() - Phase fails - Instance still marked UP")
+    void onReady_PhaseFails_MarksUp() {
+        // Arrange
+        when(userRepository.findByEmail(StartupWarmup.STAND_IN_EMAIL))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        warmup.onReady();
+
+        // Assert
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+        assertThat(meterRegistry.get("auth.startup.warmup").tag("phase", "json").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.startup.time-to-ready").gauge().value()).isPositive();
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("onReady() - Phase hangs past the timeout - Instance marked UP without waiting for it")
+    void onReady_TimeoutElapses_MarksUp() {
+        // Arrange
+        ReflectionTestUtils.setField(warmup, "timeout", Duration.ofMillis(200));
+        when(userRepository.findByEmail(StartupWarmup.STAND_IN_EMAIL)).thenAnswer(invocation -> {
+            Thread.sleep(60_000);
+            return Optional.empty();
+        });
+
+        // Act
+        warmup.onReady();
+
+        // Assert
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+    }
+
+    @Test
+    @DisplayName("onReady() - Login phase - No throttle, audit or outbox side effect")
+    void onReady_LoginPhase_NoSideEffects() {
+        // Arrange
+        lenient().when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        warmup.onReady();
+
+        // Assert: every login went through the stand-in user and succeeded
+        verify(passwordEncoder, times(LOGIN_ITERATIONS)).matches(anyString(), eq("hashed"));
+        verify(loginThrottle, never()).recordFailure(anyString(), any());
+        verify(loginThrottle, never()).recordSuccess(anyString());
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).insertIfAbsent(any());
+        // The audit log and outbox cannot be reached: the warm-up does not depend on them
+        assertThat(Arrays.stream(StartupWarmup.class.getDeclaredConstructors())
+                .flatMap(constructor -> Arrays.stream(constructor.getParameterTypes())))
+                .doesNotContain(AuditLog.class, EventOutbox.class);
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+    }
+}
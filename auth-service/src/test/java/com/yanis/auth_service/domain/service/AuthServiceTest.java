@@ -5,10 +5,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -21,10 +23,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.yanis.auth_service.domain.event.UserRegistered;
+import com.yanis.auth_service.domain.exception.AccountLockedException;
 import com.yanis.auth_service.domain.exception.InvalidCredentialsException;
 import com.yanis.auth_service.domain.exception.UserAlreadyExistsException;
+import com.yanis.auth_service.domain.model.AuditEventType;
 import com.yanis.auth_service.domain.model.User;
 import com.yanis.auth_service.domain.port.in.LoginUserUseCase.AuthTokens;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.EventOutbox;
+import com.yanis.auth_service.domain.port.out.LatencyProfiler;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
 import com.yanis.auth_service.domain.port.out.UserRepository;
 
 /**
@@ -48,6 +57,18 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private EventOutbox eventOutbox;
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private LatencyProfiler latencyProfiler;
+
     @InjectMocks
     private AuthService authService;
 
@@ -55,6 +76,7 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(latencyProfiler.start(anyString())).thenReturn(LatencyProfiler.noop().start("test"));
         testUser = User.builder()
                 .id(1L)
                 .email("test@example.com")
@@ -70,16 +92,15 @@ class AuthServiceTest {
     @DisplayName("register() - Success - Returns user with hashed password")
     void register_Success_ReturnsUserWithHashedPassword() {
         // Arrange
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.insertIfAbsent(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
-            return User.builder()
+            return Optional.of(User.builder()
                     .id(1L)
                     .email(user.getEmail())
                     .passwordHash(user.getPasswordHash())
                     .createdAt(user.getCreatedAt())
-                    .build();
+                    .build());
         });
 
         // Act
@@ -91,46 +112,49 @@ class AuthServiceTest {
         assertThat(result.getPasswordHash()).isEqualTo("$2a$10$hashedPassword");
         assertThat(result.getId()).isEqualTo(1L);
 
-        verify(userRepository).existsByEmail("test@example.com");
         verify(passwordEncoder).encode("password123");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).insertIfAbsent(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(eventOutbox).append(argThat(event -> event instanceof UserRegistered registered
+                && registered.userId() == 1L && registered.email().equals("test@example.com")));
     }
 
     @Test
     @DisplayName("register() - Duplicate email - Throws UserAlreadyExistsException")
     void register_DuplicateEmail_ThrowsUserAlreadyExistsException() {
         // Arrange
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> authService.register("test@example.com", "password123", "John", "Doe"))
                 .isInstanceOf(UserAlreadyExistsException.class)
                 .hasMessageContaining("test@example.com");
 
-        verify(userRepository).existsByEmail("test@example.com");
+        verify(userRepository).insertIfAbsent(any(User.class));
         verify(userRepository, never()).save(any(User.class));
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
     @DisplayName("register() - Success - Assigns USER role")
     void register_AssignsUserRole() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$hashedPassword");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.insertIfAbsent(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
-            return User.builder()
+            return Optional.of(User.builder()
                     .id(1L)
                     .email(user.getEmail())
                     .passwordHash(user.getPasswordHash())
                     .createdAt(user.getCreatedAt())
-                    .build();
+                    .build());
         });
 
         authService.register("test@example.com", "password123", "John", "Doe");
 
         // Assert
-        verify(userRepository).save(argThat(user -> user.getRoles().contains("USER")));
+        verify(userRepository).insertIfAbsent(argThat(user -> user.getRoles().contains("USER")));
     }
 
     // ========== LOGIN TESTS ==========
@@ -187,5 +211,39 @@ class AuthServiceTest {
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("wrongpassword", "$2a$10$hashedPassword");
         verify(jwtService, never()).generateAccessToken(any());
+        verify(loginThrottle).recordFailure("test@example.com", null);
+        verify(auditLog).record(argThat(event -> event.type() == AuditEventType.LOGIN_FAILED
+                && "bad_password".equals(event.detail())));
+    }
+
+    @Test
+    @DisplayName("login() - Locked out - Throws AccountLockedException before lookup or hashing")
+    void login_LockedOut_ThrowsBeforeLookupOrHashing() {
+        // Arrange
+        when(loginThrottle.lockedFor("test@example.com", "203.0.113.7"))
+                .thenReturn(Optional.of(Duration.ofSeconds(30)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login("test@example.com", "password123", "203.0.113.7"))
+                .isInstanceOf(AccountLockedException.class);
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(loginThrottle, never()).recordFailure(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("login() - Valid credentials - Resets failure counter")
+    void login_ValidCredentials_ResetsFailureCounter() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "$2a$10$hashedPassword")).thenReturn(true);
+
+        // Act
+        authService.login("test@example.com", "password123", "203.0.113.7");
+
+        // Assert
+        verify(loginThrottle).recordSuccess("test@example.com");
+        verify(loginThrottle, never()).recordFailure(anyString(), anyString());
     }
 }
@@ -2,14 +2,20 @@ package com.yanis.auth_service.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.yanis.auth_service.application.security.SigningKeyRegistry;
+import com.yanis.auth_service.application.security.TokenMinter;
 import com.yanis.auth_service.domain.model.User;
+import com.yanis.platform_security.RoleTable;
 
 /**
  * Unit tests for JwtService.
@@ -27,11 +33,13 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.secret", "test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256-algorithm");
+        SigningKeyRegistry keyRegistry = new SigningKeyRegistry(environment);
+        jwtService = new JwtService(keyRegistry, RoleTable.parse("USER,ADMIN"),
+                new TokenMinter(keyRegistry, Clock.systemUTC()));
 
         // Set test configuration values using reflection
-        ReflectionTestUtils.setField(jwtService, "secret",
-                "test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha256-algorithm");
         ReflectionTestUtils.setField(jwtService, "expirationMs", 1800000L); // 30 minutes
         ReflectionTestUtils.setField(jwtService, "refreshExpirationMs", 604800000L); // 7 days
 
@@ -93,6 +101,39 @@ class JwtServiceTest {
         assertThat(jwtService.extractEmail(token)).isEqualTo("test@example.com");
     }
 
+    @Test
+    @DisplayName("generateAccessToken() - Compact profile - Encodes roles as bitmask")
+    void generateAccessToken_CompactProfile_EncodesRoleBits() {
+        // Arrange
+        String fullToken = jwtService.generateAccessToken(testUser);
+        ReflectionTestUtils.setField(jwtService, "compactClaims", true);
+
+        // Act
+        String compactToken = jwtService.generateAccessToken(testUser);
+
+        // Assert
+        String payload = new String(Base64.getUrlDecoder().decode(compactToken.split("\\.")[1]));
+        assertThat(payload).contains("\"rb\":3", "\"uid\":1").doesNotContain("roles", "iat");
+        assertThat(compactToken.length()).isLessThan(fullToken.length());
+        assertThat(jwtService.validateToken(compactToken)).isTrue();
+        assertThat(jwtService.extractEmail(compactToken)).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("generateAccessToken() - Compact profile - Unregistered role falls back to roles array")
+    void generateAccessToken_CompactProfile_UnregisteredRoleFallsBack() {
+        // Arrange
+        ReflectionTestUtils.setField(jwtService, "compactClaims", true);
+        testUser.addRole("AUDITOR");
+
+        // Act
+        String token = jwtService.generateAccessToken(testUser);
+
+        // Assert
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+        assertThat(payload).contains("roles").doesNotContain("\"rb\"");
+    }
+
     // ========== TOKEN VALIDATION TESTS ==========
 
     @Test
@@ -0,0 +1,153 @@
+package com.yanis.auth_service.domain.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.yanis.auth_service.domain.event.UserRegistered;
+import com.yanis.auth_service.domain.exception.AccountLockedException;
+import com.yanis.auth_service.domain.exception.InvalidCredentialsException;
+import com.yanis.auth_service.domain.exception.UserAlreadyExistsException;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.out.AuditLog;
+import com.yanis.auth_service.domain.port.out.LoginThrottle;
+import com.yanis.auth_service.domain.port.out.ReactiveEventOutbox;
+import com.yanis.auth_service.domain.port.out.ReactiveUserRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ReactiveAuthService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAuthService Unit Tests")
+class ReactiveAuthServiceTest {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private ReactiveEventOutbox eventOutbox;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ReactiveAuthService authService;
+
+    private User testUser;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        authService = new ReactiveAuthService(userRepository, passwordEncoder, jwtService, loginThrottle,
+                auditLog, eventOutbox, transactionalOperator, Schedulers.immediate());
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .createdAt(LocalDateTime.now())
+                .build();
+        testUser.addRole("USER");
+    }
+
+    @Test
+    @DisplayName("login() - Valid credentials - Emits AuthTokens")
+    void login_ValidCredentials_EmitsTokens() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Mono.just(testUser));
+        when(passwordEncoder.matches("password123", "$2a$10$hashedPassword")).thenReturn(true);
+        when(jwtService.generateAccessToken(testUser)).thenReturn("access-token-123");
+        when(jwtService.generateRefreshToken(testUser)).thenReturn("refresh-token-456");
+
+        StepVerifier.create(authService.login("test@example.com", "password123", null))
+                .expectNextMatches(tokens -> tokens.accessToken().equals("access-token-123"))
+                .verifyComplete();
+
+        verify(loginThrottle).recordSuccess("test@example.com");
+    }
+
+    @Test
+    @DisplayName("login() - Unknown email - Errors with InvalidCredentialsException")
+    void login_UnknownEmail_Errors() {
+        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(authService.login("nonexistent@example.com", "password123", null))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(loginThrottle).recordFailure("nonexistent@example.com", null);
+    }
+
+    @Test
+    @DisplayName("login() - Locked out - Errors before lookup or hashing")
+    void login_LockedOut_Errors() {
+        when(loginThrottle.lockedFor("test@example.com", null)).thenReturn(Optional.of(Duration.ofSeconds(30)));
+
+        StepVerifier.create(authService.login("test@example.com", "password123", null))
+                .expectError(AccountLockedException.class)
+                .verify();
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(loginThrottle, never()).recordFailure(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("register() - Duplicate email - Errors with UserAlreadyExistsException")
+    void register_DuplicateEmail_Errors() {
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(authService.register("test@example.com", "password123"))
+                .expectError(UserAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("register() - New email - Writes UserRegistered to the outbox in the transaction")
+    void register_NewEmail_WritesOutboxEvent() {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Mono.just(testUser));
+        when(eventOutbox.append(any(UserRegistered.class))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(authService.register("test@example.com", "password123"))
+                .expectNext(testUser)
+                .verifyComplete();
+
+        verify(eventOutbox).append(UserRegistered.of(testUser));
+        verify(transactionalOperator).transactional(any(Mono.class));
+    }
+}
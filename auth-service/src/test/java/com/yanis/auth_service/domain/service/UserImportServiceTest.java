@@ -0,0 +1,145 @@
+package com.yanis.auth_service.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanis.auth_service.domain.model.User;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase.Format;
+import com.yanis.auth_service.domain.port.in.ImportUsersUseCase.ImportReport;
+import com.yanis.auth_service.domain.port.out.UserBulkWriter;
+import com.yanis.platform_security.RoleTable;
+
+/**
+ * Unit tests for UserImportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportService Unit Tests")
+class UserImportServiceTest {
+
+    private static final String HASH = "$2a$10$" + "a".repeat(53);
+
+    @Mock
+    private UserBulkWriter userBulkWriter;
+
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new UserImportService(userBulkWriter, RoleTable.parse("USER,ADMIN"), new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("importUsers() - CSV with header - Inserts in batches and reports duplicates")
+    void importUsers_Csv_InsertsInBatches() {
+        // Arrange
+        when(userBulkWriter.insertBatch(anyList())).thenReturn(2, 0);
+        String csv = """
+                email,passwordHash,roles
+                a@example.com,%1$s,USER
+                b@example.com,%1$s,USER;ADMIN
+                c@example.com,%1$s
+                """.formatted(HASH);
+
+        // Act
+        ImportReport report = importService.importUsers(stream(csv), Format.CSV, 0);
+
+        // Assert
+        assertThat(report.completed()).isTrue();
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.duplicates()).isEqualTo(1);
+        assertThat(report.committedThroughLine()).isEqualTo(4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> batches = ArgumentCaptor.forClass(List.class);
+        verify(userBulkWriter, times(2)).insertBatch(batches.capture());
+        assertThat(batches.getAllValues().get(0).get(1).getRoles()).containsExactlyInAnyOrder("USER", "ADMIN");
+        assertThat(batches.getAllValues().get(1).get(0).getRoles()).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("importUsers() - Invalid rows - Rejected with line numbers")
+    void importUsers_InvalidRows_Rejected() {
+        // Arrange
+        when(userBulkWriter.insertBatch(anyList())).thenReturn(1);
+        String ndjson = """
+                {"email":"ok@example.com","passwordHash":"%s"}
+                {"email":"not-an-email","passwordHash":"%1$s"}
+                {"email":"plain@example.com","passwordHash":"secret"}
+                {broken
+                """.formatted(HASH);
+
+        // Act
+        ImportReport report = importService.importUsers(stream(ndjson), Format.NDJSON, 0);
+
+        // Assert
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.errors()).extracting(error -> error.line()).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("importUsers() - Write failure - Aborts with resumable position")
+    void importUsers_WriteFailure_ReportsResumePoint() {
+        // Arrange
+        when(userBulkWriter.insertBatch(anyList()))
+                .thenReturn(2)
+                .thenThrow(new IllegalStateException("connection lost"));
+        String csv = """
+                a@example.com,%1$s
+                b@example.com,%1$s
+                c@example.com,%1$s
+                d@example.com,%1$s
+                """.formatted(HASH);
+
+        // Act
+        ImportReport report = importService.importUsers(stream(csv), Format.CSV, 0);
+
+        // Assert
+        assertThat(report.completed()).isFalse();
+        assertThat(report.committedThroughLine()).isEqualTo(2);
+        assertThat(report.abortedReason()).contains("connection lost");
+    }
+
+    @Test
+    @DisplayName("importUsers() - Resume - Skips committed lines")
+    void importUsers_Resume_SkipsCommittedLines() {
+        // Arrange
+        when(userBulkWriter.insertBatch(anyList())).thenReturn(1);
+        String csv = """
+                a@example.com,%1$s
+                b@example.com,%1$s
+                c@example.com,%1$s
+                """.formatted(HASH);
+
+        // Act
+        ImportReport report = importService.importUsers(stream(csv), Format.CSV, 2);
+
+        // Assert
+        assertThat(report.linesRead()).isEqualTo(1);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.committedThroughLine()).isEqualTo(3);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
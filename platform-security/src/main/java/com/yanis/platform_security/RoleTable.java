@@ -0,0 +1,171 @@
+package com.yanis.platform_security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registered role table shared by the issuer (Auth Service) and every verifier
+ * (API Gateway, downstream services).
+ *
+ * <p>
+ * Each role is assigned the bit matching its position in the table, so a set
+ * of roles travels as a single {@code long} instead of a JSON array of
+ * strings. The table is <strong>append-only</strong>: reordering or removing
+ * an entry changes the meaning of tokens already issued.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe. Decoded role lists and their
+ * comma-separated form are memoised per bitmask, so verifiers do not
+ * re-serialise roles on every request.
+ * </p>
+ */
+public final class RoleTable {
+
+    /**
+     * Maximum number of roles that fit in the bitmask.
+     */
+    public static final int MAX_ROLES = Long.SIZE - 1;
+
+    private final String[] roles;
+    private final Map<String, Integer> positions;
+    private final Map<Long, List<String>> decoded = new ConcurrentHashMap<>();
+    private final Map<Long, String> joined = new ConcurrentHashMap<>();
+
+    private RoleTable(String[] roles) {
+        if (roles.length > MAX_ROLES) {
+            throw new IllegalArgumentException("Role table supports at most " + MAX_ROLES + " roles");
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < roles.length; i++) {
+            String role = roles[i].trim();
+            if (role.isEmpty() || index.putIfAbsent(role, i) != null) {
+                throw new IllegalArgumentException("Invalid or duplicate role '" + role + "' at position " + i);
+            }
+            roles[i] = role;
+        }
+        this.roles = roles;
+        this.positions = Map.copyOf(index);
+    }
+
+    /**
+     * Creates a table from an ordered list of role names.
+     *
+     * @param roles Role names; position {@code i} maps to bit {@code i}.
+     * @return The role table.
+     * @throws IllegalArgumentException if a role is blank or duplicated, or if
+     *                                  there are more than {@link #MAX_ROLES}.
+     */
+    public static RoleTable of(List<String> roles) {
+        return new RoleTable(roles.toArray(String[]::new));
+    }
+
+    /**
+     * Creates a table from a comma-separated list (e.g. {@code "USER,ADMIN"}).
+     *
+     * @param csv Comma-separated role names.
+     * @return The role table.
+     */
+    public static RoleTable parse(String csv) {
+        return new RoleTable(csv.split(","));
+    }
+
+    /**
+     * Returns the registered role names in bit order.
+     */
+    public List<String> roles() {
+        return Collections.unmodifiableList(Arrays.asList(roles));
+    }
+
+    /**
+     * Checks whether every role of the collection is registered.
+     *
+     * @param roleNames Roles to check.
+     * @return true if {@link #encode(Collection)} will succeed.
+     */
+    public boolean canEncode(Collection<String> roleNames) {
+        return positions.keySet().containsAll(roleNames);
+    }
+
+    /**
+     * Encodes roles as a bitmask.
+     *
+     * @param roleNames Roles to encode.
+     * @return Bitmask with one bit set per role.
+     * @throws IllegalArgumentException if a role is not registered.
+     */
+    public long encode(Collection<String> roleNames) {
+        long bits = 0L;
+        for (String role : roleNames) {
+            Integer position = positions.get(role);
+            if (position == null) {
+                throw new IllegalArgumentException("Role '" + role + "' is not registered in the role table");
+            }
+            bits |= 1L << position;
+        }
+        return bits;
+    }
+
+    /**
+     * Encodes the registered roles of a collection, ignoring the others.
+     *
+     * <p>
+     * Used by verifiers that translate tokens of the full claim profile, whose
+     * roles may include names the table does not know.
+     * </p>
+     *
+     * @param roleNames Roles to encode.
+     * @return Bitmask of the registered roles.
+     */
+    public long encodeKnown(Collection<String> roleNames) {
+        long bits = 0L;
+        for (String role : roleNames) {
+            Integer position = positions.get(role);
+            if (position != null) {
+                bits |= 1L << position;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Decodes a bitmask into role names, in table order.
+     *
+     * <p>
+     * Bits that are not registered in this table (issued by a newer table)
+     * are ignored rather than rejected, so verifiers can lag behind the issuer.
+     * </p>
+     *
+     * @param bits Bitmask produced by {@link #encode(Collection)}.
+     * @return Immutable list of role names.
+     */
+    public List<String> decode(long bits) {
+        return decoded.computeIfAbsent(bits, this::doDecode);
+    }
+
+    /**
+     * Returns the comma-separated role names for a bitmask (memoised).
+     *
+     * @param bits Bitmask produced by {@link #encode(Collection)}.
+     * @return Roles joined with {@code ','}, empty string if none.
+     */
+    public String join(long bits) {
+        return joined.computeIfAbsent(bits, key -> String.join(",", decode(key)));
+    }
+
+    private List<String> doDecode(long bits) {
+        List<String> result = new ArrayList<>(Long.bitCount(bits));
+        for (int i = 0; i < roles.length; i++) {
+            if ((bits & (1L << i)) != 0) {
+                result.add(roles[i]);
+            }
+        }
+        return List.copyOf(result);
+    }
+}
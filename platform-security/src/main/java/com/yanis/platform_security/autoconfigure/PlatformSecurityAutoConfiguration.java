@@ -0,0 +1,74 @@
+package com.yanis.platform_security.autoconfigure;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+
+/**
+ * Registers the platform security beans in every service depending on this
+ * module, so the gateway and the microservices build them from the same
+ * shared configuration (config-server {@code application.yml}).
+ *
+ * <p>
+ * A service may still declare its own bean to override one.
+ * </p>
+ */
+@AutoConfiguration
+public class PlatformSecurityAutoConfiguration {
+
+    /**
+     * Provides the append-only role table.
+     *
+     * <p>
+     * Declared once in {@code security.role-table} so that Auth Service and
+     * the API Gateway always agree on the role-to-bit mapping used by
+     * compact tokens.
+     * </p>
+     *
+     * @param roles Comma-separated role names in bit order.
+     * @return Immutable role table.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RoleTable roleTable(@Value("${security.role-table:USER,ADMIN}") String roles) {
+        return RoleTable.parse(roles);
+    }
+
+    /**
+     * Provides the internal identity header codec.
+     *
+     * <p>
+     * The gateway signs the {@code X-Identity} header with the active key
+     * ({@code security.identity.active-key-id}); services accept every key
+     * listed in {@code security.identity.keys}, so the active key can be
+     * switched without a coordinated restart. Keep the previous key listed
+     * while rotating.
+     * </p>
+     *
+     * @param environment Environment holding {@code security.identity.*}.
+     * @return Thread-safe codec.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdentityCodec identityCodec(Environment environment) {
+        // Bound rather than injected with @Value, so that durations such as
+        // "30s" convert without relying on the application conversion service
+        Binder binder = Binder.get(environment);
+        Map<Integer, String> keys = binder
+                .bind("security.identity.keys", Bindable.mapOf(Integer.class, String.class))
+                .orElse(Map.of());
+        int activeKeyId = binder.bind("security.identity.active-key-id", Integer.class).orElse(1);
+        Duration maxAge = binder.bind("security.identity.max-age", Duration.class).orElse(Duration.ofSeconds(30));
+        return IdentityCodec.fromSecrets(keys, activeKeyId, maxAge);
+    }
+}
@@ -0,0 +1,234 @@
+package com.yanis.platform_security.identity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encodes and verifies the signed internal identity header
+ * ({@value #HEADER}).
+ *
+ * <p>
+ * The API Gateway verifies the JWT once and forwards the caller identity in a
+ * compact binary envelope authenticated with an internal HMAC key, so
+ * downstream services can trust it without re-verifying the JWT. Verification
+ * is one HMAC-SHA256 over about 50 bytes, i.e. a few microseconds.
+ * </p>
+ *
+ * <p>
+ * Layout (then base64url without padding):
+ * </p>
+ *
+ * <pre>
+ * version(1) | keyId(1) | issuedAt epoch seconds(4) | userId(varint)
+ *   | roleBits(varint) | emailLength(varint) | email(UTF-8) | mac(16)
+ * </pre>
+ *
+ * <p>
+ * The MAC is HMAC-SHA256 truncated to 128 bits. Headers older than
+ * {@code maxAge} are rejected to bound replay. Several keys can be registered
+ * by id to rotate the internal key without downtime.
+ * </p>
+ *
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ */
+public final class IdentityCodec {
+
+    /**
+     * Name of the HTTP header carrying the encoded identity.
+     */
+    public static final String HEADER = "X-Identity";
+
+    private static final byte VERSION = 1;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 16;
+    private static final int MIN_KEY_LENGTH = 32;
+    private static final int HEADER_LENGTH = 6;
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(5);
+
+    private final SecretKeySpec[] keys = new SecretKeySpec[256];
+    private final int activeKeyId;
+    private final long maxAgeSeconds;
+    private final Clock clock;
+    private final ThreadLocal<Mac[]> macs = ThreadLocal.withInitial(() -> new Mac[256]);
+
+    /**
+     * Creates a codec.
+     *
+     * @param keys        Internal keys by id (0-255), at least 32 bytes each.
+     * @param activeKeyId Key id used to sign new headers.
+     * @param maxAge      Maximum accepted age of a header.
+     * @param clock       Time source.
+     * @throws IllegalArgumentException if a key is too short or the active key
+     *                                  is missing.
+     */
+    public IdentityCodec(Map<Integer, byte[]> keys, int activeKeyId, Duration maxAge, Clock clock) {
+        keys.forEach((id, secret) -> {
+            if (id < 0 || id > 255) {
+                throw new IllegalArgumentException("Identity key id must be between 0 and 255: " + id);
+            }
+            if (secret.length < MIN_KEY_LENGTH) {
+                throw new IllegalArgumentException("Identity key " + id + " must be at least 256 bits");
+            }
+            this.keys[id] = new SecretKeySpec(secret, ALGORITHM);
+        });
+        if (activeKeyId < 0 || activeKeyId > 255 || this.keys[activeKeyId] == null) {
+            throw new IllegalArgumentException("Active identity key " + activeKeyId + " is not configured");
+        }
+        this.activeKeyId = activeKeyId;
+        this.maxAgeSeconds = maxAge.toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a codec from UTF-8 secrets, as read from configuration.
+     *
+     * @param secrets     Secrets by key id.
+     * @param activeKeyId Key id used to sign new headers.
+     * @param maxAge      Maximum accepted age of a header.
+     * @return The codec, using the system UTC clock.
+     */
+    public static IdentityCodec fromSecrets(Map<Integer, String> secrets, int activeKeyId, Duration maxAge) {
+        Map<Integer, byte[]> keys = new HashMap<>();
+        secrets.forEach((id, secret) -> keys.put(id, secret.getBytes(StandardCharsets.UTF_8)));
+        return new IdentityCodec(keys, activeKeyId, maxAge, Clock.systemUTC());
+    }
+
+    /**
+     * Encodes and signs an identity with the active key.
+     *
+     * @param userId   Numeric user id, {@code 0} when unknown.
+     * @param email    User email.
+     * @param roleBits Role bitmask.
+     * @return Header value.
+     */
+    public String encode(long userId, String email, long roleBits) {
+        byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + 24 + emailBytes.length + MAC_LENGTH);
+        out.write(VERSION);
+        out.write(activeKeyId);
+        long issuedAt = clock.instant().getEpochSecond();
+        out.write((int) (issuedAt >>> 24));
+        out.write((int) (issuedAt >>> 16));
+        out.write((int) (issuedAt >>> 8));
+        out.write((int) issuedAt);
+        writeVarLong(out, userId);
+        writeVarLong(out, roleBits);
+        writeVarLong(out, emailBytes.length);
+        out.writeBytes(emailBytes);
+
+        byte[] payload = out.toByteArray();
+        byte[] mac = mac(activeKeyId, payload, payload.length);
+        byte[] envelope = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(mac, 0, envelope, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(envelope);
+    }
+
+    /**
+     * Verifies a header value and decodes the identity.
+     *
+     * @param header Header value produced by {@link #encode(long, String, long)}.
+     * @return The verified identity.
+     * @throws IdentityVerificationException if the header is malformed, signed
+     *                                       with an unknown key, forged or
+     *                                       expired.
+     */
+    public IdentityContext verify(String header) {
+        if (header == null || header.isEmpty()) {
+            throw new IdentityVerificationException("Missing identity header");
+        }
+        byte[] envelope;
+        try {
+            envelope = Base64.getUrlDecoder().decode(header);
+        } catch (IllegalArgumentException e) {
+            throw new IdentityVerificationException("Identity header is not base64url", e);
+        }
+        if (envelope.length < HEADER_LENGTH + 3 + MAC_LENGTH) {
+            throw new IdentityVerificationException("Identity header is truncated");
+        }
+        if (envelope[0] != VERSION) {
+            throw new IdentityVerificationException("Unsupported identity header version " + envelope[0]);
+        }
+        int keyId = envelope[1] & 0xFF;
+        if (keys[keyId] == null) {
+            throw new IdentityVerificationException("Unknown identity key " + keyId);
+        }
+
+        int payloadLength = envelope.length - MAC_LENGTH;
+        byte[] expected = mac(keyId, envelope, payloadLength);
+        byte[] actual = Arrays.copyOfRange(envelope, payloadLength, envelope.length);
+        if (!MessageDigest.isEqual(Arrays.copyOf(expected, MAC_LENGTH), actual)) {
+            throw new IdentityVerificationException("Identity header signature mismatch");
+        }
+
+        long issuedAt = ((envelope[2] & 0xFFL) << 24) | ((envelope[3] & 0xFFL) << 16)
+                | ((envelope[4] & 0xFFL) << 8) | (envelope[5] & 0xFFL);
+        long now = clock.instant().getEpochSecond();
+        if (issuedAt > now + CLOCK_SKEW.toSeconds() || now - issuedAt > maxAgeSeconds) {
+            throw new IdentityVerificationException("Identity header expired");
+        }
+
+        int[] position = { HEADER_LENGTH };
+        long userId = readVarLong(envelope, position, payloadLength);
+        long roleBits = readVarLong(envelope, position, payloadLength);
+        long emailLength = readVarLong(envelope, position, payloadLength);
+        if (emailLength != payloadLength - position[0]) {
+            throw new IdentityVerificationException("Identity header has an invalid email length");
+        }
+        String email = new String(envelope, position[0], (int) emailLength, StandardCharsets.UTF_8);
+
+        return new IdentityContext(userId, email, roleBits, Instant.ofEpochSecond(issuedAt));
+    }
+
+    private byte[] mac(int keyId, byte[] data, int length) {
+        Mac[] perThread = macs.get();
+        Mac mac = perThread[keyId];
+        try {
+            if (mac == null) {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(keys[keyId]);
+                perThread[keyId] = mac;
+            }
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] position, int limit) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (position[0] >= limit) {
+                throw new IdentityVerificationException("Identity header is truncated");
+            }
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IdentityVerificationException("Identity header has an invalid varint");
+    }
+}
@@ -0,0 +1,15 @@
+package com.yanis.platform_security.identity;
+
+import java.time.Instant;
+
+/**
+ * Caller identity propagated by the API Gateway to internal services.
+ *
+ * @param userId   Numeric user id, {@code 0} when unknown.
+ * @param email    User email (token subject).
+ * @param roleBits Roles as a bitmask against the shared
+ *                 {@link com.yanis.platform_security.RoleTable}.
+ * @param issuedAt When the gateway issued the header (second precision).
+ */
+public record IdentityContext(long userId, String email, long roleBits, Instant issuedAt) {
+}
@@ -0,0 +1,15 @@
+package com.yanis.platform_security.identity;
+
+/**
+ * Thrown when an identity header is malformed, forged or expired.
+ */
+public class IdentityVerificationException extends RuntimeException {
+
+    public IdentityVerificationException(String message) {
+        super(message);
+    }
+
+    public IdentityVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,63 @@
+package com.yanis.platform_security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RoleTable.
+ */
+@DisplayName("RoleTable Unit Tests")
+class RoleTableTest {
+
+    private final RoleTable table = RoleTable.parse("USER, ADMIN,AUDITOR");
+
+    @Test
+    @DisplayName("encode()/decode() - Round trip in table order")
+    void encodeDecode_RoundTrip() {
+        long bits = table.encode(Set.of("AUDITOR", "USER"));
+
+        assertThat(bits).isEqualTo(0b101L);
+        assertThat(table.decode(bits)).containsExactly("USER", "AUDITOR");
+        assertThat(table.join(bits)).isEqualTo("USER,AUDITOR");
+    }
+
+    @Test
+    @DisplayName("join() - Memoised per bitmask")
+    void join_IsMemoised() {
+        assertThat(table.join(0b11L)).isSameAs(table.join(0b11L));
+    }
+
+    @Test
+    @DisplayName("decode() - Ignores bits unknown to an older table")
+    void decode_IgnoresUnknownBits() {
+        assertThat(table.decode(0b1001L)).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("encode() - Unregistered role - Throws")
+    void encode_UnregisteredRole_Throws() {
+        assertThat(table.canEncode(List.of("USER", "ROOT"))).isFalse();
+        assertThatThrownBy(() -> table.encode(List.of("ROOT")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ROOT");
+    }
+
+    @Test
+    @DisplayName("encodeKnown() - Unregistered role - Ignored")
+    void encodeKnown_UnregisteredRole_Ignored() {
+        assertThat(table.encodeKnown(List.of("ADMIN", "ROOT"))).isEqualTo(0b10L);
+    }
+
+    @Test
+    @DisplayName("parse() - Duplicate role - Throws")
+    void parse_DuplicateRole_Throws() {
+        assertThatThrownBy(() -> RoleTable.parse("USER,USER"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
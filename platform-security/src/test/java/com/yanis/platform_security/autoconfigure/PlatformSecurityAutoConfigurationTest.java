@@ -0,0 +1,55 @@
+package com.yanis.platform_security.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.yanis.platform_security.RoleTable;
+import com.yanis.platform_security.identity.IdentityCodec;
+
+/**
+ * Unit tests for PlatformSecurityAutoConfiguration.
+ */
+@DisplayName("PlatformSecurityAutoConfiguration Unit Tests")
+class PlatformSecurityAutoConfigurationTest {
+
+    private static final String PREVIOUS_KEY = "previous-identity-key-at-least-32-bytes-long";
+    private static final String ACTIVE_KEY = "active-identity-key-at-least-32-bytes-long!!";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PlatformSecurityAutoConfiguration.class))
+            .withPropertyValues("security.identity.keys.1=" + PREVIOUS_KEY, "security.identity.keys.2=" + ACTIVE_KEY);
+
+    @Test
+    @DisplayName("roleTable - Built from security.role-table")
+    void roleTable_BuiltFromProperty() {
+        contextRunner.withPropertyValues("security.role-table=USER,ADMIN,AUDITOR")
+                .run(context -> assertThat(context.getBean(RoleTable.class).roles())
+                        .containsExactly("USER", "ADMIN", "AUDITOR"));
+    }
+
+    @Test
+    @DisplayName("roleTable - Backs off when the service declares its own")
+    void roleTable_BacksOffForUserBean() {
+        RoleTable custom = RoleTable.parse("USER");
+
+        contextRunner.withBean(RoleTable.class, () -> custom)
+                .run(context -> assertThat(context.getBean(RoleTable.class)).isSameAs(custom));
+    }
+
+    @Test
+    @DisplayName("identityCodec - Verifies headers signed with any listed key")
+    void identityCodec_AcceptsEveryListedKey() {
+        contextRunner.withPropertyValues("security.identity.active-key-id=1", "security.identity.max-age=1m")
+                .run(previous -> {
+                    String header = previous.getBean(IdentityCodec.class).encode(42L, "user@example.com", 0b01L);
+
+                    contextRunner.withPropertyValues("security.identity.active-key-id=2")
+                            .run(rotated -> assertThat(rotated.getBean(IdentityCodec.class).verify(header).email())
+                                    .isEqualTo("user@example.com"));
+                });
+    }
+}
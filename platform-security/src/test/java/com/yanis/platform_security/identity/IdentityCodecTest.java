@@ -0,0 +1,95 @@
+package com.yanis.platform_security.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for IdentityCodec.
+ */
+@DisplayName("IdentityCodec Unit Tests")
+class IdentityCodecTest {
+
+    private static final byte[] KEY_1 = "internal-identity-key-1-for-tests-only".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] KEY_2 = "internal-identity-key-2-for-tests-only".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final IdentityCodec codec = new IdentityCodec(Map.of(1, KEY_1), 1, Duration.ofSeconds(30), clock);
+
+    @Test
+    @DisplayName("encode()/verify() - Round trip - Returns identity")
+    void encodeVerify_RoundTrip() {
+        String header = codec.encode(42L, "user@example.com", 0b11L);
+
+        IdentityContext identity = codec.verify(header);
+
+        assertThat(identity.userId()).isEqualTo(42L);
+        assertThat(identity.email()).isEqualTo("user@example.com");
+        assertThat(identity.roleBits()).isEqualTo(0b11L);
+        assertThat(identity.issuedAt()).isEqualTo(NOW);
+        assertThat(header.length()).isLessThan(64);
+    }
+
+    @Test
+    @DisplayName("verify() - Tampered payload - Throws")
+    void verify_TamperedPayload_Throws() {
+        byte[] envelope = Base64.getUrlDecoder().decode(codec.encode(42L, "user@example.com", 0b01L));
+        envelope[7] ^= 0x02; // flip a role bit
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(envelope);
+
+        assertThatThrownBy(() -> codec.verify(forged))
+                .isInstanceOf(IdentityVerificationException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    @DisplayName("verify() - Older than max age - Throws")
+    void verify_Expired_Throws() {
+        String header = codec.encode(42L, "user@example.com", 0b01L);
+        IdentityCodec later = new IdentityCodec(Map.of(1, KEY_1), 1, Duration.ofSeconds(30),
+                Clock.offset(clock, Duration.ofSeconds(31)));
+
+        assertThatThrownBy(() -> later.verify(header))
+                .isInstanceOf(IdentityVerificationException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    @DisplayName("verify() - Previous key still registered - Accepts during rotation")
+    void verify_KeyRotation_AcceptsPreviousKey() {
+        String header = codec.encode(7L, "user@example.com", 0b01L);
+        IdentityCodec rotated = new IdentityCodec(Map.of(1, KEY_1, 2, KEY_2), 2, Duration.ofSeconds(30), clock);
+        IdentityCodec withoutOldKey = new IdentityCodec(Map.of(2, KEY_2), 2, Duration.ofSeconds(30), clock);
+
+        assertThat(rotated.verify(header).userId()).isEqualTo(7L);
+        assertThatThrownBy(() -> withoutOldKey.verify(header))
+                .isInstanceOf(IdentityVerificationException.class)
+                .hasMessageContaining("Unknown identity key");
+    }
+
+    @Test
+    @DisplayName("verify() - Garbage or missing value - Throws")
+    void verify_Garbage_Throws() {
+        assertThatThrownBy(() -> codec.verify(null)).isInstanceOf(IdentityVerificationException.class);
+        assertThatThrownBy(() -> codec.verify("not base64!")).isInstanceOf(IdentityVerificationException.class);
+        assertThatThrownBy(() -> codec.verify("AQE")).isInstanceOf(IdentityVerificationException.class);
+    }
+
+    @Test
+    @DisplayName("IdentityCodec() - Short key - Throws")
+    void constructor_ShortKey_Throws() {
+        assertThatThrownBy(() -> new IdentityCodec(Map.of(1, new byte[16]), 1, Duration.ofSeconds(30), clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# Compares auth-service on platform-thread Tomcat (default) and on virtual
+# threads (profile virtual-threads) under the same login load.
+#
+# Prerequisites: docker compose up (postgres-auth, redis, config-server,
+# eureka-server), `./mvnw -pl auth-service package -DskipTests`, and `hey`
+# (https://github.com/rakyll/hey) on the PATH.
+#
+# Usage: scripts/bench-auth-threads.sh [concurrency levels...]
+#   DURATION=30s CARRIERS=8 scripts/bench-auth-threads.sh 50 200 1000
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/auth-service/target/auth-service-*.jar | grep -v plain | head -n 1)"
+PORT="${PORT:-8081}"
+BASE="http://localhost:${PORT}"
+DURATION="${DURATION:-30s}"
+CARRIERS="${CARRIERS:-$(nproc)}"
+LEVELS=("${@:-50 200 1000}")
+EMAIL="bench-$(date +%s)@example.com"
+PASSWORD="Bench-password-1"
+OUT="${OUT:-$ROOT/auth-service/target/bench-threads}"
+mkdir -p "$OUT"
+
+wait_ready() {
+  for _ in $(seq 1 120); do
+    curl -fs "$BASE/actuator/health" >/dev/null 2>&1 && return 0
+    sleep 1
+  done
+  echo "auth-service did not become healthy" >&2
+  return 1
+}
+
+metric() {
+  curl -fs "$BASE/actuator/metrics/$1${2:+?tag=$2}" \
+    | sed -n 's/.*"statistic":"\(COUNT\|VALUE\)","value":\([0-9.E]*\).*/\2/p' | head -n 1
+}
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  echo "=== $mode ==="
+  java -Djdk.virtualThreadScheduler.parallelism="$CARRIERS" \
+    -Dauth.login-throttle.enabled=false \
+    -jar "$JAR" --spring.profiles.active="$profiles" >"$OUT/$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+  wait_ready
+
+  curl -fs -o /dev/null -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\",\"firstName\":\"Bench\",\"lastName\":\"User\"}" || true
+  local body="{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}"
+
+  # Warm-up: JIT, pool fill, credential cache.
+  hey -z 10s -c 50 -m POST -T application/json -d "$body" "$BASE/auth/login" >/dev/null
+
+  for c in ${LEVELS[@]}; do
+    hey -z "$DURATION" -c "$c" -m POST -T application/json -d "$body" "$BASE/auth/login" \
+      >"$OUT/$mode-c$c.txt"
+    printf '%-16s c=%-5s rps=%-10s p50=%-8s p99=%-8s non-2xx=%s\n' "$mode" "$c" \
+      "$(sed -n 's/ *Requests\/sec: *//p' "$OUT/$mode-c$c.txt")" \
+      "$(sed -n 's/ *50% in \([0-9.]*\).*/\1s/p' "$OUT/$mode-c$c.txt")" \
+      "$(sed -n 's/ *99% in \([0-9.]*\).*/\1s/p' "$OUT/$mode-c$c.txt")" \
+      "$(grep -E '^\s+\[(4|5)[0-9]{2}\]' "$OUT/$mode-c$c.txt" | awk '{s+=$2} END {print s+0}')"
+  done
+
+  echo "jvm.threads.live=$(metric jvm.threads.live) hikaricp.connections.pending.max=$(metric hikaricp.connections.pending)"
+  if [ "$mode" = virtual ]; then
+    echo "auth.virtual-threads.pinned count=$(metric auth.virtual-threads.pinned)"
+    curl -fs "$BASE/actuator/pinning" >"$OUT/pinning.json" && echo "pinned sites: $OUT/pinning.json"
+  fi
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+echo "Raw results in $OUT"
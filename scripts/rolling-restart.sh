@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# Measures the error rate seen through the gateway while auth-service
+# instances are restarted one by one under login load.
+#
+# Prerequisites: docker compose up (postgres-auth, redis, config-server,
+# eureka-server), api-gateway running on $GATEWAY,
+# `./mvnw -pl auth-service package -DskipTests`, and `hey`
+# (https://github.com/rakyll/hey) on the PATH.
+#
+# Usage: scripts/rolling-restart.sh [instances]
+#   DELAY=15s scripts/rolling-restart.sh 3   # graceful drain (default)
+#   DELAY=0s  scripts/rolling-restart.sh 3   # baseline: no propagation delay
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/auth-service/target/auth-service-*.jar | grep -v plain | head -n 1)"
+INSTANCES="${1:-3}"
+FIRST_PORT="${FIRST_PORT:-8081}"
+GATEWAY="${GATEWAY:-http://localhost:8080}"
+EUREKA="${EUREKA:-http://localhost:8761/eureka}"
+DELAY="${DELAY:-15s}"
+CONCURRENCY="${CONCURRENCY:-50}"
+SETTLE="${SETTLE:-10}"
+EMAIL="rolling-$(date +%s)@example.com"
+PASSWORD="Rolling-password-1"
+OUT="${OUT:-$ROOT/auth-service/target/rolling-restart}"
+mkdir -p "$OUT"
+
+declare -A PIDS
+
+up_instances() {
+  curl -fs -H 'Accept: application/json' "$EUREKA/apps/AUTH-SERVICE" 2>/dev/null \
+    | grep -o '"status":"UP"' | wc -l
+}
+
+wait_up() {
+  for _ in $(seq 1 180); do
+    [ "$(up_instances)" -ge "$1" ] && return 0
+    sleep 1
+  done
+  echo "expected $1 auth-service instance(s) UP in Eureka" >&2
+  return 1
+}
+
+start_instance() {
+  local port="$1"
+  SERVER_PORT="$port" java -Dauth.login-throttle.enabled=false \
+    -Dauth.shutdown.propagation-delay="$DELAY" \
+    -jar "$JAR" >>"$OUT/auth-$port.log" 2>&1 &
+  PIDS[$port]=$!
+}
+
+stop_all() {
+  for pid in "${PIDS[@]}"; do kill "$pid" 2>/dev/null || true; done
+  wait 2>/dev/null || true
+}
+trap stop_all EXIT
+
+for i in $(seq 0 $((INSTANCES - 1))); do
+  start_instance $((FIRST_PORT + i))
+done
+wait_up "$INSTANCES"
+
+curl -fs -o /dev/null -X POST "$GATEWAY/api/auth/register" -H 'Content-Type: application/json' \
+  -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\",\"firstName\":\"Rolling\",\"lastName\":\"User\"}" || true
+body="{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}"
+
+# Load for the whole deploy: per instance, drain + restart + warm-up + settle.
+duration=$(( INSTANCES * (${DELAY%s} + 90 + SETTLE) + SETTLE ))
+hey -z "${duration}s" -c "$CONCURRENCY" -m POST -T application/json -d "$body" "$GATEWAY/api/auth/login" \
+  >"$OUT/hey-delay-$DELAY.txt" &
+load=$!
+sleep "$SETTLE"
+
+for i in $(seq 0 $((INSTANCES - 1))); do
+  port=$((FIRST_PORT + i))
+  echo "restarting auth-service on $port"
+  kill -TERM "${PIDS[$port]}"
+  wait "${PIDS[$port]}" 2>/dev/null || true
+  start_instance "$port"
+  wait_up "$INSTANCES"
+  sleep "$SETTLE"
+done
+
+kill -INT "$load" 2>/dev/null || true
+wait "$load" 2>/dev/null || true
+
+report="$OUT/hey-delay-$DELAY.txt"
+total="$(grep -E '^\s+\[[0-9]{3}\]\s+[0-9]+ responses' "$report" | awk '{s+=$2} END {print s+0}')"
+errors="$(grep -E '^\s+\[5[0-9]{2}\]\s+[0-9]+ responses' "$report" | awk '{s+=$2} END {print s+0}')"
+# "Error distribution": requests that got no response at all
+failed="$(grep -E '^\s+\[[0-9]+\]\s+Post' "$report" | sed 's/^ *\[\([0-9]*\)\].*/\1/' \
+  | awk '{s+=$1} END {print s+0}')"
+total=$((total + failed))
+printf 'delay=%-5s requests=%-8s 5xx=%-6s transport-errors=%-6s error-rate=%s%%\n' "$DELAY" "$total" \
+  "$errors" "$failed" "$(awk -v e="$((errors + failed))" -v t="$total" 'BEGIN {printf "%.3f", t ? 100 * e / t : 0}')"
+echo "gateway.upstream.quarantined: $(curl -fs "$GATEWAY/actuator/metrics/gateway.upstream.quarantined" \
+  | sed -n 's/.*"statistic":"COUNT","value":\([0-9.E]*\).*/\1/p')"
+echo "Raw results in $OUT"